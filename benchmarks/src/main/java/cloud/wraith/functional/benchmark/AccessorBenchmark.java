@@ -0,0 +1,78 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Optional-returning accessors against fold, rightOrNull and equals.
+ * The Optional variants show whether escape analysis removed the temporary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AccessorBenchmark {
+    private final Function<String, Integer> onLeft = String::length;
+    private final Function<Integer, Integer> onRight = x -> x;
+
+    private Either<String, Integer> right;
+    private Either<String, Integer> otherRight;
+    private Either<String, Integer> left;
+
+    @Setup
+    public void setUp() {
+        right = Either.right(1000);
+        otherRight = Either.right(1000);
+        left = Either.left("error");
+    }
+
+    @Benchmark
+    public int optionalGetRight() {
+        return right.get().orElse(-1);
+    }
+
+    @Benchmark
+    public int optionalGetLeft() {
+        return left.getLeft().map(String::length).orElse(-1);
+    }
+
+    @Benchmark
+    public int foldRight() {
+        return right.fold(onLeft, onRight);
+    }
+
+    @Benchmark
+    public int foldLeft() {
+        return left.fold(onLeft, onRight);
+    }
+
+    @Benchmark
+    public Integer rightOrNull() {
+        return right.rightOrNull();
+    }
+
+    @Benchmark
+    public boolean equalsRight() {
+        return right.equals(otherRight);
+    }
+
+    @Benchmark
+    public boolean equalsLeft() {
+        return left.equals(right);
+    }
+}
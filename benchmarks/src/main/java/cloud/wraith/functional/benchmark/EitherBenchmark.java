@@ -0,0 +1,162 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Left and Right paths of every Either combinator, with exception and Optional baselines.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EitherBenchmark {
+    private static final String ERROR = "error";
+
+    // add :: a -> a -> a
+    private final Function<Integer, Function<Integer, Integer>> add = x -> y -> x + y;
+    private final Function<Integer, Integer> increment = x -> x + 1;
+    private final Function<Integer, Either<String, ? extends Integer>> incrementM = x -> Either.right(x + 1);
+
+    private int value;
+    private Either<String, Integer> right;
+    private Either<String, Integer> left;
+    private Either<String, Function<Integer, Integer>> rightFunction;
+    private Either<String, Function<Integer, Integer>> leftFunction;
+    private Either<String, Function<? super Integer, ? extends Integer>> rightFunctionWildcard;
+    private Either<String, Function<? super Integer, ? extends Integer>> leftFunctionWildcard;
+    private Optional<Integer> present;
+    private Optional<Integer> empty;
+
+    @Setup
+    public void setUp() {
+        value = 1000;
+        right = Either.right(value);
+        left = Either.left(ERROR);
+        rightFunction = Either.right(increment);
+        leftFunction = Either.left(ERROR);
+        rightFunctionWildcard = Either.right(increment);
+        leftFunctionWildcard = Either.left(ERROR);
+        present = Optional.of(value);
+        empty = Optional.empty();
+    }
+
+    @Benchmark
+    public Either<String, Integer> mapRight() {
+        return right.map(increment);
+    }
+
+    @Benchmark
+    public Either<String, Integer> mapLeft() {
+        return left.map(increment);
+    }
+
+    @Benchmark
+    public Either<String, ? extends Integer> bindRight() {
+        return right.bind(incrementM);
+    }
+
+    @Benchmark
+    public Either<String, ? extends Integer> bindLeft() {
+        return left.bind(incrementM);
+    }
+
+    @Benchmark
+    public Either<String, Integer> applyRight() {
+        return rightFunction.apply(right);
+    }
+
+    @Benchmark
+    public Either<String, Integer> applyLeft() {
+        return leftFunction.apply(right);
+    }
+
+    @Benchmark
+    public Either<String, Integer> fapplyRight() {
+        return Either.fapply(rightFunctionWildcard, right);
+    }
+
+    @Benchmark
+    public Either<String, Integer> fapplyLeft() {
+        return Either.fapply(leftFunctionWildcard, right);
+    }
+
+    @Benchmark
+    public Either<String, Integer> curriedAddRight() {
+        return Either.<String, Function<Integer, Function<Integer, Integer>>>pure(add).<Function<Integer, Integer>, Integer>ap(right)
+            .ap(right);
+    }
+
+    @Benchmark
+    public Either<String, Integer> curriedAddLeft() {
+        return Either.<String, Function<Integer, Function<Integer, Integer>>>pure(add).<Function<Integer, Integer>, Integer>ap(right)
+            .ap(left);
+    }
+
+    /**
+     * Baseline: the same increment signalled by throwing on failure.
+     */
+    @Benchmark
+    public int exceptionSuccess() {
+        try {
+            return incrementOrThrow(value, false);
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Baseline: the failure path of a throwing increment.
+     */
+    @Benchmark
+    public int exceptionFailure() {
+        try {
+            return incrementOrThrow(value, true);
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMapPresent() {
+        return present.map(increment);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMapEmpty() {
+        return empty.map(increment);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalFlatMapPresent() {
+        return present.flatMap(x -> Optional.of(x + 1));
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalFlatMapEmpty() {
+        return empty.flatMap(x -> Optional.of(x + 1));
+    }
+
+    private static int incrementOrThrow(final int x, final boolean fail) {
+        if (fail) {
+            throw new IllegalStateException(ERROR);
+        }
+        return x + 1;
+    }
+}
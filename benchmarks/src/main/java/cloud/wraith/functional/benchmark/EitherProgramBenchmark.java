@@ -0,0 +1,72 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+import cloud.wraith.functional.EitherProgram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A 1000-step bind chain run directly with Either.bind and through the EitherProgram interpreter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EitherProgramBenchmark {
+    private static final int STEPS = 1000;
+
+    private final Function<Integer, Either<String, ? extends Integer>> increment = x -> Either.right(x + 1);
+    private final Function<Integer, Either<String, Integer>> incrementProgram = x -> Either.right(x + 1);
+
+    private EitherProgram<String, Integer> prebuilt;
+
+    @Setup
+    public void setUp() {
+        prebuilt = build();
+    }
+
+    private EitherProgram<String, Integer> build() {
+        EitherProgram<String, Integer> program = EitherProgram.right(0);
+        for (int i = 0; i < STEPS; i++) {
+            program = program.bindEither(incrementProgram);
+        }
+        return program;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Either<String, Integer> direct() {
+        Either<String, Integer> result = Either.right(0);
+        for (int i = 0; i < STEPS; i++) {
+            result = (Either<String, Integer>) result.bind(increment);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Either<String, Integer> trampolined() {
+        return build().run();
+    }
+
+    /**
+     * Interpretation only; a program is immutable and can be run many times.
+     */
+    @Benchmark
+    public Either<String, Integer> trampolinedRunOnly() {
+        return prebuilt.run();
+    }
+}
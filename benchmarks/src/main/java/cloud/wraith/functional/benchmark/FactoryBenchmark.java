@@ -0,0 +1,67 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Either.right and Either.left for canonical constants against ordinary payloads, and hashCode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FactoryBenchmark {
+    private Boolean flag;
+    private Integer small;
+    private Integer large;
+    private TimeUnit constant;
+    private Either<String, String> right;
+
+    @Setup
+    public void setUp() {
+        flag = Boolean.TRUE;
+        small = 42;
+        large = 100_000;
+        constant = TimeUnit.SECONDS;
+        right = Either.right("hello, world");
+    }
+
+    @Benchmark
+    public Either<String, Boolean> rightBoolean() {
+        return Either.right(flag);
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightSmallInteger() {
+        return Either.right(small);
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightLargeInteger() {
+        return Either.right(large);
+    }
+
+    @Benchmark
+    public Either<TimeUnit, String> leftEnum() {
+        return Either.left(constant);
+    }
+
+    @Benchmark
+    public int hashCodeRight() {
+        return right.hashCode();
+    }
+}
@@ -0,0 +1,69 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A Left pushed through a 20-stage pipeline; gc.alloc.rate.norm should not grow with the stage count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LeftPropagationBenchmark {
+    private static final int STAGES = 20;
+
+    private final Function<Integer, Integer> increment = x -> x + 1;
+    private final Function<Integer, Either<String, ? extends Integer>> incrementM = x -> Either.right(x + 1);
+    private final Either<String, Function<Integer, Integer>> incrementA = Either.right(increment);
+
+    private Either<String, Integer> left;
+
+    @Setup
+    public void setUp() {
+        left = Either.left("error");
+    }
+
+    @Benchmark
+    public Either<String, Integer> map20() {
+        Either<String, Integer> result = left;
+        for (int i = 0; i < STAGES; i++) {
+            result = result.map(increment);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Either<String, Integer> bind20() {
+        Either<String, Integer> result = left;
+        for (int i = 0; i < STAGES; i++) {
+            result = (Either<String, Integer>) result.bind(incrementM);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Either<String, Integer> apply20() {
+        Either<String, Integer> result = left;
+        for (int i = 0; i < STAGES; i++) {
+            result = incrementA.apply(result);
+        }
+        return result;
+    }
+}
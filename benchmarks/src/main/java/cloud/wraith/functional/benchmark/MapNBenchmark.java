@@ -0,0 +1,64 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+import cloud.wraith.functional.Function6;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validating a six-field record: curried pure(f).ap(a)...ap(f) against map6.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MapNBenchmark {
+    private final Function<Integer, Function<Integer, Function<Integer, Function<Integer, Function<Integer, Function<Integer, Integer>>>>>>
+        sumCurried = a -> b -> c -> d -> e -> f -> a + b + c + d + e + f;
+    private final Function6<Integer, Integer, Integer, Integer, Integer, Integer, Integer> sum
+        = (a, b, c, d, e, f) -> a + b + c + d + e + f;
+
+    private Either<String, Integer> field;
+    private Either<String, Integer> invalid;
+
+    @Setup
+    public void setUp() {
+        field = Either.right(1000);
+        invalid = Either.left("invalid");
+    }
+
+    @Benchmark
+    public Either<String, Integer> curried6() {
+        return Either.<String, Function<Integer, Function<Integer, Function<Integer, Function<Integer, Function<Integer, Function<Integer, Integer>>>>>>>pure(sumCurried)
+            .<Function<Integer, Function<Integer, Function<Integer, Function<Integer, Function<Integer, Integer>>>>>, Integer>ap(field)
+            .<Function<Integer, Function<Integer, Function<Integer, Function<Integer, Integer>>>>, Integer>ap(field)
+            .<Function<Integer, Function<Integer, Function<Integer, Integer>>>, Integer>ap(field)
+            .<Function<Integer, Function<Integer, Integer>>, Integer>ap(field)
+            .<Function<Integer, Integer>, Integer>ap(field)
+            .ap(field);
+    }
+
+    @Benchmark
+    public Either<String, Integer> map6() {
+        return Either.map6(field, field, field, field, field, field, sum);
+    }
+
+    @Benchmark
+    public Either<String, Integer> map6Left() {
+        return Either.map6(field, field, field, field, field, invalid, sum);
+    }
+}
@@ -0,0 +1,95 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+import cloud.wraith.functional.EitherPipeline;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A four-bind, eight-map chain written by hand with Either.map/bind and built as an EitherPipeline.
+ * Each bind stage is a distinct lambda, so the hand-written chain's call sites see several receivers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+    private final Function<Integer, Either<String, ? extends Integer>> positive = x -> x >= 0 ? Either.right(x) : Either.left("negative");
+    private final Function<Integer, Either<String, ? extends Integer>> small = x -> x < 1_000_000 ? Either.right(x) : Either.left("too big");
+    private final Function<Integer, Either<String, ? extends Integer>> even = x -> (x & 1) == 0 ? Either.right(x) : Either.left("odd");
+    private final Function<Integer, Either<String, ? extends Integer>> nonZero = x -> x != 0 ? Either.right(x) : Either.left("zero");
+    private final Function<Integer, Integer> plusOne = x -> x + 1;
+    private final Function<Integer, Integer> twice = x -> x * 2;
+
+    /**
+     * The argument decides where the chain stops and what it allocates: 10 runs every stage within the
+     * canonical small-Integer Rights, 1000 runs every stage beyond them, and -10 fails at the first.
+     */
+    @Param({"10", "1000", "-10"})
+    public int input;
+
+    /**
+     * Whether to first run other chains through Either.map and Either.bind, as a service with many
+     * chains would, so that their call sites no longer see only this benchmark's lambdas.
+     */
+    @Param({"false", "true"})
+    public boolean polluted;
+
+    private Function<Integer, Either<String, ? extends Integer>> handWritten;
+    private EitherPipeline<String, Integer, Integer> pipeline;
+
+    @Setup
+    public void setUp() {
+        if (polluted) {
+            final List<Function<Integer, Integer>> maps = Arrays.<Function<Integer, Integer>>asList(
+                x -> x - 1, x -> x * 3, x -> x ^ 5, x -> x / 2, x -> -x, x -> x + 7, x -> x % 97, x -> x << 1);
+            final List<Function<Integer, Either<String, ? extends Integer>>> binds = Arrays.<Function<Integer, Either<String, ? extends Integer>>>asList(
+                x -> Either.right(x), x -> Either.right(x + 1), x -> x > 3 ? Either.right(x) : Either.left("a"),
+                x -> x < 3 ? Either.right(x) : Either.left("b"), x -> Either.right(x - 1), x -> Either.right(-x));
+            for (int i = 0; i < 200_000; i++) {
+                final Function<Integer, Integer> map = maps.get(i % maps.size());
+                final Function<Integer, Either<String, ? extends Integer>> bind = binds.get(i % binds.size());
+                final Either<String, Integer> either = Either.right(i);
+                either.map(map).bind(bind);
+                EitherPipeline.<String, Integer>identity().map(map).bind(bind).apply(i);
+            }
+        }
+
+        handWritten = a -> positive.apply(a).map(plusOne).map(twice)
+            .bind(small).map(plusOne).map(twice)
+            .bind(even).map(plusOne).map(twice)
+            .bind(nonZero).map(plusOne).map(twice);
+
+        pipeline = EitherPipeline.<String, Integer, Integer>of(positive).map(plusOne).map(twice)
+            .bind(small).map(plusOne).map(twice)
+            .bind(even).map(plusOne).map(twice)
+            .bind(nonZero).map(plusOne).map(twice);
+    }
+
+    @Benchmark
+    public Either<String, ? extends Integer> handWritten() {
+        return handWritten.apply(input);
+    }
+
+    @Benchmark
+    public Either<String, Integer> pipeline() {
+        return pipeline.apply(input);
+    }
+}
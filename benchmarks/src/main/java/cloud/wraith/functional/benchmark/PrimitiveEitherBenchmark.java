@@ -0,0 +1,79 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+import cloud.wraith.functional.IntEither;
+import cloud.wraith.functional.PackedEither;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Boxed Either&lt;String, Integer&gt; against IntEither&lt;String&gt; and PackedEither for an arithmetic map/bind chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PrimitiveEitherBenchmark {
+    private static final int STAGES = 10;
+    private static final int NEGATIVE = 1;
+
+    private final Function<Integer, Integer> addBoxed = x -> x + 1000;
+    private final Function<Integer, Either<String, ? extends Integer>> checkBoxed
+        = x -> x >= 0 ? Either.right(x * 3) : Either.left("negative");
+    private final IntUnaryOperator addInt = x -> x + 1000;
+    private final IntFunction<IntEither<String>> checkInt = x -> x >= 0 ? IntEither.right(x * 3) : IntEither.left("negative");
+    private final LongUnaryOperator addPacked = x -> x + 1000;
+    private final LongUnaryOperator checkPacked = x -> x >= 0 ? PackedEither.right(x * 3) : PackedEither.left(NEGATIVE);
+
+    private int value;
+
+    @Setup
+    public void setUp() {
+        value = 1000;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int boxed() {
+        Either<String, Integer> result = Either.right(value);
+        for (int i = 0; i < STAGES; i++) {
+            result = (Either<String, Integer>) result.map(addBoxed).bind(checkBoxed);
+        }
+        return result.getOrElse(-1);
+    }
+
+    @Benchmark
+    public int primitive() {
+        IntEither<String> result = IntEither.right(value);
+        for (int i = 0; i < STAGES; i++) {
+            result = result.map(addInt).bind(checkInt);
+        }
+        return result.getOrElse(-1);
+    }
+
+    @Benchmark
+    public long packed() {
+        long result = PackedEither.right(value);
+        for (int i = 0; i < STAGES; i++) {
+            result = PackedEither.bind(PackedEither.map(result, addPacked), checkPacked);
+        }
+        return PackedEither.getOrElse(result, -1L);
+    }
+}
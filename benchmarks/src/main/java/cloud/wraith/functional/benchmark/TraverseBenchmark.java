@@ -0,0 +1,75 @@
+package cloud.wraith.functional.benchmark;
+
+import cloud.wraith.functional.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Sequential against fork-join traverse of a CPU-bound validation, with and without an early Left.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TraverseBenchmark {
+    private static final long WORK = 200;
+
+    @Param({"100000"})
+    private int size;
+
+    private final Function<Integer, Either<String, Integer>> validate = x -> {
+        Blackhole.consumeCPU(WORK);
+        return x >= 0 ? Either.right(x) : Either.left("negative");
+    };
+
+    private List<Integer> valid;
+    private List<Integer> earlyInvalid;
+
+    @Setup
+    public void setUp() {
+        valid = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            valid.add(i);
+        }
+        earlyInvalid = new ArrayList<Integer>(valid);
+        earlyInvalid.set(size / 100, -1);
+    }
+
+    @Benchmark
+    public Either<String, List<Integer>> sequential() {
+        return Either.traverse(valid, validate);
+    }
+
+    @Benchmark
+    public Either<String, List<Integer>> parallel() {
+        return Either.parallelTraverse(valid, validate);
+    }
+
+    @Benchmark
+    public Either<String, List<Integer>> sequentialEarlyLeft() {
+        return Either.traverse(earlyInvalid, validate);
+    }
+
+    @Benchmark
+    public Either<String, List<Integer>> parallelEarlyLeft() {
+        return Either.parallelTraverse(earlyInvalid, validate);
+    }
+}
@@ -0,0 +1,196 @@
+package cloud.wraith.functional;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The Left side shared by every EitherBatch: which positions are Lefts, and their values.
+ *
+ * <p>A bit per position marks the Lefts. Their values are kept densely, in position order, in
+ * a side table, so a batch that is mostly Rights pays one bit per Right for its Lefts. Batches
+ * produced by map share this side table with their source instead of copying it.
+ *
+ * @param <L> The left-hand type
+ */
+abstract class AbstractEitherBatch<L> {
+    final int size;
+    final long[] tags;
+    final int[] leftIndexes;
+    final Object[] leftValues;
+    final int leftCount;
+
+    AbstractEitherBatch(final int size, final long[] tags, final int[] leftIndexes, final Object[] leftValues, final int leftCount) {
+        this.size = size;
+        this.tags = tags;
+        this.leftIndexes = leftIndexes;
+        this.leftValues = leftValues;
+        this.leftCount = leftCount;
+    }
+
+    AbstractEitherBatch(final AbstractEitherBatch<L> shape) {
+        this(shape.size, shape.tags, shape.leftIndexes, shape.leftValues, shape.leftCount);
+    }
+
+    AbstractEitherBatch(final Lefts<L> lefts, final int size) {
+        this(size, lefts.tags, lefts.indexes, lefts.values, lefts.count);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isLeft(final int index) {
+        Objects.checkIndex(index, size);
+        return isTagged(tags, index);
+    }
+
+    public boolean isRight(final int index) {
+        return !isLeft(index);
+    }
+
+    public int countLeft() {
+        return leftCount;
+    }
+
+    public int countRight() {
+        return size - leftCount;
+    }
+
+    /**
+     * The left-hand value at the position; a binary search of the Left side table.
+     *
+     * @param index The position
+     * @return The left-hand value, or null if the position holds a Right
+     */
+    @SuppressWarnings("unchecked")
+    public L leftOrNull(final int index) {
+        if (!isLeft(index)) {
+            return null;
+        }
+        return (L) leftValues[Arrays.binarySearch(leftIndexes, 0, leftCount, index)];
+    }
+
+    static boolean isTagged(final long[] tags, final int index) {
+        return (tags[index >>> 6] & 1L << index) != 0L;
+    }
+
+    static int words(final int size) {
+        return (size + 63) >>> 6;
+    }
+
+    static int grow(final int capacity) {
+        return Math.max(16, capacity + (capacity >> 1));
+    }
+
+    /**
+     * Growable Left side for building batches.
+     */
+    static final class Lefts<L> {
+        private long[] tags;
+        private int[] indexes = new int[0];
+        private Object[] values = new Object[0];
+        private int count;
+
+        Lefts(final int capacity) {
+            this.tags = new long[words(capacity)];
+        }
+
+        void add(final int index, final L value) {
+            Objects.requireNonNull(value);
+            if (index >>> 6 >= tags.length) {
+                tags = Arrays.copyOf(tags, Math.max(words(index + 1), tags.length * 2));
+            }
+            tags[index >>> 6] |= 1L << index;
+            if (count == indexes.length) {
+                indexes = Arrays.copyOf(indexes, grow(count));
+                values = Arrays.copyOf(values, indexes.length);
+            }
+            indexes[count] = index;
+            values[count++] = value;
+        }
+
+        /**
+         * Size the tags for the final batch, which the tag scan relies on.
+         */
+        Lefts<L> fit(final int size) {
+            if (tags.length != words(size)) {
+                tags = Arrays.copyOf(tags, words(size));
+            }
+            return this;
+        }
+
+        /**
+         * A trimmed copy, so that a builder can carry on after build().
+         */
+        Lefts<L> copy() {
+            final Lefts<L> copy = new Lefts<L>(0);
+            copy.tags = tags.clone();
+            copy.indexes = Arrays.copyOf(indexes, count);
+            copy.values = Arrays.copyOf(values, count);
+            copy.count = count;
+            return copy;
+        }
+    }
+
+    /**
+     * A flyweight view of one position at a time; next() moves it on and nothing is allocated.
+     * The Left side table is read in order, so left() needs no search.
+     */
+    abstract static class BaseCursor<L> {
+        private final AbstractEitherBatch<L> batch;
+        int index = -1;
+        private int leftOrdinal = -1;
+        private boolean left;
+
+        BaseCursor(final AbstractEitherBatch<L> batch) {
+            this.batch = batch;
+        }
+
+        /**
+         * Move to the next position.
+         *
+         * @return false once past the last position
+         */
+        public boolean next() {
+            if (index + 1 >= batch.size) {
+                index = batch.size;
+                return false;
+            }
+            left = isTagged(batch.tags, ++index);
+            if (left) {
+                leftOrdinal++;
+            }
+            return true;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public boolean isLeft() {
+            return left;
+        }
+
+        public boolean isRight() {
+            return !left;
+        }
+
+        /**
+         * The left-hand value at the current position.
+         *
+         * @throws NoSuchElementException If the position holds a Right
+         */
+        @SuppressWarnings("unchecked")
+        public L left() {
+            checkSide(true);
+            return (L) batch.leftValues[leftOrdinal];
+        }
+
+        void checkSide(final boolean wantLeft) {
+            if (index < 0 || index >= batch.size || left != wantLeft) {
+                throw new NoSuchElementException(String.format("No %s at position %d", wantLeft ? "Left" : "Right", index));
+            }
+        }
+    }
+}
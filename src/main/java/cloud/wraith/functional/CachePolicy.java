@@ -0,0 +1,123 @@
+package cloud.wraith.functional;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounds and expiry for one side of an EitherMemo cache.
+ *
+ * <p>Policies are immutable; the with-style methods return a new policy.
+ *
+ * <p>{@code CachePolicy.maximumSize(10_000).expireAfterWrite(Duration.ofMinutes(5))}
+ */
+public final class CachePolicy {
+    private static final CachePolicy DISABLED = new CachePolicy(0L, null, 0L, System::nanoTime);
+    private static final ToLongFunction<Either<?, ?>> UNIT_WEIGHT = either -> 1L;
+
+    private final long maximumWeight;
+    private final ToLongFunction<? super Either<?, ?>> weigher;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    private CachePolicy(final long maximumWeight, final ToLongFunction<? super Either<?, ?>> weigher,
+            final long expireAfterWriteNanos, final LongSupplier ticker) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Cache nothing; every call goes to the function.
+     *
+     * @return The disabled policy
+     */
+    public static CachePolicy disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Keep at most this many entries.
+     *
+     * @param maximumSize The maximum number of entries; must be positive
+     * @return The policy
+     */
+    public static CachePolicy maximumSize(final long maximumSize) {
+        return maximumWeight(maximumSize, UNIT_WEIGHT);
+    }
+
+    /**
+     * Keep entries up to a total weight.
+     *
+     * @param maximumWeight The maximum total weight; must be positive
+     * @param weigher       The weight of a cached result; must be positive, so every entry counts against the maximum
+     * @return The policy
+     */
+    public static CachePolicy maximumWeight(final long maximumWeight, final ToLongFunction<? super Either<?, ?>> weigher) {
+        Objects.requireNonNull(weigher);
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException(String.format("Maximum weight of %d should be >= 1", maximumWeight));
+        }
+        return new CachePolicy(maximumWeight, weigher, 0L, System::nanoTime);
+    }
+
+    /**
+     * Expire entries a fixed time after they were written.
+     *
+     * @param duration The time to live; must be positive
+     * @return A new policy with the expiry
+     */
+    public CachePolicy expireAfterWrite(final Duration duration) {
+        Objects.requireNonNull(duration);
+        if (isDisabled()) {
+            throw new IllegalStateException("A disabled policy cannot expire entries");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(String.format("Duration of %s should be positive", duration));
+        }
+        return new CachePolicy(maximumWeight, weigher, duration.toNanos(), ticker);
+    }
+
+    /**
+     * Replace the clock used for expiry; for tests.
+     */
+    CachePolicy withTicker(final LongSupplier nanoTicker) {
+        return new CachePolicy(maximumWeight, weigher, expireAfterWriteNanos, Objects.requireNonNull(nanoTicker));
+    }
+
+    boolean isDisabled() {
+        return maximumWeight == 0L;
+    }
+
+    long maximumWeight() {
+        return maximumWeight;
+    }
+
+    long weigh(final Either<?, ?> either) {
+        final long weight = weigher.applyAsLong(either);
+        if (weight < 1) {
+            throw new IllegalArgumentException(String.format("Weight of %d should be >= 1", weight));
+        }
+        return weight;
+    }
+
+    long expireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    long now() {
+        return ticker.getAsLong();
+    }
+
+    @Override
+    public String toString() {
+        if (isDisabled()) {
+            return "CachePolicy.disabled";
+        }
+        return expireAfterWriteNanos == 0L
+            ? String.format("CachePolicy[maximumWeight=%d]", maximumWeight)
+            : String.format("CachePolicy[maximumWeight=%d, expireAfterWrite=%s]", maximumWeight, Duration.ofNanos(expireAfterWriteNanos));
+    }
+}
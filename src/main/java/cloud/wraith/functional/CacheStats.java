@@ -0,0 +1,50 @@
+package cloud.wraith.functional;
+
+/**
+ * Point-in-time counters of an EitherMemo cache.
+ */
+public final class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+
+    CacheStats(final long hits, final long misses, final long evictions, final long expirations) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Entries removed to stay within the maximum weight.
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Entries removed because they outlived expireAfterWrite.
+     */
+    public long expirations() {
+        return expirations;
+    }
+
+    public double hitRate() {
+        final long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStats[hits=%d, misses=%d, evictions=%d, expirations=%d]", hits, misses, evictions, expirations);
+    }
+}
@@ -0,0 +1,335 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Either specialised for a primitive double right-hand value.
+ *
+ * <p>Behaves like Either&lt;L,&nbsp;Double&gt; but keeps the right-hand value unboxed,
+ * and maps and binds with primitive functions so arithmetic pipelines do not box.
+ */
+public abstract class DoubleEither<L> {
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private DoubleEither() {
+    }
+
+    public static <L> DoubleEither<L> left(final L value) {
+        Objects.requireNonNull(value);
+        return Left.of(value);
+    }
+
+    public static <L> DoubleEither<L> right(final double value) {
+        return Right.of(value);
+    }
+
+    /**
+     * Convert a boxed Either into the primitive specialisation.
+     *
+     * @param <L>    The left-hand type
+     * @param either The source Either&lt;L,&nbsp;Double&gt;
+     * @return The equivalent DoubleEither&lt;L&gt;
+     */
+    public static <L> DoubleEither<L> fromEither(final Either<L, Double> either) {
+        Objects.requireNonNull(either);
+
+        return either.isLeft() ? left(either.leftOrNull()) : right(either.rightOrNull());
+    }
+
+    public abstract boolean isLeft();
+
+    public abstract boolean isRight();
+
+    public abstract OptionalDouble get();
+
+    public abstract double getOrElse(final double defaultValue);
+
+    public abstract double getOrElse(DoubleSupplier supplier);
+
+    public abstract Optional<L> getLeft();
+
+    public abstract L getLeftOrElse(final L defaultValue);
+
+    public abstract L getLeftOrElse(Supplier<? extends L> supplier);
+
+    /**
+     * The left-hand value, or null for a Right.
+     */
+    abstract L leftOrNull();
+
+    /**
+     * The right-hand value, or zero for a Left.
+     */
+    abstract double rightValue();
+
+    /**
+     * Map function over the unboxed right-hand value.
+     *
+     * @param fxn The mapping function
+     * @return The result DoubleEither&lt;L&gt;
+     */
+    public abstract DoubleEither<L> map(DoubleUnaryOperator fxn);
+
+    /**
+     * Map function from the unboxed right-hand value into a reference type.
+     *
+     * @param <B> The right-hand type of the result Either
+     * @param fxn The mapping function
+     * @return The result Either&lt;L,&nbsp;B&gt;
+     */
+    public abstract <B> Either<L, B> mapToObj(DoubleFunction<? extends B> fxn);
+
+    /**
+     * Bind function over the unboxed right-hand value.
+     *
+     * @param fxn The mapping function; maps the right-hand value to a DoubleEither&lt;L&gt;
+     * @return The result DoubleEither&lt;L&gt;
+     */
+    public abstract DoubleEither<L> bind(DoubleFunction<DoubleEither<L>> fxn);
+
+    /**
+     * Convert into the boxed Either.
+     *
+     * @return The equivalent Either&lt;L,&nbsp;Double&gt;
+     */
+    public abstract Either<L, Double> toEither();
+
+    /**
+     * Left implementation of DoubleEither.
+     */
+    static final class Left<L> extends DoubleEither<L> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final L value;
+
+        private Left(final L value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        private static <L> Left<L> of(final L value) {
+            return new Left<L>(value);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public OptionalDouble get() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public double getOrElse(final double defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier supplier) {
+            return Objects.requireNonNull(supplier).getAsDouble();
+        }
+
+        @Override
+        public Optional<L> getLeft() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public L getLeftOrElse(final L defaultValue) {
+            return value;
+        }
+
+        @Override
+        public L getLeftOrElse(Supplier<? extends L> supplier) {
+            return value;
+        }
+
+        @Override
+        L leftOrNull() {
+            return value;
+        }
+
+        @Override
+        double rightValue() {
+            return 0.0;
+        }
+
+        @Override
+        public DoubleEither<L> map(DoubleUnaryOperator fxn) {
+            return this;
+        }
+
+        @Override
+        public <B> Either<L, B> mapToObj(DoubleFunction<? extends B> fxn) {
+            return Either.left(value);
+        }
+
+        @Override
+        public DoubleEither<L> bind(DoubleFunction<DoubleEither<L>> fxn) {
+            return this;
+        }
+
+        @Override
+        public Either<L, Double> toEither() {
+            return Either.left(value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("DoubleEither.left[%s]", value.toString());
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Left)) {
+                return false;
+            }
+
+            return Objects.equals(value, ((Left<?>) obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+    }
+
+    /**
+     * Right implementation of DoubleEither.
+     */
+    static final class Right<L> extends DoubleEither<L> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final double value;
+
+        private Right(final double value) {
+            this.value = value;
+        }
+
+        private static <L> Right<L> of(final double value) {
+            return new Right<L>(value);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public OptionalDouble get() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public double getOrElse(final double defaultValue) {
+            return value;
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier supplier) {
+            return value;
+        }
+
+        @Override
+        public Optional<L> getLeft() {
+            return Optional.empty();
+        }
+
+        @Override
+        public L getLeftOrElse(final L defaultValue) {
+            return Objects.requireNonNull(defaultValue);
+        }
+
+        @Override
+        public L getLeftOrElse(Supplier<? extends L> supplier) {
+            return Objects.requireNonNull(supplier).get();
+        }
+
+        @Override
+        L leftOrNull() {
+            return null;
+        }
+
+        @Override
+        double rightValue() {
+            return value;
+        }
+
+        @Override
+        public DoubleEither<L> map(DoubleUnaryOperator fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Right.of(fxn.applyAsDouble(value));
+        }
+
+        @Override
+        public <B> Either<L, B> mapToObj(DoubleFunction<? extends B> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Either.right(fxn.apply(value));
+        }
+
+        @Override
+        public DoubleEither<L> bind(DoubleFunction<DoubleEither<L>> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return fxn.apply(value);
+        }
+
+        @Override
+        public Either<L, Double> toEither() {
+            return Either.right(value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("DoubleEither.right[%s]", Double.toString(value));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Right)) {
+                return false;
+            }
+
+            return Double.compare(value, ((Right<?>) obj).value) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,240 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * EitherBatch specialised for primitive double right-hand values, which are kept unboxed in a double[].
+ *
+ * @param <L> The left-hand type
+ */
+public final class DoubleEitherBatch<L> extends AbstractEitherBatch<L> {
+    private final double[] rights;
+
+    private DoubleEitherBatch(final Lefts<L> lefts, final double[] rights, final int size) {
+        super(lefts.fit(size), size);
+        this.rights = rights;
+    }
+
+    DoubleEitherBatch(final AbstractEitherBatch<L> shape, final double[] rights) {
+        super(shape);
+        this.rights = rights;
+    }
+
+    public static <L> DoubleEitherBatch<L> of(final List<DoubleEither<L>> eithers) {
+        Objects.requireNonNull(eithers);
+
+        final Builder<L> builder = new Builder<L>(eithers.size());
+        for (final DoubleEither<L> either : eithers) {
+            builder.add(either);
+        }
+        return builder.build();
+    }
+
+    public static <L> Builder<L> builder() {
+        return new Builder<L>(16);
+    }
+
+    /**
+     * The right-hand value at the position.
+     *
+     * @throws NoSuchElementException If the position holds a Left
+     */
+    public double getRight(final int index) {
+        if (isLeft(index)) {
+            throw new NoSuchElementException(String.format("No Right at position %d", index));
+        }
+        return rights[index];
+    }
+
+    /**
+     * Materialise the DoubleEither at the position.
+     */
+    public DoubleEither<L> get(final int index) {
+        return isLeft(index) ? DoubleEither.<L>left(leftOrNull(index)) : DoubleEither.<L>right(rights[index]);
+    }
+
+    /**
+     * Map every right-hand value. The result shares this batch's Left side.
+     *
+     * @param fxn The mapping function
+     * @return The result DoubleEitherBatch&lt;L&gt;
+     */
+    public DoubleEitherBatch<L> map(final DoubleUnaryOperator fxn) {
+        Objects.requireNonNull(fxn);
+
+        final double[] mapped = new double[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = fxn.applyAsDouble(rights[i]);
+            }
+        }
+        return new DoubleEitherBatch<L>(this, mapped);
+    }
+
+    /**
+     * Map every right-hand value to an object. The result shares this batch's Left side.
+     *
+     * @param <B> The right-hand type of the result
+     * @param fxn The mapping function
+     * @return The result EitherBatch&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherBatch<L, B> mapToObj(final DoubleFunction<? extends B> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Object[] mapped = new Object[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = Objects.requireNonNull(fxn.apply(rights[i]));
+            }
+        }
+        return new EitherBatch<L, B>(this, mapped);
+    }
+
+    /**
+     * Keep every Left and the Rights whose value satisfies the predicate, in order.
+     *
+     * @param predicate The test for right-hand values
+     * @return The filtered DoubleEitherBatch&lt;L&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public DoubleEitherBatch<L> filter(final DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final double[] kept = new double[size];
+        int count = 0;
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(count++, (L) leftValues[leftOrdinal++]);
+            } else if (predicate.test(rights[i])) {
+                kept[count++] = rights[i];
+            }
+        }
+        return new DoubleEitherBatch<L>(lefts, count == size ? kept : Arrays.copyOf(kept, count), count);
+    }
+
+    /**
+     * Bind every right-hand value; Lefts pass through and new Lefts join them in position order.
+     *
+     * @param fxn The function from a right-hand value to the next DoubleEither
+     * @return The result DoubleEitherBatch&lt;L&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public DoubleEitherBatch<L> bind(final DoubleFunction<DoubleEither<L>> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final double[] bound = new double[size];
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(i, (L) leftValues[leftOrdinal++]);
+                continue;
+            }
+            final DoubleEither<L> either = fxn.apply(rights[i]);
+            if (either.isLeft()) {
+                lefts.add(i, either.leftOrNull());
+            } else {
+                bound[i] = either.rightValue();
+            }
+        }
+        return new DoubleEitherBatch<L>(lefts, bound, size);
+    }
+
+    /**
+     * A flyweight cursor positioned before the first result.
+     */
+    public Cursor<L> cursor() {
+        return new Cursor<L>(this);
+    }
+
+    /**
+     * Materialise every result.
+     *
+     * @return The unmodifiable list of DoubleEithers
+     */
+    public List<DoubleEither<L>> toList() {
+        final List<DoubleEither<L>> eithers = new ArrayList<DoubleEither<L>>(size);
+        final Cursor<L> cursor = cursor();
+        while (cursor.next()) {
+            eithers.add(cursor.isLeft() ? DoubleEither.<L>left(cursor.left()) : DoubleEither.<L>right(cursor.rightAsDouble()));
+        }
+        return Collections.unmodifiableList(eithers);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DoubleEitherBatch[size=%d, lefts=%d]", size, leftCount);
+    }
+
+    /**
+     * Flyweight view of one position of a DoubleEitherBatch.
+     */
+    public static final class Cursor<L> extends BaseCursor<L> {
+        private final double[] rights;
+
+        private Cursor(final DoubleEitherBatch<L> batch) {
+            super(batch);
+            this.rights = batch.rights;
+        }
+
+        /**
+         * The right-hand value at the current position.
+         *
+         * @throws NoSuchElementException If the position holds a Left
+         */
+        public double rightAsDouble() {
+            checkSide(false);
+            return rights[index];
+        }
+    }
+
+    /**
+     * Appends results in order.
+     */
+    public static final class Builder<L> {
+        private final Lefts<L> lefts;
+        private double[] rights;
+        private int size;
+
+        private Builder(final int capacity) {
+            this.lefts = new Lefts<L>(capacity);
+            this.rights = new double[capacity];
+        }
+
+        public Builder<L> addLeft(final L value) {
+            ensureCapacity();
+            lefts.add(size++, value);
+            return this;
+        }
+
+        public Builder<L> addRight(final double value) {
+            ensureCapacity();
+            rights[size++] = value;
+            return this;
+        }
+
+        public Builder<L> add(final DoubleEither<L> either) {
+            return either.isLeft() ? addLeft(either.leftOrNull()) : addRight(either.rightValue());
+        }
+
+        public DoubleEitherBatch<L> build() {
+            return new DoubleEitherBatch<L>(lefts.copy(), Arrays.copyOf(rights, size), size);
+        }
+
+        private void ensureCapacity() {
+            if (size == rights.length) {
+                rights = Arrays.copyOf(rights, grow(size));
+            }
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package cloud.wraith.functional;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,9 +21,11 @@ import java.util.function.Supplier;
  *
  * <p>instance Functor Either where -- fmap :: (a -> b) -> Either l a -> Either l b
  * fmap _ (Left x _) = Left x _ fmap g (Right _ x) = Right _ (g x) {code}
+ *
+ * <p>Eithers are Serializable when their values are. They serialize as a SerializationProxy
+ * and are rebuilt through left() and right(), so canonical instances stay canonical.
  */
-public abstract class Either<L, A> {
-    @SuppressWarnings("unused")
+public abstract class Either<L, A> implements Serializable {
     private static final long serialVersionUID = 0L;
 
     /**
@@ -26,7 +36,10 @@ public abstract class Either<L, A> {
 
     public static <L, A> Left<L, A> left(final L value) {
         Objects.requireNonNull(value);
-        return Left.of(value);
+        if (EitherEvents.ENABLED) {
+            EitherEvents.leftCreated(value);
+        }
+        return Provenance.ENABLED ? Left.sampled(value, Provenance.sample(Provenance.SAMPLING)) : Left.of(value);
     }
 
     public static <L, A> Right<L, A> right(final A value) {
@@ -34,6 +47,37 @@ public abstract class Either<L, A> {
         return Right.of(value);
     }
 
+    /**
+     * Run a throwing supplier, capturing an exception as a Left.
+     *
+     * @param <A>      The right-hand type
+     * @param supplier The computation that may throw
+     * @return A Right of the result, or a Left of the exception
+     */
+    public static <A> Either<Exception, A> catching(final ThrowingSupplier<? extends A> supplier) {
+        return catching(supplier, FailureCapture.full());
+    }
+
+    /**
+     * Run a throwing supplier, turning an exception into a Left by the capture policy.
+     * Only Exceptions are caught; Errors propagate.
+     *
+     * @param <A>      The right-hand type
+     * @param supplier The computation that may throw
+     * @param capture  How to turn the exception into the left-hand value, e.g. FailureCapture.stackless()
+     * @return A Right of the result, or a Left of the captured exception
+     */
+    public static <A> Either<Exception, A> catching(final ThrowingSupplier<? extends A> supplier, final FailureCapture capture) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(capture);
+
+        try {
+            return right(supplier.get());
+        } catch (Exception e) {
+            return left(capture.apply(restoreInterrupt(e)));
+        }
+    }
+
     public abstract boolean isLeft();
 
     public abstract boolean isRight();
@@ -50,6 +94,56 @@ public abstract class Either<L, A> {
 
     public abstract L getLeftOrElse(Supplier<? extends L> supplier);
 
+    /**
+     * The right-hand value without wrapping it in an Optional.
+     *
+     * @return The right-hand value, or null for a Left
+     */
+    public abstract A rightOrNull();
+
+    /**
+     * The left-hand value without wrapping it in an Optional.
+     *
+     * @return The left-hand value, or null for a Right
+     */
+    public abstract L leftOrNull();
+
+    /**
+     * Where this Either was created, if it is a Left whose origin was sampled.
+     *
+     * @return The origin, or empty for a Right, or when provenance is disabled or this Left was not sampled
+     * @see Provenance
+     */
+    public Optional<Provenance> origin() {
+        return Optional.empty();
+    }
+
+    /**
+     * Catamorphism; collapses the Either by applying the function for whichever side is present.
+     *
+     * <p>{@code} either :: (l -> r) -> (a -> r) -> Either l a -> r {code}
+     *
+     * @param <R>     The result type
+     * @param onLeft  The function applied to a left-hand value
+     * @param onRight The function applied to a right-hand value
+     * @return The result of whichever function was applied
+     */
+    public abstract <R> R fold(Function<? super L, ? extends R> onLeft, Function<? super A, ? extends R> onRight);
+
+    /**
+     * Pass the right-hand value, if present, to the consumer.
+     *
+     * @param consumer The consumer of the right-hand value
+     */
+    public abstract void ifRight(Consumer<? super A> consumer);
+
+    /**
+     * Pass the left-hand value, if present, to the consumer.
+     *
+     * @param consumer The consumer of the left-hand value
+     */
+    public abstract void ifLeft(Consumer<? super L> consumer);
+
     public abstract Either<L, A> peek(Consumer<? super A> consumer);
 
     public abstract Either<L, A> peekLeft(Consumer<? super L> consumer);
@@ -117,7 +211,11 @@ public abstract class Either<L, A> {
         Objects.requireNonNull(ffxn);
         Objects.requireNonNull(fa);
 
-        return ffxn.isLeft() ? Either.<L, B>left(ffxn.getLeft().get()) : fmap(ffxn.get().get(), fa);
+        if (ffxn.isLeft()) {
+            return coerceLeft(ffxn);
+        }
+
+        return fmap(((Right<L, Function<? super A, ? extends B>>) ffxn).value, fa);
     }
 
     /**
@@ -137,6 +235,351 @@ public abstract class Either<L, A> {
         return apply(fa);
     }
 
+    /**
+     * Uncurried applicative combination of two Eithers.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>{@code} liftA2 :: (a -> b -> r) -> Either l a -> Either l b -> Either l r {code}
+     *
+     * <p>Equivalent to {@code pure(curried f).ap(fa).ap(fb)} but with one tag check per argument and one allocation.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument Either fa
+     * @param <B> The right-hand type of argument Either fb
+     * @param <R> The right-hand type of the result Either
+     * @param fa  The argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  The argument Either&lt;L,&nbsp;B&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, R> Either<L, R> map2(final Either<L, ? extends A> fa, final Either<L, ? extends B> fb,
+            final BiFunction<? super A, ? super B, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fxn);
+
+        if (fa.isLeft()) {
+            return coerceLeft(fa);
+        }
+        if (fb.isLeft()) {
+            return coerceLeft(fb);
+        }
+
+        return right(fxn.apply(fa.rightOrNull(), fb.rightOrNull()));
+    }
+
+    /**
+     * Uncurried applicative combination of three Eithers.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Equivalent to {@link #map2} for three arguments.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument Either fa
+     * @param <B> The right-hand type of argument Either fb
+     * @param <C> The right-hand type of argument Either fc
+     * @param <R> The right-hand type of the result Either
+     * @param fa  The argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  The argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  The argument Either&lt;L,&nbsp;C&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, R> Either<L, R> map3(final Either<L, ? extends A> fa, final Either<L, ? extends B> fb, final Either<L, ? extends C> fc,
+            final Function3<? super A, ? super B, ? super C, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fxn);
+
+        if (fa.isLeft()) {
+            return coerceLeft(fa);
+        }
+        if (fb.isLeft()) {
+            return coerceLeft(fb);
+        }
+        if (fc.isLeft()) {
+            return coerceLeft(fc);
+        }
+
+        return right(fxn.apply(fa.rightOrNull(), fb.rightOrNull(), fc.rightOrNull()));
+    }
+
+    /**
+     * Uncurried applicative combination of four Eithers.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Equivalent to {@link #map2} for four arguments.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument Either fa
+     * @param <B> The right-hand type of argument Either fb
+     * @param <C> The right-hand type of argument Either fc
+     * @param <D> The right-hand type of argument Either fd
+     * @param <R> The right-hand type of the result Either
+     * @param fa  The argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  The argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  The argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  The argument Either&lt;L,&nbsp;D&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, R> Either<L, R> map4(final Either<L, ? extends A> fa, final Either<L, ? extends B> fb, final Either<L, ? extends C> fc, final Either<L, ? extends D> fd,
+            final Function4<? super A, ? super B, ? super C, ? super D, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fxn);
+
+        if (fa.isLeft()) {
+            return coerceLeft(fa);
+        }
+        if (fb.isLeft()) {
+            return coerceLeft(fb);
+        }
+        if (fc.isLeft()) {
+            return coerceLeft(fc);
+        }
+        if (fd.isLeft()) {
+            return coerceLeft(fd);
+        }
+
+        return right(fxn.apply(fa.rightOrNull(), fb.rightOrNull(), fc.rightOrNull(), fd.rightOrNull()));
+    }
+
+    /**
+     * Uncurried applicative combination of five Eithers.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Equivalent to {@link #map2} for five arguments.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument Either fa
+     * @param <B> The right-hand type of argument Either fb
+     * @param <C> The right-hand type of argument Either fc
+     * @param <D> The right-hand type of argument Either fd
+     * @param <E> The right-hand type of argument Either fe
+     * @param <R> The right-hand type of the result Either
+     * @param fa  The argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  The argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  The argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  The argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  The argument Either&lt;L,&nbsp;E&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, R> Either<L, R> map5(final Either<L, ? extends A> fa, final Either<L, ? extends B> fb, final Either<L, ? extends C> fc, final Either<L, ? extends D> fd, final Either<L, ? extends E> fe,
+            final Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(fxn);
+
+        if (fa.isLeft()) {
+            return coerceLeft(fa);
+        }
+        if (fb.isLeft()) {
+            return coerceLeft(fb);
+        }
+        if (fc.isLeft()) {
+            return coerceLeft(fc);
+        }
+        if (fd.isLeft()) {
+            return coerceLeft(fd);
+        }
+        if (fe.isLeft()) {
+            return coerceLeft(fe);
+        }
+
+        return right(fxn.apply(fa.rightOrNull(), fb.rightOrNull(), fc.rightOrNull(), fd.rightOrNull(), fe.rightOrNull()));
+    }
+
+    /**
+     * Uncurried applicative combination of six Eithers.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Equivalent to {@link #map2} for six arguments.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument Either fa
+     * @param <B> The right-hand type of argument Either fb
+     * @param <C> The right-hand type of argument Either fc
+     * @param <D> The right-hand type of argument Either fd
+     * @param <E> The right-hand type of argument Either fe
+     * @param <F> The right-hand type of argument Either ff
+     * @param <R> The right-hand type of the result Either
+     * @param fa  The argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  The argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  The argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  The argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  The argument Either&lt;L,&nbsp;E&gt;
+     * @param ff  The argument Either&lt;L,&nbsp;F&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, F, R> Either<L, R> map6(final Either<L, ? extends A> fa, final Either<L, ? extends B> fb, final Either<L, ? extends C> fc, final Either<L, ? extends D> fd, final Either<L, ? extends E> fe, final Either<L, ? extends F> ff,
+            final Function6<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fxn);
+
+        if (fa.isLeft()) {
+            return coerceLeft(fa);
+        }
+        if (fb.isLeft()) {
+            return coerceLeft(fb);
+        }
+        if (fc.isLeft()) {
+            return coerceLeft(fc);
+        }
+        if (fd.isLeft()) {
+            return coerceLeft(fd);
+        }
+        if (fe.isLeft()) {
+            return coerceLeft(fe);
+        }
+        if (ff.isLeft()) {
+            return coerceLeft(ff);
+        }
+
+        return right(fxn.apply(fa.rightOrNull(), fb.rightOrNull(), fc.rightOrNull(), fd.rightOrNull(), fe.rightOrNull(), ff.rightOrNull()));
+    }
+
+    /**
+     * Uncurried applicative combination of seven Eithers.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Equivalent to {@link #map2} for seven arguments.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument Either fa
+     * @param <B> The right-hand type of argument Either fb
+     * @param <C> The right-hand type of argument Either fc
+     * @param <D> The right-hand type of argument Either fd
+     * @param <E> The right-hand type of argument Either fe
+     * @param <F> The right-hand type of argument Either ff
+     * @param <G> The right-hand type of argument Either fg
+     * @param <R> The right-hand type of the result Either
+     * @param fa  The argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  The argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  The argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  The argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  The argument Either&lt;L,&nbsp;E&gt;
+     * @param ff  The argument Either&lt;L,&nbsp;F&gt;
+     * @param fg  The argument Either&lt;L,&nbsp;G&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, F, G, R> Either<L, R> map7(final Either<L, ? extends A> fa, final Either<L, ? extends B> fb, final Either<L, ? extends C> fc, final Either<L, ? extends D> fd, final Either<L, ? extends E> fe, final Either<L, ? extends F> ff, final Either<L, ? extends G> fg,
+            final Function7<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fg);
+        Objects.requireNonNull(fxn);
+
+        if (fa.isLeft()) {
+            return coerceLeft(fa);
+        }
+        if (fb.isLeft()) {
+            return coerceLeft(fb);
+        }
+        if (fc.isLeft()) {
+            return coerceLeft(fc);
+        }
+        if (fd.isLeft()) {
+            return coerceLeft(fd);
+        }
+        if (fe.isLeft()) {
+            return coerceLeft(fe);
+        }
+        if (ff.isLeft()) {
+            return coerceLeft(ff);
+        }
+        if (fg.isLeft()) {
+            return coerceLeft(fg);
+        }
+
+        return right(fxn.apply(fa.rightOrNull(), fb.rightOrNull(), fc.rightOrNull(), fd.rightOrNull(), fe.rightOrNull(), ff.rightOrNull(), fg.rightOrNull()));
+    }
+
+    /**
+     * Uncurried applicative combination of eight Eithers.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Equivalent to {@link #map2} for eight arguments.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument Either fa
+     * @param <B> The right-hand type of argument Either fb
+     * @param <C> The right-hand type of argument Either fc
+     * @param <D> The right-hand type of argument Either fd
+     * @param <E> The right-hand type of argument Either fe
+     * @param <F> The right-hand type of argument Either ff
+     * @param <G> The right-hand type of argument Either fg
+     * @param <H> The right-hand type of argument Either fh
+     * @param <R> The right-hand type of the result Either
+     * @param fa  The argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  The argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  The argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  The argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  The argument Either&lt;L,&nbsp;E&gt;
+     * @param ff  The argument Either&lt;L,&nbsp;F&gt;
+     * @param fg  The argument Either&lt;L,&nbsp;G&gt;
+     * @param fh  The argument Either&lt;L,&nbsp;H&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, F, G, H, R> Either<L, R> map8(final Either<L, ? extends A> fa, final Either<L, ? extends B> fb, final Either<L, ? extends C> fc, final Either<L, ? extends D> fd, final Either<L, ? extends E> fe, final Either<L, ? extends F> ff, final Either<L, ? extends G> fg, final Either<L, ? extends H> fh,
+            final Function8<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fg);
+        Objects.requireNonNull(fh);
+        Objects.requireNonNull(fxn);
+
+        if (fa.isLeft()) {
+            return coerceLeft(fa);
+        }
+        if (fb.isLeft()) {
+            return coerceLeft(fb);
+        }
+        if (fc.isLeft()) {
+            return coerceLeft(fc);
+        }
+        if (fd.isLeft()) {
+            return coerceLeft(fd);
+        }
+        if (fe.isLeft()) {
+            return coerceLeft(fe);
+        }
+        if (ff.isLeft()) {
+            return coerceLeft(ff);
+        }
+        if (fg.isLeft()) {
+            return coerceLeft(fg);
+        }
+        if (fh.isLeft()) {
+            return coerceLeft(fh);
+        }
+
+        return right(fxn.apply(fa.rightOrNull(), fb.rightOrNull(), fc.rightOrNull(), fd.rightOrNull(), fe.rightOrNull(), ff.rightOrNull(), fg.rightOrNull(), fh.rightOrNull()));
+    }
+
     /**
      * Monad return cannot be defined as return is a reserved token in Java.
      * So name it mreturn instead.
@@ -190,23 +633,260 @@ public abstract class Either<L, A> {
         return bind(fxn);
     }
 
+    /**
+     * Map with a function that may throw.
+     *
+     * @param <B>     The right-hand type of the result Either
+     * @param fxn     The mapping function, which may throw
+     * @param onError Maps a caught exception to the left-hand value; a FailureCapture fits when L is Exception
+     * @return The result Either&lt;L,&nbsp;B&gt;
+     */
+    public <B> Either<L, B> mapCatching(final ThrowingFunction<? super A, ? extends B> fxn,
+            final Function<? super Exception, ? extends L> onError) {
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(onError);
+
+        if (isLeft()) {
+            return coerceLeft(this);
+        }
+        try {
+            return right(fxn.apply(rightOrNull()));
+        } catch (Exception e) {
+            return left(onError.apply(restoreInterrupt(e)));
+        }
+    }
+
+    /**
+     * Bind with a function that may throw.
+     *
+     * @param <B>     The right-hand type of the result Either
+     * @param fxn     The function from a right-hand value to the next Either, which may throw
+     * @param onError Maps a caught exception to the left-hand value; a FailureCapture fits when L is Exception
+     * @return The result Either&lt;L,&nbsp;B&gt;
+     */
+    public <B> Either<L, B> bindCatching(final ThrowingFunction<? super A, Either<L, B>> fxn,
+            final Function<? super Exception, ? extends L> onError) {
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(onError);
+
+        if (isLeft()) {
+            return coerceLeft(this);
+        }
+        try {
+            return fxn.apply(rightOrNull());
+        } catch (Exception e) {
+            return left(onError.apply(restoreInterrupt(e)));
+        }
+    }
+
+    /**
+     * Traversable traverse function.
+     * Applies the function to each element in order and stops at the first Left.
+     *
+     * <p>{@code} traverse :: (a -> Either l b) -> [a] -> Either l [b] {code}
+     *
+     * @param <L> The left-hand type of the result Either
+     * @param <A> The element type of the source list
+     * @param <B> The element type of the result list
+     * @param as  The source list
+     * @param fxn The function applied to each element
+     * @return The first Left, or a Right of the unmodifiable list of right-hand values
+     */
+    public static <L, A, B> Either<L, List<B>> traverse(final List<? extends A> as,
+            final Function<? super A, ? extends Either<L, ? extends B>> fxn) {
+        Objects.requireNonNull(as);
+        Objects.requireNonNull(fxn);
+
+        final EitherEvents.TraverseSummary event = EitherEvents.ENABLED ? EitherEvents.traverseStarted() : null;
+        final List<B> result = new ArrayList<B>(as.size());
+        for (A a : as) {
+            final Either<L, ? extends B> either = fxn.apply(a);
+            if (either.isLeft()) {
+                if (event != null) {
+                    EitherEvents.traverseEnded(event, "traverse", as.size(), result.size());
+                }
+                return coerceLeft(either);
+            }
+            result.add(either.rightOrNull());
+        }
+
+        if (event != null) {
+            EitherEvents.traverseEnded(event, "traverse", as.size(), -1L);
+        }
+        return right(Collections.unmodifiableList(result));
+    }
+
+    /**
+     * Traversable sequence function.
+     *
+     * <p>{@code} sequence :: [Either l a] -> Either l [a] {code}
+     *
+     * @param <L>     The left-hand type of the argument and result Eithers
+     * @param <A>     The right-hand type of the argument Eithers
+     * @param eithers The source list of Eithers
+     * @return The first Left, or a Right of the unmodifiable list of right-hand values
+     */
+    public static <L, A> Either<L, List<A>> sequence(final List<? extends Either<L, ? extends A>> eithers) {
+        return traverse(eithers, Function.<Either<L, ? extends A>>identity());
+    }
+
+    /**
+     * Parallel traverse on the common fork-join pool.
+     *
+     * @param <L> The left-hand type of the result Either
+     * @param <A> The element type of the source list
+     * @param <B> The element type of the result list
+     * @param as  The source list; should support fast random access
+     * @param fxn The function applied to each element; must be safe to call from several threads
+     * @return The leftmost Left, or a Right of the unmodifiable list of right-hand values
+     * @see #parallelTraverse(List, Function, ForkJoinPool)
+     */
+    public static <L, A, B> Either<L, List<B>> parallelTraverse(final List<? extends A> as,
+            final Function<? super A, ? extends Either<L, ? extends B>> fxn) {
+        return parallelTraverse(as, fxn, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel traverse.
+     * The source list is split across the pool. Once a Left is found, workers skip the elements
+     * after it. The result is the same as traverse(): the leftmost Left, whatever the thread
+     * scheduling.
+     *
+     * @param <L>  The left-hand type of the result Either
+     * @param <A>  The element type of the source list
+     * @param <B>  The element type of the result list
+     * @param as   The source list; should support fast random access
+     * @param fxn  The function applied to each element; must be safe to call from several threads
+     * @param pool The fork-join pool to run on
+     * @return The leftmost Left, or a Right of the unmodifiable list of right-hand values
+     */
+    public static <L, A, B> Either<L, List<B>> parallelTraverse(final List<? extends A> as,
+            final Function<? super A, ? extends Either<L, ? extends B>> fxn, final ForkJoinPool pool) {
+        Objects.requireNonNull(as);
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(pool);
+
+        return ParallelTraverse.traverse(as, fxn, pool);
+    }
+
+    /**
+     * Parallel sequence on the common fork-join pool.
+     *
+     * @param <L>     The left-hand type of the argument and result Eithers
+     * @param <A>     The right-hand type of the argument Eithers
+     * @param eithers The source list of Eithers
+     * @return The leftmost Left, or a Right of the unmodifiable list of right-hand values
+     */
+    public static <L, A> Either<L, List<A>> parallelSequence(final List<? extends Either<L, ? extends A>> eithers) {
+        return parallelTraverse(eithers, Function.<Either<L, ? extends A>>identity());
+    }
+
+    /**
+     * Keep the interrupt status of the thread when an InterruptedException is captured rather than rethrown.
+     */
+    private static Exception restoreInterrupt(final Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return e;
+    }
+
+    /**
+     * Re-type a Left without allocating.
+     *
+     * @param left An Either known to be a Left
+     * @return The same Left with its phantom right-hand type changed
+     */
+    static <L, B> Either<L, B> coerceLeft(final Either<L, ?> left) {
+        return ((Left<L, ?>) left).<B>coerce();
+    }
+
+    /**
+     * The serialized form of an Either: a side flag and the value.
+     */
+    private static final class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 0L;
+
+        private final boolean left;
+        @SuppressWarnings("serial") // Eithers are Serializable only when their values are; others fail in writeObject.
+        private final Object value;
+
+        private SerializationProxy(final boolean left, final Object value) {
+            this.left = left;
+            this.value = value;
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            if (value == null) {
+                throw new InvalidObjectException("Either value must not be null");
+            }
+            return left ? Either.left(value) : Either.right(value);
+        }
+    }
+
     /**
      * Left implementation of Either.
      */
-    static final class Left<L, A> extends Either<L, A> {
-        @SuppressWarnings("unused")
+    static class Left<L, A> extends Either<L, A> {
         private static final long serialVersionUID = 0L;
 
-        private final L value;
+        /**
+         * Transient because a Left is always written as its SerializationProxy.
+         */
+        private final transient L value;
 
         private Left(final L value) {
             this.value = Objects.requireNonNull(value);
         }
 
+        /**
+         * Canonical Lefts of each enum constant, indexed by ordinal, created on first use of the enum class.
+         */
+        private static final ClassValue<Left<?, ?>[]> ENUM_LEFTS = new ClassValue<Left<?, ?>[]>() {
+            @Override
+            protected Left<?, ?>[] computeValue(final Class<?> type) {
+                final Object[] constants = type.getEnumConstants();
+                final Left<?, ?>[] lefts = new Left<?, ?>[constants.length];
+                for (int i = 0; i < constants.length; i++) {
+                    lefts[i] = new Left<Object, Object>(constants[i]);
+                }
+                return lefts;
+            }
+        };
+
+        @SuppressWarnings("unchecked")
         private static <L, A> Left<L, A> of(final L value) {
+            if (value instanceof Enum) {
+                final Enum<?> constant = (Enum<?>) value;
+                return (Left<L, A>) ENUM_LEFTS.get(constant.getDeclaringClass())[constant.ordinal()];
+            }
             return new Left<L, A>(value);
         }
 
+        /**
+         * A Left that records its origin, or the usual Left if it was not sampled.
+         */
+        static <L, A> Left<L, A> sampled(final L value, final Provenance origin) {
+            return origin == null ? Left.<L, A>of(value) : new Traced<L, A>(value, origin);
+        }
+
+        /**
+         * Re-types this Left without allocating.
+         * A Left never holds a right-hand value, so its right-hand type is a phantom and the cast cannot fail.
+         */
+        @SuppressWarnings("unchecked")
+        private <B> Left<L, B> coerce() {
+            return (Left<L, B>) this;
+        }
+
+        private Object writeReplace() {
+            return new SerializationProxy(true, value);
+        }
+
+        private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+            throw new InvalidObjectException("Either.Left is serialized through its SerializationProxy");
+        }
+
         @Override
         public boolean isLeft() {
             return true;
@@ -247,6 +927,30 @@ public abstract class Either<L, A> {
             return value;
         }
 
+        @Override
+        public A rightOrNull() {
+            return null;
+        }
+
+        @Override
+        public L leftOrNull() {
+            return value;
+        }
+
+        @Override
+        public <R> R fold(Function<? super L, ? extends R> onLeft, Function<? super A, ? extends R> onRight) {
+            return Objects.requireNonNull(onLeft).apply(value);
+        }
+
+        @Override
+        public void ifRight(Consumer<? super A> consumer) {
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> consumer) {
+            Objects.requireNonNull(consumer).accept(value);
+        }
+
         @Override
         public Either<L, A> peek(Consumer<? super A> consumer) {
             return this;
@@ -266,17 +970,17 @@ public abstract class Either<L, A> {
 
         @Override
         public <B> Either<L, B> map(Function<? super A, ? extends B> fxn) {
-            return Either.<L, B>left(value);
+            return coerce();
         }
 
         @Override
         public <B, A1> Either<L, B> apply(final Either<L, A1> fa) {
-            return Either.<L, B>left(value);
+            return coerce();
         }
 
         @Override
         public  <B> Either<L, ? extends B> bind(final Function<? super A, Either<L, ? extends B>> fxn) {
-            return Either.<L, B>left(value);
+            return this.<B>coerce();
         }
 
         @Override
@@ -302,28 +1006,101 @@ public abstract class Either<L, A> {
                 return false;
             }
 
-            return Objects.equals(value, other.getLeft().get());
+            return Objects.equals(value, other.leftOrNull());
         }
 
+        /**
+         * Not cached; the payloads that are provably immutable hash in constant time or cache their own hash.
+         */
+        @Override
+        public int hashCode() {
+            return 31 * value.hashCode() + 1;
+        }
+
+        /**
+         * A Left with its Provenance. Only loaded when provenance is enabled, so until then Left has no subclass.
+         * Equal to, and serialized as, a Left of the same value.
+         */
+        private static final class Traced<L, A> extends Left<L, A> {
+            private static final long serialVersionUID = 0L;
+
+            private final transient Provenance origin;
+
+            private Traced(final L value, final Provenance origin) {
+                super(value);
+                this.origin = origin;
+            }
+
+            @Override
+            public Optional<Provenance> origin() {
+                return Optional.of(origin);
+            }
+
+            private Object writeReplace() {
+                return new SerializationProxy(true, leftOrNull());
+            }
+
+            @Override
+            public String toString() {
+                return String.format("Either.left[%s] from %s", leftOrNull().toString(), origin);
+            }
+        }
     }
 
     /**
      * Right implementation of Either.
      */
     static final class Right<L, A> extends Either<L, A> {
-        @SuppressWarnings("unused")
         private static final long serialVersionUID = 0L;
 
-        private final A value;
+        /**
+         * Transient because a Right is always written as its SerializationProxy.
+         */
+        private final transient A value;
 
         private Right(final A value) {
             this.value = Objects.requireNonNull(value);
         }
 
+        private static final int SMALL_INT_MIN = -128;
+        private static final int SMALL_INT_MAX = 127;
+
+        private static final Right<?, ?> TRUE = new Right<Object, Boolean>(Boolean.TRUE);
+        private static final Right<?, ?> FALSE = new Right<Object, Boolean>(Boolean.FALSE);
+        private static final Right<?, ?>[] SMALL_INTS = new Right<?, ?>[SMALL_INT_MAX - SMALL_INT_MIN + 1];
+
+        static {
+            for (int i = 0; i < SMALL_INTS.length; i++) {
+                SMALL_INTS[i] = new Right<Object, Integer>(SMALL_INT_MIN + i);
+            }
+        }
+
+        /**
+         * Shares one instance for Booleans and for Integers in the range cached by Integer.valueOf.
+         * The left-hand type of a Right is a phantom, so the casts cannot fail.
+         */
+        @SuppressWarnings("unchecked")
         private static <L, A> Right<L, A> of(final A value) {
+            if (value instanceof Boolean) {
+                return (Right<L, A>) ((Boolean) value ? TRUE : FALSE);
+            }
+            if (value instanceof Integer) {
+                final int i = (Integer) value;
+                if (i >= SMALL_INT_MIN && i <= SMALL_INT_MAX) {
+                    return (Right<L, A>) SMALL_INTS[i - SMALL_INT_MIN];
+                }
+            }
             return new Right<L, A>(value);
         }
 
+        private Object writeReplace() {
+            return new SerializationProxy(false, value);
+        }
+
+        private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+            throw new InvalidObjectException("Either.Right is serialized through its SerializationProxy");
+        }
+
         @Override
         public boolean isLeft() {
             return false;
@@ -364,6 +1141,30 @@ public abstract class Either<L, A> {
             return Objects.requireNonNull(supplier).get();
         }
 
+        @Override
+        public A rightOrNull() {
+            return value;
+        }
+
+        @Override
+        public L leftOrNull() {
+            return null;
+        }
+
+        @Override
+        public <R> R fold(Function<? super L, ? extends R> onLeft, Function<? super A, ? extends R> onRight) {
+            return Objects.requireNonNull(onRight).apply(value);
+        }
+
+        @Override
+        public void ifRight(Consumer<? super A> consumer) {
+            Objects.requireNonNull(consumer).accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> consumer) {
+        }
+
         @Override
         public Either<L, A> peek(Consumer<? super A> consumer) {
             Objects.requireNonNull(consumer).accept(value);
@@ -429,7 +1230,12 @@ public abstract class Either<L, A> {
                 return false;
             }
 
-            return Objects.equals(value, other.get().get());
+            return Objects.equals(value, other.rightOrNull());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * value.hashCode() + 2;
         }
 
     }
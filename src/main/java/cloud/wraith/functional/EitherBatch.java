@@ -0,0 +1,283 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Columnar batch of Either results.
+ *
+ * <p>Instead of one Either object per result, a batch keeps a bit per position marking the
+ * Lefts, an array of right-hand values indexed by position, and the left-hand values in a
+ * compact side table. Whole-batch operations run as plain loops over the arrays, and a Cursor
+ * walks the batch without creating an Either per position. Int, Long and Double variants keep
+ * the right-hand values unboxed.
+ *
+ * <p>Batches are immutable.
+ *
+ * @param <L> The left-hand type
+ * @param <A> The right-hand type
+ */
+public final class EitherBatch<L, A> extends AbstractEitherBatch<L> {
+    private final Object[] rights;
+
+    private EitherBatch(final Lefts<L> lefts, final Object[] rights, final int size) {
+        super(lefts.fit(size), size);
+        this.rights = rights;
+    }
+
+    EitherBatch(final AbstractEitherBatch<L> shape, final Object[] rights) {
+        super(shape);
+        this.rights = rights;
+    }
+
+    public static <L, A> EitherBatch<L, A> of(final List<? extends Either<? extends L, ? extends A>> eithers) {
+        Objects.requireNonNull(eithers);
+
+        final Builder<L, A> builder = new Builder<L, A>(eithers.size());
+        for (final Either<? extends L, ? extends A> either : eithers) {
+            builder.add(either);
+        }
+        return builder.build();
+    }
+
+    public static <L, A> Builder<L, A> builder() {
+        return new Builder<L, A>(16);
+    }
+
+    /**
+     * The right-hand value at the position.
+     *
+     * @param index The position
+     * @return The right-hand value, or null if the position holds a Left
+     */
+    @SuppressWarnings("unchecked")
+    public A rightOrNull(final int index) {
+        Objects.checkIndex(index, size);
+        return (A) rights[index];
+    }
+
+    /**
+     * Materialise the Either at the position.
+     */
+    public Either<L, A> get(final int index) {
+        return isLeft(index) ? Either.<L, A>left(leftOrNull(index)) : Either.<L, A>right(rightOrNull(index));
+    }
+
+    /**
+     * Map every right-hand value. The result shares this batch's Left side.
+     *
+     * @param <B> The right-hand type of the result
+     * @param fxn The mapping function
+     * @return The result EitherBatch&lt;L,&nbsp;B&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public <B> EitherBatch<L, B> map(final Function<? super A, ? extends B> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Object[] mapped = new Object[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = Objects.requireNonNull(fxn.apply((A) rights[i]));
+            }
+        }
+        return new EitherBatch<L, B>(this, mapped);
+    }
+
+    /**
+     * Map every right-hand value to an int. The result shares this batch's Left side.
+     */
+    @SuppressWarnings("unchecked")
+    public IntEitherBatch<L> mapToInt(final ToIntFunction<? super A> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final int[] mapped = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = fxn.applyAsInt((A) rights[i]);
+            }
+        }
+        return new IntEitherBatch<L>(this, mapped);
+    }
+
+    /**
+     * Map every right-hand value to a long. The result shares this batch's Left side.
+     */
+    @SuppressWarnings("unchecked")
+    public LongEitherBatch<L> mapToLong(final ToLongFunction<? super A> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final long[] mapped = new long[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = fxn.applyAsLong((A) rights[i]);
+            }
+        }
+        return new LongEitherBatch<L>(this, mapped);
+    }
+
+    /**
+     * Map every right-hand value to a double. The result shares this batch's Left side.
+     */
+    @SuppressWarnings("unchecked")
+    public DoubleEitherBatch<L> mapToDouble(final ToDoubleFunction<? super A> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final double[] mapped = new double[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = fxn.applyAsDouble((A) rights[i]);
+            }
+        }
+        return new DoubleEitherBatch<L>(this, mapped);
+    }
+
+    /**
+     * Keep every Left and the Rights whose value satisfies the predicate, in order.
+     *
+     * @param predicate The test for right-hand values
+     * @return The filtered EitherBatch&lt;L,&nbsp;A&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public EitherBatch<L, A> filter(final Predicate<? super A> predicate) {
+        Objects.requireNonNull(predicate);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final Object[] kept = new Object[size];
+        int count = 0;
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(count++, (L) leftValues[leftOrdinal++]);
+            } else if (predicate.test((A) rights[i])) {
+                kept[count++] = rights[i];
+            }
+        }
+        return new EitherBatch<L, A>(lefts, count == size ? kept : Arrays.copyOf(kept, count), count);
+    }
+
+    /**
+     * Bind every right-hand value; Lefts pass through and new Lefts join them in position order.
+     *
+     * @param <B> The right-hand type of the result
+     * @param fxn The function from a right-hand value to the next Either
+     * @return The result EitherBatch&lt;L,&nbsp;B&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public <B> EitherBatch<L, B> bind(final Function<? super A, Either<L, ? extends B>> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final Object[] bound = new Object[size];
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(i, (L) leftValues[leftOrdinal++]);
+                continue;
+            }
+            final Either<L, ? extends B> either = fxn.apply((A) rights[i]);
+            if (either.isLeft()) {
+                lefts.add(i, either.leftOrNull());
+            } else {
+                bound[i] = either.rightOrNull();
+            }
+        }
+        return new EitherBatch<L, B>(lefts, bound, size);
+    }
+
+    /**
+     * A flyweight cursor positioned before the first result.
+     */
+    public Cursor<L, A> cursor() {
+        return new Cursor<L, A>(this);
+    }
+
+    /**
+     * Materialise every result.
+     *
+     * @return The unmodifiable list of Eithers
+     */
+    public List<Either<L, A>> toList() {
+        final List<Either<L, A>> eithers = new ArrayList<Either<L, A>>(size);
+        final Cursor<L, A> cursor = cursor();
+        while (cursor.next()) {
+            eithers.add(cursor.isLeft() ? Either.<L, A>left(cursor.left()) : Either.<L, A>right(cursor.right()));
+        }
+        return Collections.unmodifiableList(eithers);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EitherBatch[size=%d, lefts=%d]", size, leftCount);
+    }
+
+    /**
+     * Flyweight view of one position of an EitherBatch.
+     */
+    public static final class Cursor<L, A> extends BaseCursor<L> {
+        private final Object[] rights;
+
+        private Cursor(final EitherBatch<L, A> batch) {
+            super(batch);
+            this.rights = batch.rights;
+        }
+
+        /**
+         * The right-hand value at the current position.
+         *
+         * @throws java.util.NoSuchElementException If the position holds a Left
+         */
+        @SuppressWarnings("unchecked")
+        public A right() {
+            checkSide(false);
+            return (A) rights[index];
+        }
+    }
+
+    /**
+     * Appends results in order.
+     */
+    public static final class Builder<L, A> {
+        private final Lefts<L> lefts;
+        private Object[] rights;
+        private int size;
+
+        private Builder(final int capacity) {
+            this.lefts = new Lefts<L>(capacity);
+            this.rights = new Object[capacity];
+        }
+
+        public Builder<L, A> addLeft(final L value) {
+            ensureCapacity();
+            lefts.add(size++, value);
+            return this;
+        }
+
+        public Builder<L, A> addRight(final A value) {
+            ensureCapacity();
+            rights[size++] = Objects.requireNonNull(value);
+            return this;
+        }
+
+        public Builder<L, A> add(final Either<? extends L, ? extends A> either) {
+            return either.isLeft() ? addLeft(either.leftOrNull()) : addRight(either.rightOrNull());
+        }
+
+        public EitherBatch<L, A> build() {
+            return new EitherBatch<L, A>(lefts.copy(), Arrays.copyOf(rights, size), size);
+        }
+
+        private void ensureCapacity() {
+            if (size == rights.length) {
+                rights = Arrays.copyOf(rights, grow(size));
+            }
+        }
+    }
+}
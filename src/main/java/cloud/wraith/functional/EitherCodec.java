@@ -0,0 +1,136 @@
+package cloud.wraith.functional;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Binary codec for Eithers over ByteBuffers, heap or direct.
+ *
+ * <p>An Either is a one-byte tag, 0 for Left and 1 for Right, followed by the value written by
+ * the codec for that side. A list is a four-byte count followed by its Eithers.
+ *
+ * <p>{@code EitherCodec.of(ElementCodec.utf8(), ElementCodec.longs())}
+ *
+ * @param <L> The left-hand type
+ * @param <A> The right-hand type
+ */
+public final class EitherCodec<L, A> {
+    static final byte LEFT_TAG = 0;
+    static final byte RIGHT_TAG = 1;
+
+    private final ElementCodec<L> leftCodec;
+    private final ElementCodec<A> rightCodec;
+
+    private EitherCodec(final ElementCodec<L> leftCodec, final ElementCodec<A> rightCodec) {
+        this.leftCodec = leftCodec;
+        this.rightCodec = rightCodec;
+    }
+
+    public static <L, A> EitherCodec<L, A> of(final ElementCodec<L> leftCodec, final ElementCodec<A> rightCodec) {
+        Objects.requireNonNull(leftCodec);
+        Objects.requireNonNull(rightCodec);
+
+        return new EitherCodec<L, A>(leftCodec, rightCodec);
+    }
+
+    /**
+     * The number of bytes encode() will write for the Either.
+     */
+    public int encodedSize(final Either<? extends L, ? extends A> either) {
+        return 1 + (either.isLeft()
+            ? leftCodec.encodedSize(either.leftOrNull())
+            : rightCodec.encodedSize(either.rightOrNull()));
+    }
+
+    /**
+     * The number of bytes encodeAll() will write for the list.
+     */
+    public int encodedSize(final List<? extends Either<? extends L, ? extends A>> eithers) {
+        int size = Integer.BYTES;
+        for (final Either<? extends L, ? extends A> either : eithers) {
+            size += encodedSize(either);
+        }
+        return size;
+    }
+
+    /**
+     * Write the Either at the buffer's position.
+     *
+     * @param either The Either
+     * @param buffer The buffer to write to
+     * @throws java.nio.BufferOverflowException If the buffer has too little room
+     */
+    public void encode(final Either<? extends L, ? extends A> either, final ByteBuffer buffer) {
+        Objects.requireNonNull(either);
+        Objects.requireNonNull(buffer);
+
+        if (either.isLeft()) {
+            buffer.put(LEFT_TAG);
+            leftCodec.encode(either.leftOrNull(), buffer);
+        } else {
+            buffer.put(RIGHT_TAG);
+            rightCodec.encode(either.rightOrNull(), buffer);
+        }
+    }
+
+    /**
+     * Read an Either at the buffer's position.
+     *
+     * @param buffer The buffer to read from
+     * @return The Either
+     * @throws IllegalArgumentException If the tag is neither Left nor Right
+     */
+    public Either<L, A> decode(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer);
+
+        final byte tag = buffer.get();
+        if (tag == LEFT_TAG) {
+            return Either.left(leftCodec.decode(buffer));
+        }
+        if (tag == RIGHT_TAG) {
+            return Either.right(rightCodec.decode(buffer));
+        }
+        throw new IllegalArgumentException(String.format("Unknown Either tag %d", tag));
+    }
+
+    /**
+     * Write a count and then each Either in order.
+     *
+     * @param eithers The Eithers
+     * @param buffer  The buffer to write to
+     */
+    public void encodeAll(final List<? extends Either<? extends L, ? extends A>> eithers, final ByteBuffer buffer) {
+        Objects.requireNonNull(eithers);
+        Objects.requireNonNull(buffer);
+
+        buffer.putInt(eithers.size());
+        for (final Either<? extends L, ? extends A> either : eithers) {
+            encode(either, buffer);
+        }
+    }
+
+    /**
+     * Read a list written by encodeAll().
+     *
+     * @param buffer The buffer to read from
+     * @return The unmodifiable list of Eithers
+     */
+    public List<Either<L, A>> decodeAll(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer);
+
+        final int count = buffer.getInt();
+        // Every Either is at least its tag byte, so a count beyond the remaining bytes is corrupt.
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException(String.format("Count of %d exceeds the %d bytes remaining", count, buffer.remaining()));
+        }
+
+        final List<Either<L, A>> eithers = new ArrayList<Either<L, A>>(count);
+        for (int i = 0; i < count; i++) {
+            eithers.add(decode(buffer));
+        }
+        return Collections.unmodifiableList(eithers);
+    }
+}
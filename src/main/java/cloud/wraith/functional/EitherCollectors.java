@@ -0,0 +1,295 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * Stream collectors for Eithers.
+ *
+ * <p>Each collector makes a single pass. Parallel streams give every thread its own mutable
+ * container and merge them with an associative combiner, so nothing is synchronised.
+ * The combiner always puts the earlier container's results first, so "first Left" means
+ * the first in encounter order.
+ */
+public final class EitherCollectors {
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private EitherCollectors() {
+    }
+
+    /**
+     * Split the Eithers into their left-hand and right-hand values, keeping encounter order.
+     *
+     * @param <L> The left-hand type
+     * @param <A> The right-hand type
+     * @return A collector into a Partition
+     */
+    public static <L, A> Collector<Either<L, A>, ?, Partition<L, A>> partition() {
+        return Collector.<Either<L, A>, Partitioner<L, A>, Partition<L, A>>of(
+            Partitioner::new, Partitioner::accumulate, Partitioner::combine, Partitioner::finish);
+    }
+
+    /**
+     * Sequence the Eithers; the first Left wins.
+     * Once a container holds a Left, later elements are no longer buffered.
+     *
+     * @param <L> The left-hand type
+     * @param <A> The right-hand type
+     * @return A collector into the first Left, or a Right of the unmodifiable list of right-hand values
+     */
+    public static <L, A> Collector<Either<L, A>, ?, Either<L, List<A>>> sequence() {
+        return Collector.<Either<L, A>, Sequencer<L, A>, Either<L, List<A>>>of(
+            Sequencer::new, Sequencer::accumulate, Sequencer::combine, Sequencer::finish);
+    }
+
+    /**
+     * Collect the Eithers into a Validation that accumulates every left-hand value.
+     * Once a container holds an error, right-hand values are no longer buffered.
+     *
+     * @param <E> The left-hand type, which becomes the error type
+     * @param <A> The right-hand type
+     * @return A collector into an Invalid of every left-hand value, or a Valid of the unmodifiable list of right-hand values
+     */
+    public static <E, A> Collector<Either<E, A>, ?, Validation<E, List<A>>> toValidation() {
+        return Collector.<Either<E, A>, Validator<E, A>, Validation<E, List<A>>>of(
+            Validator::new, Validator::accumulate, Validator::combine, Validator::finish);
+    }
+
+    /**
+     * Count the Lefts and Rights without keeping any values.
+     *
+     * @param <L> The left-hand type
+     * @param <A> The right-hand type
+     * @return A collector into the Counts
+     */
+    public static <L, A> Collector<Either<L, A>, ?, Counts> counting() {
+        return Collector.<Either<L, A>, long[], Counts>of(
+            () -> new long[2],
+            (counts, either) -> counts[either.isLeft() ? 0 : 1]++,
+            (counts, other) -> {
+                counts[0] += other[0];
+                counts[1] += other[1];
+                return counts;
+            },
+            counts -> new Counts(counts[0], counts[1]),
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Count the Lefts without keeping any values.
+     *
+     * @param <L> The left-hand type
+     * @param <A> The right-hand type
+     * @return A collector into the number of Lefts
+     */
+    public static <L, A> Collector<Either<L, A>, ?, Long> countingLefts() {
+        return Collector.<Either<L, A>, long[], Long>of(
+            () -> new long[1],
+            (count, either) -> count[0] += either.isLeft() ? 1 : 0,
+            (count, other) -> {
+                count[0] += other[0];
+                return count;
+            },
+            count -> count[0],
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * The left-hand and right-hand values of a stream of Eithers.
+     */
+    public static final class Partition<L, A> {
+        private final List<L> lefts;
+        private final List<A> rights;
+
+        private Partition(final List<L> lefts, final List<A> rights) {
+            this.lefts = Collections.unmodifiableList(lefts);
+            this.rights = Collections.unmodifiableList(rights);
+        }
+
+        public List<L> lefts() {
+            return lefts;
+        }
+
+        public List<A> rights() {
+            return rights;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Partition[lefts=%s, rights=%s]", lefts, rights);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Partition)) {
+                return false;
+            }
+
+            final Partition<?, ?> other = (Partition<?, ?>) obj;
+
+            return lefts.equals(other.lefts) && rights.equals(other.rights);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lefts, rights);
+        }
+    }
+
+    /**
+     * The number of Lefts and Rights in a stream of Eithers.
+     */
+    public static final class Counts {
+        private final long lefts;
+        private final long rights;
+
+        private Counts(final long lefts, final long rights) {
+            this.lefts = lefts;
+            this.rights = rights;
+        }
+
+        public long lefts() {
+            return lefts;
+        }
+
+        public long rights() {
+            return rights;
+        }
+
+        public long total() {
+            return lefts + rights;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Counts[lefts=%d, rights=%d]", lefts, rights);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Counts)) {
+                return false;
+            }
+
+            final Counts other = (Counts) obj;
+
+            return lefts == other.lefts && rights == other.rights;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(lefts) * 31 + Long.hashCode(rights);
+        }
+    }
+
+    /**
+     * Mutable container for partition().
+     */
+    private static final class Partitioner<L, A> {
+        private final List<L> lefts = new ArrayList<L>();
+        private final List<A> rights = new ArrayList<A>();
+
+        void accumulate(final Either<L, A> either) {
+            if (either.isLeft()) {
+                lefts.add(either.leftOrNull());
+            } else {
+                rights.add(either.rightOrNull());
+            }
+        }
+
+        Partitioner<L, A> combine(final Partitioner<L, A> other) {
+            lefts.addAll(other.lefts);
+            rights.addAll(other.rights);
+            return this;
+        }
+
+        Partition<L, A> finish() {
+            return new Partition<L, A>(lefts, rights);
+        }
+    }
+
+    /**
+     * Mutable container for sequence().
+     */
+    private static final class Sequencer<L, A> {
+        private final List<A> rights = new ArrayList<A>();
+        private Either<L, A> left;
+
+        void accumulate(final Either<L, A> either) {
+            if (left != null) {
+                return;
+            }
+            if (either.isLeft()) {
+                left = either;
+                rights.clear();
+            } else {
+                rights.add(either.rightOrNull());
+            }
+        }
+
+        Sequencer<L, A> combine(final Sequencer<L, A> other) {
+            if (left != null) {
+                return this;
+            }
+            if (other.left != null) {
+                return other;
+            }
+            rights.addAll(other.rights);
+            return this;
+        }
+
+        Either<L, List<A>> finish() {
+            return left != null ? Either.coerceLeft(left) : Either.right(Collections.unmodifiableList(rights));
+        }
+    }
+
+    /**
+     * Mutable container for toValidation().
+     */
+    private static final class Validator<E, A> {
+        private final List<A> values = new ArrayList<A>();
+        private ErrorList<E> errors;
+
+        void accumulate(final Either<E, A> either) {
+            if (either.isLeft()) {
+                if (errors == null) {
+                    errors = ErrorList.of(either.leftOrNull());
+                    values.clear();
+                } else {
+                    errors = errors.append(either.leftOrNull());
+                }
+            } else if (errors == null) {
+                values.add(either.rightOrNull());
+            }
+        }
+
+        Validator<E, A> combine(final Validator<E, A> other) {
+            if (errors == null && other.errors == null) {
+                values.addAll(other.values);
+                return this;
+            }
+            if (errors == null) {
+                return other;
+            }
+            if (other.errors != null) {
+                errors = errors.concat(other.errors);
+            }
+            return this;
+        }
+
+        Validation<E, List<A>> finish() {
+            return errors != null ? Validation.invalid(errors) : Validation.valid(Collections.unmodifiableList(values));
+        }
+    }
+}
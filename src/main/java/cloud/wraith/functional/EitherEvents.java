@@ -0,0 +1,214 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events for Lefts, slow stages and traversals.
+ *
+ * <p>Events are only emitted when the JVM is started with
+ * {@code -Dcloud.wraith.functional.events=true}. The flag is read once into a constant. When it
+ * is off, Either and the traversals never call into this class, and bind returns the function
+ * it is given, so JFR costs nothing. When it is on, three event types are emitted, each disabled
+ * until a recording enables it:
+ *
+ * <ul>
+ * <li>{@code cloud.wraith.functional.LeftCreated} from Either.left(), with the class of the
+ * left-hand value and the named stage it was created in, if any</li>
+ * <li>{@code cloud.wraith.functional.SlowStage} from a stage named with bind() that runs for
+ * longer than the threshold, 10 ms unless the recording sets another</li>
+ * <li>{@code cloud.wraith.functional.TraverseSummary} once per traverse, parallel traverse
+ * or EitherStream traverse, with its size, duration and the index of the Left it returned</li>
+ * </ul>
+ *
+ * <p>For example {@code -XX:StartFlightRecording:cloud.wraith.functional.SlowStage#enabled=true,
+ * cloud.wraith.functional.SlowStage#threshold=2ms}. An event type that no recording enables
+ * costs a check of its cached EventType, and no event is allocated.
+ */
+public final class EitherEvents {
+
+    /**
+     * The system property that enables JFR events.
+     */
+    public static final String ENABLED_PROPERTY = "cloud.wraith.functional.events";
+
+    /**
+     * Whether events may be emitted; a constant, so the checks of it fold away when it is false.
+     */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final ThreadLocal<String> STAGE = new ThreadLocal<String>();
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private EitherEvents() {
+    }
+
+    /**
+     * Whether events were enabled when the JVM started.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Name a bind stage, so that it can emit SlowStage events and label the Lefts created in it,
+     * in LeftCreated events and in their Provenance.
+     *
+     * @param <A>   The argument type
+     * @param <E>   The Either type returned
+     * @param stage The stage name
+     * @param fxn   The bind function
+     * @return The named function, or fxn itself when neither events nor provenance are enabled
+     */
+    public static <A, E extends Either<?, ?>> Function<A, E> bind(final String stage, final Function<A, E> fxn) {
+        Objects.requireNonNull(stage);
+        Objects.requireNonNull(fxn);
+        if (!ENABLED && !Provenance.ENABLED) {
+            return fxn;
+        }
+
+        return a -> {
+            final SlowStage event = ENABLED && Types.SLOW_STAGE.isEnabled() ? new SlowStage() : null;
+            if (event != null) {
+                event.begin();
+            }
+            final boolean labelLefts = Provenance.ENABLED || ENABLED && Types.LEFT_CREATED.isEnabled();
+            final String outer = labelLefts ? enter(stage) : null;
+            final E either;
+            try {
+                either = fxn.apply(a);
+            } finally {
+                if (labelLefts) {
+                    STAGE.set(outer);
+                }
+            }
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.stage = stage;
+                    event.left = either.isLeft();
+                    event.commit();
+                }
+            }
+            return either;
+        };
+    }
+
+    /**
+     * The stage the current thread is running, if it was named with bind() while Lefts were being labelled.
+     */
+    static String currentStage() {
+        return STAGE.get();
+    }
+
+    private static String enter(final String stage) {
+        final String outer = STAGE.get();
+        STAGE.set(stage);
+        return outer;
+    }
+
+    /**
+     * Emit a LeftCreated event if a recording enables it; callers check ENABLED first.
+     */
+    static void leftCreated(final Object value) {
+        if (Types.LEFT_CREATED.isEnabled()) {
+            final LeftCreated event = new LeftCreated();
+            event.errorClass = value.getClass();
+            event.stage = STAGE.get();
+            event.commit();
+        }
+    }
+
+    /**
+     * Start timing a traversal if a recording enables TraverseSummary; pass the result to traverseEnded.
+     * Callers check ENABLED first.
+     *
+     * @return The started event, or null
+     */
+    static TraverseSummary traverseStarted() {
+        if (!Types.TRAVERSE_SUMMARY.isEnabled()) {
+            return null;
+        }
+        final TraverseSummary event = new TraverseSummary();
+        event.begin();
+        return event;
+    }
+
+    static void traverseEnded(final TraverseSummary event, final String kind, final long size, final long leftIndex) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.size = size;
+            event.leftIndex = leftIndex;
+            event.commit();
+        }
+    }
+
+    /**
+     * The event types, looked up once and only when events are enabled.
+     */
+    private static final class Types {
+        private static final EventType LEFT_CREATED = EventType.getEventType(LeftCreated.class);
+        private static final EventType SLOW_STAGE = EventType.getEventType(SlowStage.class);
+        private static final EventType TRAVERSE_SUMMARY = EventType.getEventType(TraverseSummary.class);
+    }
+
+    @Name("cloud.wraith.functional.LeftCreated")
+    @Label("Left Created")
+    @Description("A Left was created")
+    @Category({"Functional", "Either"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class LeftCreated extends Event {
+        @Label("Error Class")
+        Class<?> errorClass;
+
+        @Label("Stage")
+        String stage;
+    }
+
+    @Name("cloud.wraith.functional.SlowStage")
+    @Label("Slow Stage")
+    @Description("A named bind stage ran for longer than the threshold")
+    @Category({"Functional", "Either"})
+    @Enabled(false)
+    @Threshold("10 ms")
+    static final class SlowStage extends Event {
+        @Label("Stage")
+        String stage;
+
+        @Label("Returned Left")
+        boolean left;
+    }
+
+    @Name("cloud.wraith.functional.TraverseSummary")
+    @Label("Traverse Summary")
+    @Description("A traverse of a list or stream finished")
+    @Category({"Functional", "Either"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class TraverseSummary extends Event {
+        @Label("Kind")
+        String kind;
+
+        @Label("Size")
+        @Description("The number of elements, or for a stream traversed in order, the number read")
+        long size;
+
+        @Label("Left Index")
+        @Description("The index of the Left returned, or -1 if the traverse returned a Right")
+        long leftIndex;
+    }
+}
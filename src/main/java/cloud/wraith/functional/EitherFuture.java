@@ -0,0 +1,495 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous Either; a CompletableFuture of an Either with the Either combinators lifted onto it.
+ *
+ * <p>Lefts short-circuit. If this future has already completed with a Left, map, bind and apply
+ * return it re-typed and schedule no stage at all. A Left that arrives later passes through
+ * without calling the function or hopping to an executor.
+ *
+ * <p>Exceptional completion of the underlying future is not turned into a Left; it propagates
+ * as it would through a CompletableFuture.
+ */
+public final class EitherFuture<L, A> {
+    private final CompletableFuture<Either<L, A>> future;
+
+    private EitherFuture(final CompletableFuture<Either<L, A>> future) {
+        this.future = future;
+    }
+
+    public static <L, A> EitherFuture<L, A> of(final CompletionStage<Either<L, A>> stage) {
+        Objects.requireNonNull(stage);
+        return new EitherFuture<L, A>(stage.toCompletableFuture());
+    }
+
+    public static <L, A> EitherFuture<L, A> completed(final Either<L, A> either) {
+        Objects.requireNonNull(either);
+        return new EitherFuture<L, A>(CompletableFuture.completedFuture(either));
+    }
+
+    public static <L, A> EitherFuture<L, A> left(final L value) {
+        return completed(Either.<L, A>left(value));
+    }
+
+    public static <L, A> EitherFuture<L, A> right(final A value) {
+        return completed(Either.<L, A>right(value));
+    }
+
+    /**
+     * Applicative pure function.
+     *
+     * @param <L>   The left-hand type
+     * @param <A>   The right-hand type
+     * @param value The right-hand value
+     * @return An already completed Right
+     */
+    public static <L, A> EitherFuture<L, A> pure(final A value) {
+        return right(value);
+    }
+
+    /**
+     * Run the supplier on the executor.
+     *
+     * @param <L>      The left-hand type
+     * @param <A>      The right-hand type
+     * @param supplier The computation producing an Either
+     * @param executor The executor to run it on
+     * @return An EitherFuture of the supplied Either
+     */
+    public static <L, A> EitherFuture<L, A> supplyAsync(final Supplier<Either<L, A>> supplier, final Executor executor) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(executor);
+
+        return new EitherFuture<L, A>(CompletableFuture.supplyAsync(supplier, executor));
+    }
+
+    /**
+     * Map function; runs on whichever thread completes this future.
+     *
+     * @param <B> The right-hand type of the result
+     * @param fxn The mapping function
+     * @return The result EitherFuture&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherFuture<L, B> map(final Function<? super A, ? extends B> fxn) {
+        Objects.requireNonNull(fxn);
+
+        if (isCompletedLeft()) {
+            return coerce();
+        }
+        return new EitherFuture<L, B>(future.thenApply(either -> either.map(fxn)));
+    }
+
+    /**
+     * Map function; runs on the executor, but only for a Right.
+     *
+     * @param <B>      The right-hand type of the result
+     * @param fxn      The mapping function
+     * @param executor The executor to run the function on
+     * @return The result EitherFuture&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherFuture<L, B> mapAsync(final Function<? super A, ? extends B> fxn, final Executor executor) {
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(executor);
+
+        if (isCompletedLeft()) {
+            return coerce();
+        }
+        return new EitherFuture<L, B>(future.thenCompose(either -> either.isLeft()
+            ? CompletableFuture.completedFuture(Either.<L, B>coerceLeft(either))
+            : CompletableFuture.supplyAsync(() -> either.<B>map(fxn), executor)));
+    }
+
+    /**
+     * Bind function; runs on whichever thread completes this future.
+     *
+     * @param <B> The right-hand type of the result
+     * @param fxn The function from a right-hand value to the next EitherFuture
+     * @return The result EitherFuture&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherFuture<L, B> bind(final Function<? super A, EitherFuture<L, B>> fxn) {
+        Objects.requireNonNull(fxn);
+
+        if (isCompletedLeft()) {
+            return coerce();
+        }
+        return new EitherFuture<L, B>(future.thenCompose(either -> either.isLeft()
+            ? CompletableFuture.completedFuture(Either.<L, B>coerceLeft(either))
+            : fxn.apply(either.rightOrNull()).future));
+    }
+
+    /**
+     * Bind function; runs on the executor, but only for a Right.
+     *
+     * @param <B>      The right-hand type of the result
+     * @param fxn      The function from a right-hand value to the next EitherFuture
+     * @param executor The executor to run the function on
+     * @return The result EitherFuture&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherFuture<L, B> bindAsync(final Function<? super A, EitherFuture<L, B>> fxn, final Executor executor) {
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(executor);
+
+        if (isCompletedLeft()) {
+            return coerce();
+        }
+        return new EitherFuture<L, B>(future.thenCompose(either -> either.isLeft()
+            ? CompletableFuture.completedFuture(Either.<L, B>coerceLeft(either))
+            : CompletableFuture.supplyAsync(() -> fxn.apply(either.rightOrNull()).future, executor)
+                .thenCompose(Function.identity())));
+    }
+
+    /**
+     * Applicative application function.
+     *
+     * @param <B>  The right-hand type of the result
+     * @param <A1> The right-hand type of the argument
+     * @param fa   The EitherFuture to map using the function wrapped by this EitherFuture
+     * @return The result EitherFuture&lt;L,&nbsp;B&gt;
+     */
+    public <B, A1> EitherFuture<L, B> apply(final EitherFuture<L, A1> fa) {
+        Objects.requireNonNull(fa);
+
+        if (isCompletedLeft()) {
+            return coerce();
+        }
+        return new EitherFuture<L, B>(future.thenCombine(fa.future, (ffxn, either) -> ffxn.<B, A1>apply(either)));
+    }
+
+    /**
+     * ap() equivalent of apply().
+     */
+    public <B, A1> EitherFuture<L, B> ap(final EitherFuture<L, A1> fa) {
+        return apply(fa);
+    }
+
+    /**
+     * Catamorphism on completion.
+     *
+     * @param <R>     The result type
+     * @param onLeft  The function applied to a left-hand value
+     * @param onRight The function applied to a right-hand value
+     * @return A future of the result of whichever function was applied
+     */
+    public <R> CompletableFuture<R> fold(final Function<? super L, ? extends R> onLeft, final Function<? super A, ? extends R> onRight) {
+        Objects.requireNonNull(onLeft);
+        Objects.requireNonNull(onRight);
+
+        return future.thenApply(either -> either.fold(onLeft, onRight));
+    }
+
+    /**
+     * The underlying future.
+     *
+     * @return The CompletableFuture of the Either
+     */
+    public CompletableFuture<Either<L, A>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Applicative combination of two EitherFutures.
+     * Completes with the first Left in argument order, like {@link Either#map2}.
+     * If an argument has already completed with a Left and every argument before it is complete, no stage is scheduled.
+     *
+     * @param <L> The left-hand type of the argument and result EitherFutures
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <R> The right-hand type of the result EitherFuture
+     * @param fa  The argument EitherFuture&lt;L,&nbsp;A&gt;
+     * @param fb  The argument EitherFuture&lt;L,&nbsp;B&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result EitherFuture&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, R> EitherFuture<L, R> map2(final EitherFuture<L, ? extends A> fa, final EitherFuture<L, ? extends B> fb,
+            final BiFunction<? super A, ? super B, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fxn);
+
+        final EitherFuture<L, R> left = firstCompletedLeft(fa, fb);
+        if (left != null) {
+            return left;
+        }
+
+        return new EitherFuture<L, R>(fa.future.thenCombine(fb.future, (a, b) -> Either.map2(a, b, fxn)));
+    }
+
+    /**
+     * Applicative combination of three EitherFutures.
+     * Equivalent to {@link #map2} for three arguments.
+     *
+     * @param <L> The left-hand type of the argument and result EitherFutures
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <R> The right-hand type of the result EitherFuture
+     * @param fa  The argument EitherFuture&lt;L,&nbsp;A&gt;
+     * @param fb  The argument EitherFuture&lt;L,&nbsp;B&gt;
+     * @param fc  The argument EitherFuture&lt;L,&nbsp;C&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result EitherFuture&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, R> EitherFuture<L, R> map3(final EitherFuture<L, ? extends A> fa, final EitherFuture<L, ? extends B> fb, final EitherFuture<L, ? extends C> fc,
+            final Function3<? super A, ? super B, ? super C, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fxn);
+
+        final EitherFuture<L, R> left = firstCompletedLeft(fa, fb, fc);
+        if (left != null) {
+            return left;
+        }
+
+        // Every future is complete when allOf completes, so the joins do not block.
+        return new EitherFuture<L, R>(CompletableFuture.allOf(fa.future, fb.future, fc.future)
+            .thenApply(ignored -> Either.map3(fa.future.join(), fb.future.join(), fc.future.join(), fxn)));
+    }
+
+    /**
+     * Applicative combination of four EitherFutures.
+     * Equivalent to {@link #map2} for four arguments.
+     *
+     * @param <L> The left-hand type of the argument and result EitherFutures
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <R> The right-hand type of the result EitherFuture
+     * @param fa  The argument EitherFuture&lt;L,&nbsp;A&gt;
+     * @param fb  The argument EitherFuture&lt;L,&nbsp;B&gt;
+     * @param fc  The argument EitherFuture&lt;L,&nbsp;C&gt;
+     * @param fd  The argument EitherFuture&lt;L,&nbsp;D&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result EitherFuture&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, R> EitherFuture<L, R> map4(final EitherFuture<L, ? extends A> fa, final EitherFuture<L, ? extends B> fb, final EitherFuture<L, ? extends C> fc, final EitherFuture<L, ? extends D> fd,
+            final Function4<? super A, ? super B, ? super C, ? super D, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fxn);
+
+        final EitherFuture<L, R> left = firstCompletedLeft(fa, fb, fc, fd);
+        if (left != null) {
+            return left;
+        }
+
+        // Every future is complete when allOf completes, so the joins do not block.
+        return new EitherFuture<L, R>(CompletableFuture.allOf(fa.future, fb.future, fc.future, fd.future)
+            .thenApply(ignored -> Either.map4(fa.future.join(), fb.future.join(), fc.future.join(), fd.future.join(), fxn)));
+    }
+
+    /**
+     * Applicative combination of five EitherFutures.
+     * Equivalent to {@link #map2} for five arguments.
+     *
+     * @param <L> The left-hand type of the argument and result EitherFutures
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <R> The right-hand type of the result EitherFuture
+     * @param fa  The argument EitherFuture&lt;L,&nbsp;A&gt;
+     * @param fb  The argument EitherFuture&lt;L,&nbsp;B&gt;
+     * @param fc  The argument EitherFuture&lt;L,&nbsp;C&gt;
+     * @param fd  The argument EitherFuture&lt;L,&nbsp;D&gt;
+     * @param fe  The argument EitherFuture&lt;L,&nbsp;E&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result EitherFuture&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, R> EitherFuture<L, R> map5(final EitherFuture<L, ? extends A> fa, final EitherFuture<L, ? extends B> fb, final EitherFuture<L, ? extends C> fc, final EitherFuture<L, ? extends D> fd, final EitherFuture<L, ? extends E> fe,
+            final Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(fxn);
+
+        final EitherFuture<L, R> left = firstCompletedLeft(fa, fb, fc, fd, fe);
+        if (left != null) {
+            return left;
+        }
+
+        // Every future is complete when allOf completes, so the joins do not block.
+        return new EitherFuture<L, R>(CompletableFuture.allOf(fa.future, fb.future, fc.future, fd.future, fe.future)
+            .thenApply(ignored -> Either.map5(fa.future.join(), fb.future.join(), fc.future.join(), fd.future.join(), fe.future.join(), fxn)));
+    }
+
+    /**
+     * Applicative combination of six EitherFutures.
+     * Equivalent to {@link #map2} for six arguments.
+     *
+     * @param <L> The left-hand type of the argument and result EitherFutures
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <F> The right-hand type of argument ff
+     * @param <R> The right-hand type of the result EitherFuture
+     * @param fa  The argument EitherFuture&lt;L,&nbsp;A&gt;
+     * @param fb  The argument EitherFuture&lt;L,&nbsp;B&gt;
+     * @param fc  The argument EitherFuture&lt;L,&nbsp;C&gt;
+     * @param fd  The argument EitherFuture&lt;L,&nbsp;D&gt;
+     * @param fe  The argument EitherFuture&lt;L,&nbsp;E&gt;
+     * @param ff  The argument EitherFuture&lt;L,&nbsp;F&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result EitherFuture&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, F, R> EitherFuture<L, R> map6(final EitherFuture<L, ? extends A> fa, final EitherFuture<L, ? extends B> fb, final EitherFuture<L, ? extends C> fc, final EitherFuture<L, ? extends D> fd, final EitherFuture<L, ? extends E> fe, final EitherFuture<L, ? extends F> ff,
+            final Function6<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fxn);
+
+        final EitherFuture<L, R> left = firstCompletedLeft(fa, fb, fc, fd, fe, ff);
+        if (left != null) {
+            return left;
+        }
+
+        // Every future is complete when allOf completes, so the joins do not block.
+        return new EitherFuture<L, R>(CompletableFuture.allOf(fa.future, fb.future, fc.future, fd.future, fe.future, ff.future)
+            .thenApply(ignored -> Either.map6(fa.future.join(), fb.future.join(), fc.future.join(), fd.future.join(), fe.future.join(), ff.future.join(), fxn)));
+    }
+
+    /**
+     * Applicative combination of seven EitherFutures.
+     * Equivalent to {@link #map2} for seven arguments.
+     *
+     * @param <L> The left-hand type of the argument and result EitherFutures
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <F> The right-hand type of argument ff
+     * @param <G> The right-hand type of argument fg
+     * @param <R> The right-hand type of the result EitherFuture
+     * @param fa  The argument EitherFuture&lt;L,&nbsp;A&gt;
+     * @param fb  The argument EitherFuture&lt;L,&nbsp;B&gt;
+     * @param fc  The argument EitherFuture&lt;L,&nbsp;C&gt;
+     * @param fd  The argument EitherFuture&lt;L,&nbsp;D&gt;
+     * @param fe  The argument EitherFuture&lt;L,&nbsp;E&gt;
+     * @param ff  The argument EitherFuture&lt;L,&nbsp;F&gt;
+     * @param fg  The argument EitherFuture&lt;L,&nbsp;G&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result EitherFuture&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, F, G, R> EitherFuture<L, R> map7(final EitherFuture<L, ? extends A> fa, final EitherFuture<L, ? extends B> fb, final EitherFuture<L, ? extends C> fc, final EitherFuture<L, ? extends D> fd, final EitherFuture<L, ? extends E> fe, final EitherFuture<L, ? extends F> ff, final EitherFuture<L, ? extends G> fg,
+            final Function7<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fg);
+        Objects.requireNonNull(fxn);
+
+        final EitherFuture<L, R> left = firstCompletedLeft(fa, fb, fc, fd, fe, ff, fg);
+        if (left != null) {
+            return left;
+        }
+
+        // Every future is complete when allOf completes, so the joins do not block.
+        return new EitherFuture<L, R>(CompletableFuture.allOf(fa.future, fb.future, fc.future, fd.future, fe.future, ff.future, fg.future)
+            .thenApply(ignored -> Either.map7(fa.future.join(), fb.future.join(), fc.future.join(), fd.future.join(), fe.future.join(), ff.future.join(), fg.future.join(), fxn)));
+    }
+
+    /**
+     * Applicative combination of eight EitherFutures.
+     * Equivalent to {@link #map2} for eight arguments.
+     *
+     * @param <L> The left-hand type of the argument and result EitherFutures
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <F> The right-hand type of argument ff
+     * @param <G> The right-hand type of argument fg
+     * @param <H> The right-hand type of argument fh
+     * @param <R> The right-hand type of the result EitherFuture
+     * @param fa  The argument EitherFuture&lt;L,&nbsp;A&gt;
+     * @param fb  The argument EitherFuture&lt;L,&nbsp;B&gt;
+     * @param fc  The argument EitherFuture&lt;L,&nbsp;C&gt;
+     * @param fd  The argument EitherFuture&lt;L,&nbsp;D&gt;
+     * @param fe  The argument EitherFuture&lt;L,&nbsp;E&gt;
+     * @param ff  The argument EitherFuture&lt;L,&nbsp;F&gt;
+     * @param fg  The argument EitherFuture&lt;L,&nbsp;G&gt;
+     * @param fh  The argument EitherFuture&lt;L,&nbsp;H&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result EitherFuture&lt;L,&nbsp;R&gt;
+     */
+    public static <L, A, B, C, D, E, F, G, H, R> EitherFuture<L, R> map8(final EitherFuture<L, ? extends A> fa, final EitherFuture<L, ? extends B> fb, final EitherFuture<L, ? extends C> fc, final EitherFuture<L, ? extends D> fd, final EitherFuture<L, ? extends E> fe, final EitherFuture<L, ? extends F> ff, final EitherFuture<L, ? extends G> fg, final EitherFuture<L, ? extends H> fh,
+            final Function8<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fg);
+        Objects.requireNonNull(fh);
+        Objects.requireNonNull(fxn);
+
+        final EitherFuture<L, R> left = firstCompletedLeft(fa, fb, fc, fd, fe, ff, fg, fh);
+        if (left != null) {
+            return left;
+        }
+
+        // Every future is complete when allOf completes, so the joins do not block.
+        return new EitherFuture<L, R>(CompletableFuture.allOf(fa.future, fb.future, fc.future, fd.future, fe.future, ff.future, fg.future, fh.future)
+            .thenApply(ignored -> Either.map8(fa.future.join(), fb.future.join(), fc.future.join(), fd.future.join(), fe.future.join(), ff.future.join(), fg.future.join(), fh.future.join(), fxn)));
+    }
+
+    /**
+     * The first argument, in order, known to have completed with a Left.
+     * Stops at the first argument still running, since a Left before it would take precedence.
+     */
+    @SafeVarargs
+    private static <L, R> EitherFuture<L, R> firstCompletedLeft(final EitherFuture<L, ?>... fas) {
+        for (EitherFuture<L, ?> fa : fas) {
+            if (!fa.future.isDone() || fa.future.isCompletedExceptionally()) {
+                return null;
+            }
+            if (fa.future.join().isLeft()) {
+                return fa.coerce();
+            }
+        }
+        return null;
+    }
+
+    private boolean isCompletedLeft() {
+        return future.isDone() && !future.isCompletedExceptionally() && future.join().isLeft();
+    }
+
+    /**
+     * Re-types this EitherFuture; only called once it is known to hold a Left, whose right-hand type is a phantom.
+     */
+    @SuppressWarnings("unchecked")
+    private <B> EitherFuture<L, B> coerce() {
+        return (EitherFuture<L, B>) (EitherFuture<L, ?>) this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EitherFuture[%s]", future.isDone() && !future.isCompletedExceptionally() ? future.join() : future);
+    }
+}
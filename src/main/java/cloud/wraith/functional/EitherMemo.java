@@ -0,0 +1,318 @@
+package cloud.wraith.functional;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe memoization of an Either-returning function.
+ *
+ * <p>Rights and Lefts are cached under separate policies, so that, for example, successful lookups
+ * are kept for an hour while failures are kept for a few seconds or not at all.
+ *
+ * <p>Each cache is split into segments by key hash. A segment is an access-ordered LinkedHashMap
+ * behind its own lock and evicts its least recently used entries when it goes over its share of
+ * the maximum weight, so recency is exact within a segment and approximate across the cache.
+ * The function is called outside every lock; two threads that miss on the same key at the same
+ * time may both call it, and the later result is kept.
+ *
+ * @param <A> The argument type; keys must have consistent equals and hashCode
+ * @param <L> The left-hand type
+ * @param <B> The right-hand type
+ */
+public final class EitherMemo<A, L, B> implements Function<A, Either<L, B>> {
+    /** Segments hold at least this much weight, so small caches are not split into uselessly tiny LRUs. */
+    private static final long MIN_SEGMENT_WEIGHT = 16L;
+    private static final int MAX_SEGMENTS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+
+    private final Function<? super A, Either<L, B>> fxn;
+    private final Cache<A> rights;
+    private final Cache<A> lefts;
+
+    private EitherMemo(final Function<? super A, Either<L, B>> fxn, final CachePolicy rightPolicy, final CachePolicy leftPolicy) {
+        this.fxn = fxn;
+        this.rights = Cache.of(rightPolicy);
+        this.lefts = Cache.of(leftPolicy);
+    }
+
+    /**
+     * Memoize a function, caching Lefts and Rights under the same policy.
+     *
+     * @param <A>    The argument type
+     * @param <L>    The left-hand type
+     * @param <B>    The right-hand type
+     * @param fxn    The function to memoize
+     * @param policy The policy for both Lefts and Rights
+     * @return The memoized function
+     */
+    public static <A, L, B> EitherMemo<A, L, B> memoize(final Function<? super A, Either<L, B>> fxn, final CachePolicy policy) {
+        return memoize(fxn, policy, policy);
+    }
+
+    /**
+     * Memoize a function, caching Lefts and Rights under separate policies.
+     * Each policy bounds its own side; use CachePolicy.disabled() to cache only one side.
+     *
+     * @param <A>         The argument type
+     * @param <L>         The left-hand type
+     * @param <B>         The right-hand type
+     * @param fxn         The function to memoize
+     * @param rightPolicy The policy for Rights
+     * @param leftPolicy  The policy for Lefts
+     * @return The memoized function
+     */
+    public static <A, L, B> EitherMemo<A, L, B> memoize(final Function<? super A, Either<L, B>> fxn,
+            final CachePolicy rightPolicy, final CachePolicy leftPolicy) {
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(rightPolicy);
+        Objects.requireNonNull(leftPolicy);
+
+        return new EitherMemo<A, L, B>(fxn, rightPolicy, leftPolicy);
+    }
+
+    /**
+     * The cached result for the argument, or the result of the function, which is then cached.
+     *
+     * @param arg The argument; must not be null
+     * @return The result Either&lt;L,&nbsp;B&gt;
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Either<L, B> apply(final A arg) {
+        Objects.requireNonNull(arg);
+
+        Either<?, ?> cached = rights.get(arg);
+        if (cached == null) {
+            cached = lefts.get(arg);
+        }
+        if (cached != null) {
+            return (Either<L, B>) cached;
+        }
+
+        final Either<L, B> result = Objects.requireNonNull(fxn.apply(arg));
+        (result.isLeft() ? lefts : rights).put(arg, result);
+        return result;
+    }
+
+    /**
+     * Counters for the cached Rights.
+     */
+    public CacheStats rightStats() {
+        return rights.stats();
+    }
+
+    /**
+     * Counters for the cached Lefts.
+     */
+    public CacheStats leftStats() {
+        return lefts.stats();
+    }
+
+    /**
+     * Counters for the whole memo.
+     * A miss is a call that went to the function; lookups that miss the Right cache and then
+     * hit the Left cache count as a hit only.
+     */
+    public CacheStats stats() {
+        final CacheStats right = rights.stats();
+        final CacheStats left = lefts.stats();
+        return new CacheStats(right.hits() + left.hits(), left.misses(), right.evictions() + left.evictions(),
+            right.expirations() + left.expirations());
+    }
+
+    /**
+     * The number of cached entries, including any that have expired but not yet been removed.
+     */
+    public long size() {
+        return rights.size() + lefts.size();
+    }
+
+    /**
+     * Remove the cached result for the argument, if any.
+     */
+    public void invalidate(final A arg) {
+        Objects.requireNonNull(arg);
+        rights.remove(arg);
+        lefts.remove(arg);
+    }
+
+    /**
+     * Remove every cached result.
+     */
+    public void invalidateAll() {
+        rights.clear();
+        lefts.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EitherMemo[rights=%s, lefts=%s]", rights.policy, lefts.policy);
+    }
+
+    /**
+     * A segmented LRU cache for one side of the memo.
+     */
+    private static final class Cache<K> {
+        private final CachePolicy policy;
+        private final Segment<K>[] segments;
+        private final int mask;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder expirations = new LongAdder();
+
+        @SuppressWarnings("unchecked")
+        private Cache(final CachePolicy policy, final int segmentCount) {
+            this.policy = policy;
+            this.segments = (Segment<K>[]) new Segment<?>[segmentCount];
+            this.mask = segmentCount - 1;
+
+            final long share = policy.maximumWeight() / segmentCount;
+            final long extra = policy.maximumWeight() % segmentCount;
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = new Segment<K>(share + (i < extra ? 1 : 0));
+            }
+        }
+
+        private static <K> Cache<K> of(final CachePolicy policy) {
+            if (policy.isDisabled()) {
+                return new Cache<K>(policy, 1);
+            }
+
+            int segmentCount = 1;
+            while (segmentCount < MAX_SEGMENTS && policy.maximumWeight() / (segmentCount * 2L) >= MIN_SEGMENT_WEIGHT) {
+                segmentCount *= 2;
+            }
+            return new Cache<K>(policy, segmentCount);
+        }
+
+        private Segment<K> segmentFor(final Object key) {
+            final int h = key.hashCode();
+            return segments[(h ^ (h >>> 16)) & mask];
+        }
+
+        Either<?, ?> get(final K key) {
+            if (policy.isDisabled()) {
+                misses.increment();
+                return null;
+            }
+
+            final Segment<K> segment = segmentFor(key);
+            final Either<?, ?> value;
+            synchronized (segment) {
+                final Entry entry = segment.map.get(key);
+                if (entry == null) {
+                    value = null;
+                } else if (entry.expiresAt != 0L && policy.now() - entry.expiresAt >= 0L) {
+                    segment.map.remove(key);
+                    segment.weight -= entry.weight;
+                    expirations.increment();
+                    value = null;
+                } else {
+                    value = entry.value;
+                }
+            }
+
+            (value == null ? misses : hits).increment();
+            return value;
+        }
+
+        void put(final K key, final Either<?, ?> value) {
+            if (policy.isDisabled()) {
+                return;
+            }
+
+            final long weight = policy.weigh(value);
+            final long ttl = policy.expireAfterWriteNanos();
+            final long expiresAt = ttl == 0L ? 0L : (policy.now() + ttl) | 1L;
+            final Segment<K> segment = segmentFor(key);
+            if (weight > segment.maximumWeight) {
+                return;
+            }
+
+            long evicted = 0L;
+            synchronized (segment) {
+                final Entry previous = segment.map.put(key, new Entry(value, weight, expiresAt));
+                if (previous != null) {
+                    segment.weight -= previous.weight;
+                }
+                segment.weight += weight;
+
+                final Iterator<Entry> eldest = segment.map.values().iterator();
+                while (segment.weight > segment.maximumWeight) {
+                    segment.weight -= eldest.next().weight;
+                    eldest.remove();
+                    evicted++;
+                }
+            }
+
+            if (evicted > 0L) {
+                evictions.add(evicted);
+            }
+        }
+
+        void remove(final K key) {
+            final Segment<K> segment = segmentFor(key);
+            synchronized (segment) {
+                final Entry entry = segment.map.remove(key);
+                if (entry != null) {
+                    segment.weight -= entry.weight;
+                }
+            }
+        }
+
+        void clear() {
+            for (final Segment<K> segment : segments) {
+                synchronized (segment) {
+                    segment.map.clear();
+                    segment.weight = 0L;
+                }
+            }
+        }
+
+        long size() {
+            long size = 0L;
+            for (final Segment<K> segment : segments) {
+                synchronized (segment) {
+                    size += segment.map.size();
+                }
+            }
+            return size;
+        }
+
+        CacheStats stats() {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+        }
+    }
+
+    /**
+     * One lock's worth of the cache; the map is in access order, eldest first.
+     */
+    private static final class Segment<K> {
+        private final Map<K, Entry> map = new LinkedHashMap<K, Entry>(16, 0.75f, true);
+        private final long maximumWeight;
+        private long weight;
+
+        private Segment(final long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+    }
+
+    /**
+     * A cached result; expiresAt is zero when the entry never expires, and is otherwise forced odd so it cannot be zero.
+     */
+    private static final class Entry {
+        private final Either<?, ?> value;
+        private final long weight;
+        private final long expiresAt;
+
+        private Entry(final Either<?, ?> value, final long weight, final long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
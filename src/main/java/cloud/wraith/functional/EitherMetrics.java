@@ -0,0 +1,276 @@
+package cloud.wraith.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Opt-in counts of Lefts and Rights, and latency histograms, for named pipeline stages.
+ *
+ * <p>Stages are instrumented by wrapping the function passed to map or bind, or by taking the
+ * applicative application of a stage from apply:
+ *
+ * <pre>
+ * either.bind(EitherMetrics.bind("parse", parse))
+ * pipeline.map(EitherMetrics.map("normalise", normalise))
+ * EitherMetrics.&lt;String, Order, Price&gt;apply("price").apply(pricing, order)
+ * </pre>
+ *
+ * <p>Metrics are enabled by starting the JVM with {@code -Dcloud.wraith.functional.metrics=true}.
+ * The flag is read once into a constant; when it is off, bind and map return the function they
+ * are given, and apply returns Either::fapply, so an uninstrumented build and an instrumented
+ * one run the same code.
+ *
+ * <p>Counts are kept in LongAdders, so stages that run on many threads do not contend on them.
+ * Latencies are recorded in nanoseconds in a log-linear histogram that is accurate to about 3%,
+ * and striped across threads in the same way.
+ * A snapshot can be read in-process, or written out in the Prometheus text format.
+ */
+public final class EitherMetrics {
+
+    /**
+     * The system property that enables metrics.
+     */
+    public static final String ENABLED_PROPERTY = "cloud.wraith.functional.metrics";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final EitherMetrics GLOBAL = new EitherMetrics();
+    private static final double[] EXPORTED_PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Map<String, Stage> stages = new ConcurrentHashMap<String, Stage>();
+
+    /**
+     * Metrics of its own; the public API records into the global instance.
+     */
+    EitherMetrics() {
+    }
+
+    /**
+     * The metrics recorded by the instrumented stages of this JVM.
+     */
+    public static EitherMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Whether metrics were enabled when the JVM started.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Instrument a bind stage, counting the Lefts and Rights it returns.
+     *
+     * @param <A>   The argument type
+     * @param <E>   The Either type returned
+     * @param stage The stage name
+     * @param fxn   The bind function
+     * @return The instrumented function, or fxn itself when metrics are disabled
+     */
+    public static <A, E extends Either<?, ?>> Function<A, E> bind(final String stage, final Function<A, E> fxn) {
+        return ENABLED ? GLOBAL.instrumentBind(stage, fxn) : Objects.requireNonNull(fxn);
+    }
+
+    /**
+     * Instrument a map stage, counting each call as a Right.
+     *
+     * @param <A>   The argument type
+     * @param <B>   The result type
+     * @param stage The stage name
+     * @param fxn   The mapping function
+     * @return The instrumented function, or fxn itself when metrics are disabled
+     */
+    public static <A, B> Function<A, B> map(final String stage, final Function<A, B> fxn) {
+        return ENABLED ? GLOBAL.instrumentMap(stage, fxn) : Objects.requireNonNull(fxn);
+    }
+
+    /**
+     * The applicative application of a stage, counting the Lefts and Rights it returns.
+     *
+     * @param <L>   The left-hand type
+     * @param <A>   The argument type of the wrapped function
+     * @param <B>   The right-hand type of the result
+     * @param stage The stage name
+     * @return The instrumented application, or Either::fapply itself when metrics are disabled
+     */
+    public static <L, A, B> BiFunction<Either<L, Function<? super A, ? extends B>>, Either<L, A>, Either<L, B>> apply(final String stage) {
+        return ENABLED ? GLOBAL.<L, A, B>instrumentApply(stage) : Either::fapply;
+    }
+
+    <A, E extends Either<?, ?>> Function<A, E> instrumentBind(final String name, final Function<A, E> fxn) {
+        Objects.requireNonNull(fxn);
+        final Stage stage = stage(name);
+        return a -> {
+            final long start = System.nanoTime();
+            final E either = fxn.apply(a);
+            stage.latency.record(System.nanoTime() - start);
+            (either.isLeft() ? stage.lefts : stage.rights).increment();
+            return either;
+        };
+    }
+
+    <A, B> Function<A, B> instrumentMap(final String name, final Function<A, B> fxn) {
+        Objects.requireNonNull(fxn);
+        final Stage stage = stage(name);
+        return a -> {
+            final long start = System.nanoTime();
+            final B b = fxn.apply(a);
+            stage.latency.record(System.nanoTime() - start);
+            stage.rights.increment();
+            return b;
+        };
+    }
+
+    <L, A, B> BiFunction<Either<L, Function<? super A, ? extends B>>, Either<L, A>, Either<L, B>> instrumentApply(final String name) {
+        final Stage stage = stage(name);
+        return (ffxn, fa) -> {
+            final long start = System.nanoTime();
+            final Either<L, B> either = Either.fapply(ffxn, fa);
+            stage.latency.record(System.nanoTime() - start);
+            (either.isLeft() ? stage.lefts : stage.rights).increment();
+            return either;
+        };
+    }
+
+    private Stage stage(final String name) {
+        Objects.requireNonNull(name);
+        return stages.computeIfAbsent(name, n -> new Stage());
+    }
+
+    /**
+     * A snapshot of every stage, sorted by name.
+     */
+    public List<StageSnapshot> snapshot() {
+        final List<StageSnapshot> snapshots = new ArrayList<StageSnapshot>(stages.size());
+        stages.forEach((name, stage) -> snapshots.add(new StageSnapshot(name, stage)));
+        snapshots.sort((x, y) -> x.stage.compareTo(y.stage));
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    /**
+     * Write a snapshot in the Prometheus text exposition format.
+     *
+     * @param out The destination
+     * @throws IOException If the destination throws
+     */
+    public void writeTo(final Appendable out) throws IOException {
+        Objects.requireNonNull(out);
+
+        final List<StageSnapshot> snapshots = snapshot();
+        out.append("# TYPE either_stage_results_total counter\n");
+        for (final StageSnapshot s : snapshots) {
+            final String label = escape(s.stage);
+            out.append(String.format("either_stage_results_total{stage=\"%s\",result=\"left\"} %d%n", label, s.lefts));
+            out.append(String.format("either_stage_results_total{stage=\"%s\",result=\"right\"} %d%n", label, s.rights));
+        }
+        out.append("# TYPE either_stage_latency_seconds summary\n");
+        for (final StageSnapshot s : snapshots) {
+            final String label = escape(s.stage);
+            for (final double p : EXPORTED_PERCENTILES) {
+                out.append(String.format(Locale.ROOT, "either_stage_latency_seconds{stage=\"%s\",quantile=\"%s\"} %.9f%n",
+                    label, p / 100.0, s.percentile(p) / 1e9));
+            }
+            out.append(String.format("either_stage_latency_seconds_count{stage=\"%s\"} %d%n", label, s.count()));
+        }
+    }
+
+    private static String escape(final String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * The live metrics of one stage.
+     */
+    private static final class Stage {
+        private final LongAdder lefts = new LongAdder();
+        private final LongAdder rights = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    /**
+     * The metrics of one stage at a point in time.
+     */
+    public static final class StageSnapshot {
+        private final String stage;
+        private final long lefts;
+        private final long rights;
+        private final long[] latencies;
+        private final long recorded;
+
+        private StageSnapshot(final String stage, final Stage live) {
+            this.stage = stage;
+            this.lefts = live.lefts.sum();
+            this.rights = live.rights.sum();
+            this.latencies = live.latency.counts();
+            long total = 0L;
+            for (final long count : latencies) {
+                total += count;
+            }
+            this.recorded = total;
+        }
+
+        /**
+         * The stage name.
+         */
+        public String stage() {
+            return stage;
+        }
+
+        /**
+         * The number of Lefts the stage returned.
+         */
+        public long lefts() {
+            return lefts;
+        }
+
+        /**
+         * The number of Rights the stage returned.
+         */
+        public long rights() {
+            return rights;
+        }
+
+        /**
+         * The number of calls that completed.
+         */
+        public long count() {
+            return lefts + rights;
+        }
+
+        /**
+         * The fraction of calls that returned a Left, or zero if there were none.
+         */
+        public double leftRate() {
+            final long count = count();
+            return count == 0L ? 0.0 : (double) lefts / count;
+        }
+
+        /**
+         * The latency at a percentile, in nanoseconds.
+         *
+         * @param percentile The percentile, from 0 to 100
+         * @return The latency, or zero if there were no calls
+         */
+        public long percentile(final double percentile) {
+            if (percentile < 0.0 || percentile > 100.0) {
+                throw new IllegalArgumentException(String.format("Percentile of %s should be between 0 and 100", percentile));
+            }
+            return LatencyHistogram.valueAtPercentile(latencies, recorded, percentile);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("StageSnapshot[%s: lefts=%d, rights=%d, p50=%dns, p99=%dns]",
+                stage, lefts, rights, percentile(50.0), percentile(99.0));
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package cloud.wraith.functional;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Applicative combination of Eithers whose arguments are evaluated concurrently.
+ *
+ * <p>Either.map3(fa, fb, fc, f) needs every argument computed first, so slow lookups run one
+ * after another. EitherParallel.map3 takes Suppliers instead and runs each on its own virtual
+ * thread, so the latency is that of the slowest argument rather than the sum of them all.
+ *
+ * <p>The result is the same as the sequential form: the first Left in argument order, or a
+ * Right of the function applied to every right-hand value. When an argument yields a Left, the
+ * arguments after it are interrupted, since their results can no longer matter; the ones before
+ * it are still awaited, since one of them may yield an earlier Left. A supplier that throws is
+ * treated the same way, and its exception is rethrown to the caller once every earlier argument
+ * has completed with a Right.
+ *
+ * <p>No supplier is still running when a method returns or throws: the interrupted arguments
+ * are awaited too. Suppliers should therefore respond to interruption, as blocking I/O and
+ * Thread.sleep do, for cancellation to save any time.
+ */
+public final class EitherParallel {
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private EitherParallel() {
+    }
+
+    /**
+     * Evaluate the Eithers concurrently and sequence them.
+     *
+     * @param <L>       The left-hand type
+     * @param <A>       The right-hand type
+     * @param suppliers Supply the Eithers
+     * @return The first Left in list order, or a Right of the unmodifiable list of right-hand values
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A> Either<L, List<A>> sequence(final List<? extends Supplier<? extends Either<L, ? extends A>>> suppliers) {
+        Objects.requireNonNull(suppliers);
+
+        final Either<L, Object[]> all = evaluate((Supplier<? extends Either<L, ?>>[]) suppliers.toArray(new Supplier<?>[0]));
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+        return Either.right(Collections.unmodifiableList((List<A>) Arrays.asList(all.rightOrNull())));
+    }
+
+    /**
+     * Evaluate two Eithers concurrently and combine them.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Concurrent counterpart of Either.map2.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <R> The right-hand type of the result Either
+     * @param fa  Supplies the argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  Supplies the argument Either&lt;L,&nbsp;B&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, R> Either<L, R> map2(final Supplier<? extends Either<L, ? extends A>> fa,
+            final Supplier<? extends Either<L, ? extends B>> fb,
+            final BiFunction<? super A, ? super B, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fxn);
+
+        final Either<L, Object[]> all = evaluate(fa, fb);
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+
+        final Object[] values = all.rightOrNull();
+        return Either.right(fxn.apply((A) values[0], (B) values[1]));
+    }
+
+    /**
+     * Evaluate three Eithers concurrently and combine them.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Concurrent counterpart of Either.map3.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <R> The right-hand type of the result Either
+     * @param fa  Supplies the argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  Supplies the argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  Supplies the argument Either&lt;L,&nbsp;C&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, R> Either<L, R> map3(final Supplier<? extends Either<L, ? extends A>> fa,
+            final Supplier<? extends Either<L, ? extends B>> fb,
+            final Supplier<? extends Either<L, ? extends C>> fc,
+            final Function3<? super A, ? super B, ? super C, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fxn);
+
+        final Either<L, Object[]> all = evaluate(fa, fb, fc);
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+
+        final Object[] values = all.rightOrNull();
+        return Either.right(fxn.apply((A) values[0], (B) values[1], (C) values[2]));
+    }
+
+    /**
+     * Evaluate four Eithers concurrently and combine them.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Concurrent counterpart of Either.map4.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <R> The right-hand type of the result Either
+     * @param fa  Supplies the argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  Supplies the argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  Supplies the argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  Supplies the argument Either&lt;L,&nbsp;D&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, R> Either<L, R> map4(final Supplier<? extends Either<L, ? extends A>> fa,
+            final Supplier<? extends Either<L, ? extends B>> fb,
+            final Supplier<? extends Either<L, ? extends C>> fc,
+            final Supplier<? extends Either<L, ? extends D>> fd,
+            final Function4<? super A, ? super B, ? super C, ? super D, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fxn);
+
+        final Either<L, Object[]> all = evaluate(fa, fb, fc, fd);
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+
+        final Object[] values = all.rightOrNull();
+        return Either.right(fxn.apply((A) values[0], (B) values[1], (C) values[2], (D) values[3]));
+    }
+
+    /**
+     * Evaluate five Eithers concurrently and combine them.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Concurrent counterpart of Either.map5.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <R> The right-hand type of the result Either
+     * @param fa  Supplies the argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  Supplies the argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  Supplies the argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  Supplies the argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  Supplies the argument Either&lt;L,&nbsp;E&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, R> Either<L, R> map5(final Supplier<? extends Either<L, ? extends A>> fa,
+            final Supplier<? extends Either<L, ? extends B>> fb,
+            final Supplier<? extends Either<L, ? extends C>> fc,
+            final Supplier<? extends Either<L, ? extends D>> fd,
+            final Supplier<? extends Either<L, ? extends E>> fe,
+            final Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(fxn);
+
+        final Either<L, Object[]> all = evaluate(fa, fb, fc, fd, fe);
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+
+        final Object[] values = all.rightOrNull();
+        return Either.right(fxn.apply((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4]));
+    }
+
+    /**
+     * Evaluate six Eithers concurrently and combine them.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Concurrent counterpart of Either.map6.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <F> The right-hand type of argument ff
+     * @param <R> The right-hand type of the result Either
+     * @param fa  Supplies the argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  Supplies the argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  Supplies the argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  Supplies the argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  Supplies the argument Either&lt;L,&nbsp;E&gt;
+     * @param ff  Supplies the argument Either&lt;L,&nbsp;F&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, F, R> Either<L, R> map6(final Supplier<? extends Either<L, ? extends A>> fa,
+            final Supplier<? extends Either<L, ? extends B>> fb,
+            final Supplier<? extends Either<L, ? extends C>> fc,
+            final Supplier<? extends Either<L, ? extends D>> fd,
+            final Supplier<? extends Either<L, ? extends E>> fe,
+            final Supplier<? extends Either<L, ? extends F>> ff,
+            final Function6<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fxn);
+
+        final Either<L, Object[]> all = evaluate(fa, fb, fc, fd, fe, ff);
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+
+        final Object[] values = all.rightOrNull();
+        return Either.right(fxn.apply((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5]));
+    }
+
+    /**
+     * Evaluate seven Eithers concurrently and combine them.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Concurrent counterpart of Either.map7.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <F> The right-hand type of argument ff
+     * @param <G> The right-hand type of argument fg
+     * @param <R> The right-hand type of the result Either
+     * @param fa  Supplies the argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  Supplies the argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  Supplies the argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  Supplies the argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  Supplies the argument Either&lt;L,&nbsp;E&gt;
+     * @param ff  Supplies the argument Either&lt;L,&nbsp;F&gt;
+     * @param fg  Supplies the argument Either&lt;L,&nbsp;G&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, F, G, R> Either<L, R> map7(final Supplier<? extends Either<L, ? extends A>> fa,
+            final Supplier<? extends Either<L, ? extends B>> fb,
+            final Supplier<? extends Either<L, ? extends C>> fc,
+            final Supplier<? extends Either<L, ? extends D>> fd,
+            final Supplier<? extends Either<L, ? extends E>> fe,
+            final Supplier<? extends Either<L, ? extends F>> ff,
+            final Supplier<? extends Either<L, ? extends G>> fg,
+            final Function7<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fg);
+        Objects.requireNonNull(fxn);
+
+        final Either<L, Object[]> all = evaluate(fa, fb, fc, fd, fe, ff, fg);
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+
+        final Object[] values = all.rightOrNull();
+        return Either.right(fxn.apply((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6]));
+    }
+
+    /**
+     * Evaluate eight Eithers concurrently and combine them.
+     * Returns the first Left in argument order, or a Right of the function applied to every right-hand value.
+     *
+     * <p>Concurrent counterpart of Either.map8.
+     *
+     * @param <L> The left-hand type of the argument and result Eithers
+     * @param <A> The right-hand type of argument fa
+     * @param <B> The right-hand type of argument fb
+     * @param <C> The right-hand type of argument fc
+     * @param <D> The right-hand type of argument fd
+     * @param <E> The right-hand type of argument fe
+     * @param <F> The right-hand type of argument ff
+     * @param <G> The right-hand type of argument fg
+     * @param <H> The right-hand type of argument fh
+     * @param <R> The right-hand type of the result Either
+     * @param fa  Supplies the argument Either&lt;L,&nbsp;A&gt;
+     * @param fb  Supplies the argument Either&lt;L,&nbsp;B&gt;
+     * @param fc  Supplies the argument Either&lt;L,&nbsp;C&gt;
+     * @param fd  Supplies the argument Either&lt;L,&nbsp;D&gt;
+     * @param fe  Supplies the argument Either&lt;L,&nbsp;E&gt;
+     * @param ff  Supplies the argument Either&lt;L,&nbsp;F&gt;
+     * @param fg  Supplies the argument Either&lt;L,&nbsp;G&gt;
+     * @param fh  Supplies the argument Either&lt;L,&nbsp;H&gt;
+     * @param fxn The function to apply to the right-hand values
+     * @return The result Either&lt;L,&nbsp;R&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A, B, C, D, E, F, G, H, R> Either<L, R> map8(final Supplier<? extends Either<L, ? extends A>> fa,
+            final Supplier<? extends Either<L, ? extends B>> fb,
+            final Supplier<? extends Either<L, ? extends C>> fc,
+            final Supplier<? extends Either<L, ? extends D>> fd,
+            final Supplier<? extends Either<L, ? extends E>> fe,
+            final Supplier<? extends Either<L, ? extends F>> ff,
+            final Supplier<? extends Either<L, ? extends G>> fg,
+            final Supplier<? extends Either<L, ? extends H>> fh,
+            final Function8<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> fxn) {
+        Objects.requireNonNull(fa);
+        Objects.requireNonNull(fb);
+        Objects.requireNonNull(fc);
+        Objects.requireNonNull(fd);
+        Objects.requireNonNull(fe);
+        Objects.requireNonNull(ff);
+        Objects.requireNonNull(fg);
+        Objects.requireNonNull(fh);
+        Objects.requireNonNull(fxn);
+
+        final Either<L, Object[]> all = evaluate(fa, fb, fc, fd, fe, ff, fg, fh);
+        if (all.isLeft()) {
+            return Either.coerceLeft(all);
+        }
+
+        final Object[] values = all.rightOrNull();
+        return Either.right(fxn.apply((A) values[0], (B) values[1], (C) values[2], (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7]));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs") // The array is only read, never written or exposed.
+    private static <L> Either<L, Object[]> evaluate(final Supplier<? extends Either<L, ?>>... suppliers) {
+        for (final Supplier<? extends Either<L, ?>> supplier : suppliers) {
+            Objects.requireNonNull(supplier);
+        }
+        return new Evaluation<L>(suppliers).run();
+    }
+
+    /**
+     * One concurrent evaluation: a virtual thread per argument, and the lowest index that has
+     * ended in a Left or an exception, above which every argument is interrupted.
+     */
+    private static final class Evaluation<L> {
+        private final Supplier<? extends Either<L, ?>>[] suppliers;
+        private final Thread[] threads;
+        private final Object[] outcomes;
+        private final AtomicInteger leftmost;
+
+        private Evaluation(final Supplier<? extends Either<L, ?>>[] suppliers) {
+            this.suppliers = suppliers;
+            this.threads = new Thread[suppliers.length];
+            this.outcomes = new Object[suppliers.length];
+            this.leftmost = new AtomicInteger(suppliers.length);
+        }
+
+        @SuppressWarnings("unchecked")
+        Either<L, Object[]> run() {
+            final Thread.Builder builder = Thread.ofVirtual().name("EitherParallel-", 0);
+            for (int i = 0; i < threads.length; i++) {
+                final int index = i;
+                threads[i] = builder.unstarted(() -> evaluateArgument(index));
+            }
+            for (final Thread thread : threads) {
+                thread.start();
+            }
+
+            // Thread.join orders each outcome write before the read below.
+            final Object[] values = new Object[threads.length];
+            try {
+                for (int i = 0; i < threads.length; i++) {
+                    threads[i].join();
+                    final Object outcome = outcomes[i];
+                    if (outcome instanceof Throwable) {
+                        awaitAbove(i);
+                        throw rethrow((Throwable) outcome);
+                    }
+                    final Either<L, ?> either = (Either<L, ?>) outcome;
+                    if (either.isLeft()) {
+                        awaitAbove(i);
+                        return Either.coerceLeft(either);
+                    }
+                    values[i] = either.rightOrNull();
+                }
+            } catch (final InterruptedException e) {
+                awaitAbove(-1);
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while evaluating arguments");
+            }
+            return Either.right(values);
+        }
+
+        private void evaluateArgument(final int index) {
+            Object outcome;
+            try {
+                outcome = Objects.requireNonNull(suppliers[index].get());
+            } catch (final Throwable t) {
+                outcome = t;
+            }
+            outcomes[index] = outcome;
+
+            if (outcome instanceof Throwable || ((Either<?, ?>) outcome).isLeft()) {
+                int current = leftmost.get();
+                while (index < current && !leftmost.compareAndSet(current, index)) {
+                    current = leftmost.get();
+                }
+                if (index < current) {
+                    cancelAbove(index, current);
+                }
+            }
+        }
+
+        /**
+         * Interrupt the arguments between the indexes, exclusive; those from the upper bound on were interrupted already.
+         */
+        private void cancelAbove(final int index, final int upper) {
+            for (int i = index + 1; i < upper; i++) {
+                threads[i].interrupt();
+            }
+        }
+
+        /**
+         * Interrupt the arguments after the index and wait for them to finish, keeping any interrupt of the caller for later.
+         */
+        private void awaitAbove(final int index) {
+            cancelAbove(index, threads.length);
+            boolean interrupted = false;
+            for (int i = index + 1; i < threads.length; i++) {
+                while (true) {
+                    try {
+                        threads[i].join();
+                        break;
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private static RuntimeException rethrow(final Throwable t) {
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new CompletionException(t);
+        }
+    }
+}
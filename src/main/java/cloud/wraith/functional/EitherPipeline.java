@@ -0,0 +1,211 @@
+package cloud.wraith.functional;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Kleisli composition of Either-returning functions into a flat pipeline.
+ *
+ * <p>A chain written as {@code a -> f(a).bind(g).bind(h)} nests a lambda per stage and returns
+ * an Either from every hop. A pipeline keeps its stages in one array and runs them in a single
+ * loop. Values pass between stages unwrapped, the loop stops at the first Left, and the only
+ * Eithers are those the bind stages return themselves. Adjacent map stages are fused into one
+ * stage when the pipeline is built.
+ *
+ * <p>{@code} (>=>) :: (a -> Either l b) -> (b -> Either l c) -> a -> Either l c {code}
+ *
+ * <p>Pipelines are immutable; each builder method returns a new pipeline and leaves this one
+ * unchanged, so a pipeline can be shared between threads and extended in several ways.
+ *
+ * @param <L> The left-hand type
+ * @param <A> The argument type
+ * @param <B> The right-hand type of the result
+ */
+public final class EitherPipeline<L, A, B> implements Function<A, Either<L, B>> {
+    private static final EitherPipeline<?, ?, ?> IDENTITY = new EitherPipeline<Object, Object, Object>(new Function<?, ?>[0], new boolean[0]);
+
+    private final Function<Object, Object>[] stages;
+    private final boolean[] binds;
+
+    @SuppressWarnings("unchecked")
+    private EitherPipeline(final Function<?, ?>[] stages, final boolean[] binds) {
+        this.stages = (Function<Object, Object>[]) stages;
+        this.binds = binds;
+    }
+
+    /**
+     * The empty pipeline, which returns a Right of its argument.
+     *
+     * @param <L> The left-hand type
+     * @param <A> The argument type
+     * @return The identity pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, A> EitherPipeline<L, A, A> identity() {
+        return (EitherPipeline<L, A, A>) IDENTITY;
+    }
+
+    /**
+     * A pipeline of a single bind stage.
+     *
+     * @param <L> The left-hand type
+     * @param <A> The argument type
+     * @param <B> The right-hand type of the result
+     * @param fxn The first stage
+     * @return The pipeline
+     */
+    public static <L, A, B> EitherPipeline<L, A, B> of(final Function<? super A, Either<L, ? extends B>> fxn) {
+        return EitherPipeline.<L, A>identity().bind(fxn);
+    }
+
+    /**
+     * Add a map stage; fused with the last stage if that is a map too.
+     * The mapping function must not return null.
+     *
+     * @param <C> The right-hand type of the result
+     * @param fxn The mapping function
+     * @return The extended pipeline
+     */
+    public <C> EitherPipeline<L, A, C> map(final Function<? super B, ? extends C> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final int last = stages.length - 1;
+        if (last >= 0 && !binds[last]) {
+            final Function<?, ?>[] fused = stages.clone();
+            fused[last] = FusedMap.of(stages[last], fxn);
+            return new EitherPipeline<L, A, C>(fused, binds);
+        }
+        return append(fxn, false);
+    }
+
+    /**
+     * Add a bind stage.
+     *
+     * @param <C> The right-hand type of the result
+     * @param fxn The function from a right-hand value to the next Either
+     * @return The extended pipeline
+     */
+    public <C> EitherPipeline<L, A, C> bind(final Function<? super B, Either<L, ? extends C>> fxn) {
+        Objects.requireNonNull(fxn);
+        return append(fxn, true);
+    }
+
+    /**
+     * Kleisli composition; run this pipeline and then the next.
+     * The two are flattened into one pipeline, fusing maps across the join.
+     *
+     * @param <C>  The right-hand type of the result
+     * @param next The pipeline to run on this pipeline's right-hand value
+     * @return The composed pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public <C> EitherPipeline<L, A, C> andThen(final EitherPipeline<L, ? super B, C> next) {
+        Objects.requireNonNull(next);
+
+        EitherPipeline<L, A, Object> composed = (EitherPipeline<L, A, Object>) this;
+        for (int i = 0; i < next.stages.length; i++) {
+            composed = next.binds[i]
+                ? composed.bind((Function<Object, Either<L, ?>>) (Function<?, ?>) next.stages[i])
+                : composed.map(next.stages[i]);
+        }
+        return (EitherPipeline<L, A, C>) composed;
+    }
+
+    /**
+     * Run the pipeline.
+     *
+     * @param arg The argument
+     * @return The first Left, or the result of the last stage
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Either<L, B> apply(final A arg) {
+        Object value = arg;
+        Either<L, ?> either = null;
+        for (int i = 0; i < stages.length; i++) {
+            if (binds[i]) {
+                either = (Either<L, ?>) stages[i].apply(value);
+                if (either.isLeft()) {
+                    return Either.coerceLeft(either);
+                }
+                value = either.rightOrNull();
+            } else {
+                value = Objects.requireNonNull(stages[i].apply(value));
+                either = null;
+            }
+        }
+        // A pipeline that ends with a bind returns that stage's Either rather than rewrapping its value.
+        return either != null ? (Either<L, B>) either : Either.<L, B>right((B) value);
+    }
+
+    /**
+     * Run the pipeline on the right-hand value of an Either; a Left is returned unchanged.
+     *
+     * @param either The source Either
+     * @return The result Either&lt;L,&nbsp;B&gt;
+     */
+    public Either<L, B> applyTo(final Either<L, ? extends A> either) {
+        Objects.requireNonNull(either);
+        return either.isLeft() ? Either.<L, B>coerceLeft(either) : apply(either.rightOrNull());
+    }
+
+    /**
+     * The number of stages after fusion.
+     */
+    public int stageCount() {
+        return stages.length;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder kinds = new StringBuilder();
+        for (int i = 0; i < binds.length; i++) {
+            kinds.append(i == 0 ? "" : " >=> ").append(binds[i] ? "bind" : "map");
+        }
+        return String.format("EitherPipeline[%s]", kinds);
+    }
+
+    private <C> EitherPipeline<L, A, C> append(final Function<?, ?> fxn, final boolean bind) {
+        final Function<?, ?>[] extended = Arrays.copyOf(stages, stages.length + 1);
+        final boolean[] extendedBinds = Arrays.copyOf(binds, binds.length + 1);
+        extended[stages.length] = fxn;
+        extendedBinds[binds.length] = bind;
+        return new EitherPipeline<L, A, C>(extended, extendedBinds);
+    }
+
+    /**
+     * A run of map stages applied in a flat loop, rather than as nested andThen compositions.
+     * Each result is checked as it would be between separate stages, so a null from any
+     * function of the run is rejected before the next one is applied.
+     */
+    private static final class FusedMap implements Function<Object, Object> {
+        private final Function<Object, Object>[] fxns;
+
+        private FusedMap(final Function<Object, Object>[] fxns) {
+            this.fxns = fxns;
+        }
+
+        private static FusedMap of(final Function<?, ?> first, final Function<?, ?> next) {
+            final Function<Object, Object>[] head = flatten(first);
+            final Function<Object, Object>[] tail = flatten(next);
+            final Function<Object, Object>[] fxns = Arrays.copyOf(head, head.length + tail.length);
+            System.arraycopy(tail, 0, fxns, head.length, tail.length);
+            return new FusedMap(fxns);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Function<Object, Object>[] flatten(final Function<?, ?> fxn) {
+            return fxn instanceof FusedMap ? ((FusedMap) fxn).fxns : (Function<Object, Object>[]) new Function<?, ?>[] {fxn};
+        }
+
+        @Override
+        public Object apply(final Object arg) {
+            Object value = arg;
+            for (final Function<Object, Object> fxn : fxns) {
+                value = Objects.requireNonNull(fxn.apply(value));
+            }
+            return value;
+        }
+    }
+}
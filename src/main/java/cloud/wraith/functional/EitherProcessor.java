@@ -0,0 +1,359 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Flow.Processor that applies an Either-returning function to each element, sending Rights
+ * downstream and Lefts to a dead-letter Subscriber.
+ *
+ * <p>Rights respect the downstream subscriber's demand. Lefts never use that demand: they are
+ * handed to the dead-letter subscriber as it requests them, and count as consumed as soon as
+ * they arrive, so a burst of failures does not hold up the main stream. Lefts that arrive while
+ * the dead-letter subscriber has no demand are buffered up to a bound; beyond it they are
+ * dropped and counted by droppedLefts(), so a dead-letter subscriber should normally request
+ * Long.MAX_VALUE.
+ *
+ * <p>Upstream is requested in batches rather than one element at a time: a full batch at
+ * subscription, then another half batch each time half a batch has been consumed. One drain loop
+ * serialises every signal, and emits everything it can each time it runs.
+ *
+ * <p>Cancelling the downstream subscription cancels upstream and ends the stream: the
+ * dead-letter subscriber is sent the Lefts already buffered and then onComplete. Cancelling the
+ * dead-letter subscription only stops the Lefts.
+ *
+ * <p>The processor is unicast; a second downstream subscriber is rejected with onError.
+ *
+ * @param <A> The upstream element type
+ * @param <L> The left-hand type, sent to the dead-letter subscriber
+ * @param <B> The right-hand type, sent downstream
+ */
+public final class EitherProcessor<A, L, B> implements Flow.Processor<A, B> {
+    private final Function<? super A, ? extends Either<? extends L, ? extends B>> fxn;
+    private final Flow.Subscriber<? super L> deadLetters;
+    private final int batchSize;
+    private final int replenishAt;
+    private final int deadLetterCapacity;
+
+    private final Queue<B> rights = new ConcurrentLinkedQueue<B>();
+    private final Queue<L> lefts = new ConcurrentLinkedQueue<L>();
+    private final AtomicInteger leftsQueued = new AtomicInteger();
+    private final AtomicInteger leftsArrived = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong deadLetterRequested = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super B> downstream;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    private volatile boolean deadLettersCancelled;
+    private volatile Throwable downstreamFailure;
+    private volatile Throwable deadLetterFailure;
+
+    // Touched only inside the drain loop.
+    private int consumed;
+    private boolean downstreamTerminated;
+    private boolean deadLettersTerminated;
+
+    private EitherProcessor(final Function<? super A, ? extends Either<? extends L, ? extends B>> fxn,
+            final Flow.Subscriber<? super L> deadLetters, final int batchSize, final int deadLetterCapacity) {
+        this.fxn = fxn;
+        this.deadLetters = deadLetters;
+        this.batchSize = batchSize;
+        this.replenishAt = Math.max(1, batchSize / 2);
+        this.deadLetterCapacity = deadLetterCapacity;
+    }
+
+    /**
+     * A processor with batches, and a dead-letter buffer, of Flow.defaultBufferSize().
+     *
+     * @param <A>         The upstream element type
+     * @param <L>         The left-hand type
+     * @param <B>         The right-hand type
+     * @param fxn         The function applied to each element
+     * @param deadLetters The subscriber for left-hand values
+     * @return The processor
+     */
+    public static <A, L, B> EitherProcessor<A, L, B> of(final Function<? super A, ? extends Either<? extends L, ? extends B>> fxn,
+            final Flow.Subscriber<? super L> deadLetters) {
+        return of(fxn, deadLetters, Flow.defaultBufferSize(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * A processor with the given batch size and dead-letter buffer.
+     *
+     * @param <A>                The upstream element type
+     * @param <L>                The left-hand type
+     * @param <B>                The right-hand type
+     * @param fxn                The function applied to each element
+     * @param deadLetters        The subscriber for left-hand values
+     * @param batchSize          The number of elements requested from upstream at a time; at most this many Rights are buffered
+     * @param deadLetterCapacity The number of Lefts buffered for the dead-letter subscriber before further Lefts are dropped
+     * @return The processor
+     */
+    public static <A, L, B> EitherProcessor<A, L, B> of(final Function<? super A, ? extends Either<? extends L, ? extends B>> fxn,
+            final Flow.Subscriber<? super L> deadLetters, final int batchSize, final int deadLetterCapacity) {
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(deadLetters);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Batch size of %d should be >= 1", batchSize));
+        }
+        if (deadLetterCapacity < 0) {
+            throw new IllegalArgumentException(String.format("Dead-letter capacity of %d should be >= 0", deadLetterCapacity));
+        }
+
+        return new EitherProcessor<A, L, B>(fxn, deadLetters, batchSize, deadLetterCapacity);
+    }
+
+    /**
+     * The number of Lefts dropped because the dead-letter subscriber fell too far behind.
+     */
+    public long droppedLefts() {
+        return dropped.get();
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super B> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        synchronized (this) {
+            if (downstream == null) {
+                downstream = subscriber;
+                subscriber.onSubscribe(new Downstream());
+                drain();
+                return;
+            }
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(final long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(new IllegalStateException("EitherProcessor allows only one subscriber"));
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+
+        upstream = subscription;
+        deadLetters.onSubscribe(new DeadLetters());
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(final A item) {
+        Objects.requireNonNull(item);
+        if (done || cancelled) {
+            return;
+        }
+
+        final Either<? extends L, ? extends B> either;
+        try {
+            either = Objects.requireNonNull(fxn.apply(item));
+        } catch (final Throwable t) {
+            upstream.cancel();
+            onError(t);
+            return;
+        }
+
+        if (either.isLeft()) {
+            if (deadLettersCancelled || leftsQueued.get() >= deadLetterCapacity) {
+                dropped.incrementAndGet();
+            } else {
+                leftsQueued.incrementAndGet();
+                lefts.offer(either.leftOrNull());
+            }
+            leftsArrived.incrementAndGet();
+        } else {
+            rights.offer(either.rightOrNull());
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    /**
+     * Emit whatever demand allows, replenish upstream, and deliver terminal signals.
+     * Only one thread runs the loop at a time; a signal that arrives meanwhile makes it go round again.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        while (true) {
+            final Flow.Subscriber<? super B> subscriber = downstream;
+
+            consumed += leftsArrived.getAndSet(0);
+            if (cancelled) {
+                rights.clear();
+                final Throwable failure = downstreamFailure;
+                if (failure != null && !downstreamTerminated) {
+                    downstreamTerminated = true;
+                    subscriber.onError(failure);
+                }
+            } else if (subscriber != null && !downstreamTerminated) {
+                final long demand = requested.get();
+                long emitted = 0L;
+                B right;
+                while (emitted != demand && (right = rights.poll()) != null) {
+                    subscriber.onNext(right);
+                    emitted++;
+                }
+                consumed += (int) emitted;
+                if (emitted != 0L && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (done && rights.isEmpty()) {
+                    downstreamTerminated = true;
+                    signalTerminal(subscriber);
+                }
+            }
+
+            drainDeadLetters();
+
+            if (consumed >= replenishAt && !done && !cancelled) {
+                upstream.request(consumed);
+                consumed = 0;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void drainDeadLetters() {
+        if (deadLettersTerminated) {
+            return;
+        }
+        if (deadLettersCancelled) {
+            lefts.clear();
+            leftsQueued.set(0);
+            final Throwable failure = deadLetterFailure;
+            if (failure != null) {
+                deadLettersTerminated = true;
+                deadLetters.onError(failure);
+            }
+            return;
+        }
+
+        final long demand = deadLetterRequested.get();
+        long emitted = 0L;
+        L left;
+        while (emitted != demand && (left = lefts.poll()) != null) {
+            leftsQueued.decrementAndGet();
+            deadLetters.onNext(left);
+            emitted++;
+        }
+        if (emitted != 0L && demand != Long.MAX_VALUE) {
+            deadLetterRequested.addAndGet(-emitted);
+        }
+        if (done && lefts.isEmpty()) {
+            deadLettersTerminated = true;
+            signalTerminal(deadLetters);
+        }
+    }
+
+    private void signalTerminal(final Flow.Subscriber<?> subscriber) {
+        final Throwable t = error;
+        if (t != null) {
+            subscriber.onError(t);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private static void addDemand(final AtomicLong demand, final long n) {
+        demand.getAndUpdate(current -> current + n < 0L ? Long.MAX_VALUE : current + n);
+    }
+
+    /**
+     * The downstream subscriber's subscription.
+     */
+    private final class Downstream implements Flow.Subscription {
+        @Override
+        public void request(final long n) {
+            if (n <= 0L) {
+                downstreamFailure = new IllegalArgumentException(String.format("Request of %d should be > 0", n));
+                cancel();
+                return;
+            }
+            addDemand(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                // Nothing more will arrive, so the dead-letter subscriber completes once its buffer drains.
+                done = true;
+                final Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                drain();
+            }
+        }
+    }
+
+    /**
+     * The dead-letter subscriber's subscription. Cancelling it only stops the Lefts; the main stream carries on.
+     */
+    private final class DeadLetters implements Flow.Subscription {
+        @Override
+        public void request(final long n) {
+            if (n <= 0L) {
+                deadLetterFailure = new IllegalArgumentException(String.format("Request of %d should be > 0", n));
+                cancel();
+                return;
+            }
+            addDemand(deadLetterRequested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            deadLettersCancelled = true;
+            drain();
+        }
+    }
+}
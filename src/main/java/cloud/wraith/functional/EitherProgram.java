@@ -0,0 +1,216 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lazy, stack-safe Either computation.
+ *
+ * <p>Either.bind calls its function straight away, so a recursive algorithm written with bind
+ * uses one stack frame per step. An EitherProgram only records the binds. run() then interprets
+ * them in a loop with an explicit continuation stack, so chains of millions of binds, nested
+ * either way, run in constant call-stack depth.
+ *
+ * <p>{@code} data EitherProgram l a = Done (Either l a) | Suspend (() -> EitherProgram l a)
+ *                           | Bind (EitherProgram l x) (x -> EitherProgram l a) {code}
+ */
+public abstract class EitherProgram<L, A> {
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private EitherProgram() {
+    }
+
+    public static <L, A> EitherProgram<L, A> of(final Either<L, A> either) {
+        Objects.requireNonNull(either);
+        return new Done<L, A>(either);
+    }
+
+    public static <L, A> EitherProgram<L, A> left(final L value) {
+        return of(Either.<L, A>left(value));
+    }
+
+    public static <L, A> EitherProgram<L, A> right(final A value) {
+        return of(Either.<L, A>right(value));
+    }
+
+    /**
+     * Applicative pure function.
+     *
+     * @param <L>   The left-hand type
+     * @param <A>   The right-hand type
+     * @param value The right-hand value
+     * @return A program that yields a Right of the value
+     */
+    public static <L, A> EitherProgram<L, A> pure(final A value) {
+        return right(value);
+    }
+
+    /**
+     * Defer building the rest of the program until it is run.
+     * Recursive definitions should recurse through defer() so that they do not recurse while being built.
+     *
+     * @param <L>     The left-hand type
+     * @param <A>     The right-hand type
+     * @param program Supplies the program to continue with
+     * @return A program that runs the supplied program
+     */
+    public static <L, A> EitherProgram<L, A> defer(final Supplier<EitherProgram<L, A>> program) {
+        Objects.requireNonNull(program);
+        return new Suspend<L, A>(program);
+    }
+
+    /**
+     * Defer computing an Either until the program is run.
+     *
+     * @param <L>    The left-hand type
+     * @param <A>    The right-hand type
+     * @param either Supplies the Either
+     * @return A program that yields the supplied Either
+     */
+    public static <L, A> EitherProgram<L, A> delay(final Supplier<Either<L, A>> either) {
+        Objects.requireNonNull(either);
+        return defer(() -> of(either.get()));
+    }
+
+    /**
+     * Map function.
+     *
+     * @param <B> The right-hand type of the result program
+     * @param fxn The mapping function
+     * @return The result EitherProgram&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherProgram<L, B> map(final Function<? super A, ? extends B> fxn) {
+        Objects.requireNonNull(fxn);
+        return new Bind<L, A, B>(this, fxn, Bind.VALUE);
+    }
+
+    /**
+     * Monad (>>=) function; records the bind without running anything.
+     *
+     * @param <B> The right-hand type of the result program
+     * @param fxn The function from a right-hand value to the next program
+     * @return The result EitherProgram&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherProgram<L, B> bind(final Function<? super A, EitherProgram<L, B>> fxn) {
+        Objects.requireNonNull(fxn);
+        return new Bind<L, A, B>(this, fxn, Bind.PROGRAM);
+    }
+
+    /**
+     * Bind an Either-returning function, such as one already used with Either.bind.
+     *
+     * @param <B> The right-hand type of the result program
+     * @param fxn The function from a right-hand value to the next Either
+     * @return The result EitherProgram&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherProgram<L, B> bindEither(final Function<? super A, Either<L, B>> fxn) {
+        Objects.requireNonNull(fxn);
+        return new Bind<L, A, B>(this, fxn, Bind.EITHER);
+    }
+
+    /**
+     * Interpret the program in a loop.
+     * A Left ends the run at once and discards the pending continuations.
+     *
+     * @return The resulting Either
+     */
+    @SuppressWarnings("unchecked")
+    public Either<L, A> run() {
+        final Deque<Bind<L, Object, Object>> continuations = new ArrayDeque<Bind<L, Object, Object>>();
+        EitherProgram<L, Object> current = (EitherProgram<L, Object>) this;
+
+        while (true) {
+            if (current instanceof Bind) {
+                final Bind<L, Object, Object> bind = (Bind<L, Object, Object>) current;
+                continuations.push(bind);
+                current = bind.source;
+                continue;
+            }
+            if (current instanceof Suspend) {
+                current = ((Suspend<L, Object>) current).program.get();
+                continue;
+            }
+
+            // Feed the result through the pending binds until one of them yields another program.
+            Either<L, Object> either = ((Done<L, Object>) current).either;
+            while (true) {
+                if (either.isLeft() || continuations.isEmpty()) {
+                    return (Either<L, A>) (Either<L, ?>) either;
+                }
+
+                final Bind<L, Object, Object> bind = continuations.pop();
+                final Object next = bind.fxn.apply(either.rightOrNull());
+                if (bind.kind == Bind.VALUE) {
+                    either = Either.right(next);
+                } else if (bind.kind == Bind.EITHER) {
+                    either = (Either<L, Object>) next;
+                } else {
+                    current = (EitherProgram<L, Object>) next;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * A program that has finished with an Either.
+     */
+    static final class Done<L, A> extends EitherProgram<L, A> {
+        private final Either<L, A> either;
+
+        private Done(final Either<L, A> either) {
+            this.either = either;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("EitherProgram.done[%s]", either);
+        }
+    }
+
+    /**
+     * A program whose next step is built when it is reached.
+     */
+    static final class Suspend<L, A> extends EitherProgram<L, A> {
+        private final Supplier<EitherProgram<L, A>> program;
+
+        private Suspend(final Supplier<EitherProgram<L, A>> program) {
+            this.program = program;
+        }
+
+        @Override
+        public String toString() {
+            return "EitherProgram.suspend";
+        }
+    }
+
+    /**
+     * A program followed by a bind.
+     * The kind says what the function returns, so that map and bindEither need no wrapping program.
+     */
+    static final class Bind<L, X, A> extends EitherProgram<L, A> {
+        static final int PROGRAM = 0;
+        static final int EITHER = 1;
+        static final int VALUE = 2;
+
+        private final EitherProgram<L, X> source;
+        private final Function<? super X, ?> fxn;
+        private final int kind;
+
+        private Bind(final EitherProgram<L, X> source, final Function<? super X, ?> fxn, final int kind) {
+            this.source = source;
+            this.fxn = fxn;
+            this.kind = kind;
+        }
+
+        @Override
+        public String toString() {
+            return "EitherProgram.bind";
+        }
+    }
+}
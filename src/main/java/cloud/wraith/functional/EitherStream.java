@@ -0,0 +1,200 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Traversal of Streams into an Either that stops work once a Left is found.
+ *
+ * <p>{@code stream.parallel().map(validate).collect(...)} evaluates every element even after one
+ * has failed. EitherStream.traverse instead splits the stream's Spliterator itself. Its workers
+ * share the lowest index that has produced a Left and skip every element, and every whole chunk,
+ * beyond it. Elements before it are still evaluated, so the Left returned is always the first in
+ * encounter order, whatever the scheduling, just as with a sequential stream.
+ *
+ * <p>A parallel stream is traversed in parallel when its Spliterator is SUBSIZED, as those of
+ * arrays, ArrayLists and ranges are, through map and other size-preserving stages, because the
+ * exact split sizes give each element its index. Other streams, and sequential ones, are
+ * traversed in order and stop at the first Left.
+ */
+public final class EitherStream {
+
+    /**
+     * Number of leaf tasks per worker thread; enough slack to balance uneven per-element costs.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private EitherStream() {
+    }
+
+    /**
+     * Traverse a stream with an Either-returning function.
+     *
+     * @param <L>    The left-hand type
+     * @param <A>    The stream element type
+     * @param <B>    The right-hand type
+     * @param stream The source stream, which is consumed
+     * @param fxn    The function from an element to an Either
+     * @return The first Left in encounter order, or a Right of the unmodifiable list of right-hand values
+     */
+    public static <L, A, B> Either<L, List<B>> traverse(final Stream<? extends A> stream,
+            final Function<? super A, ? extends Either<L, ? extends B>> fxn) {
+        Objects.requireNonNull(stream);
+        Objects.requireNonNull(fxn);
+
+        final Spliterator<? extends A> spliterator = stream.spliterator();
+        if (stream.isParallel() && spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            return new Traversal<L, A, B>(spliterator, fxn).run();
+        }
+        return sequential(spliterator, fxn);
+    }
+
+    /**
+     * Sequence a stream of Eithers.
+     *
+     * @param <L>     The left-hand type
+     * @param <A>     The right-hand type
+     * @param eithers The source stream, which is consumed
+     * @return The first Left in encounter order, or a Right of the unmodifiable list of right-hand values
+     */
+    public static <L, A> Either<L, List<A>> sequence(final Stream<? extends Either<L, ? extends A>> eithers) {
+        return traverse(eithers, Function.<Either<L, ? extends A>>identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L, A, B> Either<L, List<B>> sequential(final Spliterator<? extends A> spliterator,
+            final Function<? super A, ? extends Either<L, ? extends B>> fxn) {
+        final EitherEvents.TraverseSummary event = EitherEvents.ENABLED ? EitherEvents.traverseStarted() : null;
+        final long estimate = spliterator.estimateSize();
+        final List<B> values = new ArrayList<B>(estimate < 1 << 16 ? (int) estimate : 16);
+        final Object[] left = new Object[1];
+        while (left[0] == null && spliterator.tryAdvance(a -> {
+            final Either<L, ? extends B> either = fxn.apply(a);
+            if (either.isLeft()) {
+                left[0] = either;
+            } else {
+                values.add(either.rightOrNull());
+            }
+        })) {
+            // The action does the work.
+        }
+
+        final boolean failed = left[0] != null;
+        if (event != null) {
+            EitherEvents.traverseEnded(event, "stream", failed ? values.size() + 1 : values.size(), failed ? values.size() : -1L);
+        }
+        return failed
+            ? Either.coerceLeft((Either<L, ?>) left[0])
+            : Either.right(Collections.unmodifiableList(values));
+    }
+
+    /**
+     * Fork-join traversal of a SUBSIZED Spliterator into a presized array.
+     */
+    private static final class Traversal<L, A, B> {
+        private final Function<? super A, ? extends Either<L, ? extends B>> fxn;
+        private final Spliterator<? extends A> root;
+        private final Object[] results;
+        private final AtomicLong leftmost = new AtomicLong(Long.MAX_VALUE);
+        private final long threshold;
+
+        private Traversal(final Spliterator<? extends A> root, final Function<? super A, ? extends Either<L, ? extends B>> fxn) {
+            final long size = root.getExactSizeIfKnown();
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException(String.format("Stream of %d elements is too large to collect", size));
+            }
+            this.fxn = fxn;
+            this.root = root;
+            this.results = new Object[(int) size];
+            this.threshold = Math.max(1L, size / ((long) ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD));
+        }
+
+        @SuppressWarnings("unchecked")
+        Either<L, List<B>> run() {
+            final EitherEvents.TraverseSummary event = EitherEvents.ENABLED ? EitherEvents.traverseStarted() : null;
+            new Task(root, 0L).invoke();
+
+            final long index = leftmost.get();
+            if (event != null) {
+                EitherEvents.traverseEnded(event, "stream", results.length, index == Long.MAX_VALUE ? -1L : index);
+            }
+            if (index != Long.MAX_VALUE) {
+                return Either.coerceLeft((Either<L, ?>) results[(int) index]);
+            }
+            return Either.right(Collections.unmodifiableList(Arrays.asList((B[]) results)));
+        }
+
+        private void failAt(final long index) {
+            long current = leftmost.get();
+            while (index < current && !leftmost.compareAndSet(current, index)) {
+                current = leftmost.get();
+            }
+        }
+
+        /**
+         * Traverses a Spliterator whose first element has the given index.
+         */
+        private final class Task extends RecursiveAction {
+            private static final long serialVersionUID = 0L;
+
+            // The task is never serialized; RecursiveAction merely happens to be Serializable.
+            private final transient Spliterator<? extends A> spliterator;
+            private final long base;
+
+            Task(final Spliterator<? extends A> spliterator, final long base) {
+                this.spliterator = spliterator;
+                this.base = base;
+            }
+
+            @Override
+            protected void compute() {
+                if (base > leftmost.get()) {
+                    return;
+                }
+
+                // A SUBSIZED split hands back the prefix, so the suffix starts after its exact size.
+                final Spliterator<? extends A> prefix = spliterator.estimateSize() > threshold ? spliterator.trySplit() : null;
+                if (prefix == null) {
+                    traverseChunk();
+                    return;
+                }
+                invokeAll(new Task(prefix, base), new Task(spliterator, base + prefix.getExactSizeIfKnown()));
+            }
+
+            private void traverseChunk() {
+                final long[] index = {base};
+                final boolean[] stop = {false};
+                while (!stop[0] && spliterator.tryAdvance(a -> {
+                    final long i = index[0]++;
+                    if (i > leftmost.get()) {
+                        stop[0] = true;
+                        return;
+                    }
+
+                    final Either<L, ? extends B> either = fxn.apply(a);
+                    if (either.isLeft()) {
+                        results[(int) i] = either;
+                        failAt(i);
+                        stop[0] = true;
+                    } else {
+                        results[(int) i] = either.rightOrNull();
+                    }
+                })) {
+                    // The action does the work.
+                }
+            }
+        }
+    }
+}
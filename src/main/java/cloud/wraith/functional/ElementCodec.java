@@ -0,0 +1,68 @@
+package cloud.wraith.functional;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads one value of a binary-encoded Either.
+ *
+ * <p>Implementations write at the buffer's position and advance it, and must read back exactly
+ * what they wrote. They must not flip, compact or otherwise reposition the buffer.
+ *
+ * @param <T> The value type
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * The number of bytes encode() will write for the value, so that callers can size buffers.
+     *
+     * @param value The value
+     * @return The encoded size in bytes
+     */
+    int encodedSize(T value);
+
+    /**
+     * Write the value at the buffer's position.
+     *
+     * @param value  The value
+     * @param buffer The buffer to write to
+     * @throws java.nio.BufferOverflowException If the buffer has too little room
+     */
+    void encode(T value, ByteBuffer buffer);
+
+    /**
+     * Read a value at the buffer's position.
+     *
+     * @param buffer The buffer to read from
+     * @return The value
+     * @throws java.nio.BufferUnderflowException If the buffer ends before the value
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Four-byte big-endian ints.
+     */
+    static ElementCodec<Integer> ints() {
+        return ElementCodecs.INT;
+    }
+
+    /**
+     * Eight-byte big-endian longs.
+     */
+    static ElementCodec<Long> longs() {
+        return ElementCodecs.LONG;
+    }
+
+    /**
+     * Eight-byte IEEE 754 doubles.
+     */
+    static ElementCodec<Double> doubles() {
+        return ElementCodecs.DOUBLE;
+    }
+
+    /**
+     * Strings as a four-byte byte count followed by their UTF-8 bytes.
+     */
+    static ElementCodec<String> utf8() {
+        return ElementCodecs.UTF8;
+    }
+}
@@ -0,0 +1,144 @@
+package cloud.wraith.functional;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The built-in ElementCodecs.
+ */
+final class ElementCodecs {
+
+    static final ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        @Override
+        public int encodedSize(final Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(final Integer value, final ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(final ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int encodedSize(final Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(final Long value, final ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(final ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int encodedSize(final Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(final Double value, final ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(final ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    /**
+     * Encodes straight from the String's chars into the buffer, so no byte array is made.
+     * Unpaired surrogates are written as '?', as String.getBytes does.
+     */
+    static final ElementCodec<String> UTF8 = new ElementCodec<String>() {
+        @Override
+        public int encodedSize(final String value) {
+            return Integer.BYTES + utf8Length(value);
+        }
+
+        @Override
+        public void encode(final String value, final ByteBuffer buffer) {
+            buffer.putInt(utf8Length(value));
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xc0 | c >> 6));
+                    buffer.put((byte) (0x80 | c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int cp = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xf0 | cp >> 18));
+                    buffer.put((byte) (0x80 | cp >> 12 & 0x3f));
+                    buffer.put((byte) (0x80 | cp >> 6 & 0x3f));
+                    buffer.put((byte) (0x80 | cp & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    buffer.put((byte) '?');
+                } else {
+                    buffer.put((byte) (0xe0 | c >> 12));
+                    buffer.put((byte) (0x80 | c >> 6 & 0x3f));
+                    buffer.put((byte) (0x80 | c & 0x3f));
+                }
+            }
+        }
+
+        @Override
+        public String decode(final ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalArgumentException(String.format("String length of %d exceeds the %d bytes remaining", length, buffer.remaining()));
+            }
+
+            final String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            } else {
+                // One copy into a byte[], rather than the CharBuffer that Charset.decode would allocate.
+                final byte[] bytes = new byte[length];
+                buffer.get(buffer.position(), bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    };
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private ElementCodecs() {
+    }
+
+    private static int utf8Length(final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,222 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Persistent, non-empty list of errors accumulated by Validation.
+ *
+ * <p>The list is a tree of concatenations, so append and concat are O(1) and never copy.
+ * Iteration walks the tree with an explicit stack, so deep trees built by repeated appends
+ * cannot overflow the call stack.
+ *
+ * @param <E> The error type
+ */
+public abstract class ErrorList<E> implements Iterable<E> {
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private ErrorList() {
+    }
+
+    public static <E> ErrorList<E> of(final E error) {
+        Objects.requireNonNull(error);
+        return new Single<E>(error);
+    }
+
+    /**
+     * Build an ErrorList from a list of errors.
+     *
+     * @param <E>    The error type
+     * @param errors The non-empty list of errors
+     * @return An ErrorList of the errors, in order
+     */
+    public static <E> ErrorList<E> of(final List<? extends E> errors) {
+        Objects.requireNonNull(errors);
+        if (errors.isEmpty()) {
+            throw new IllegalArgumentException("An ErrorList must hold at least one error");
+        }
+
+        ErrorList<E> result = of(errors.get(0));
+        for (int i = 1; i < errors.size(); i++) {
+            result = result.append(errors.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * The number of errors.
+     *
+     * @return The size of the list
+     */
+    public abstract int size();
+
+    /**
+     * Append one error in O(1).
+     *
+     * @param error The error to append
+     * @return A new list; this list is unchanged
+     */
+    public ErrorList<E> append(final E error) {
+        return concat(of(error));
+    }
+
+    /**
+     * Concatenate another list in O(1).
+     *
+     * @param other The errors to follow the errors of this list
+     * @return A new list; both argument lists are unchanged
+     */
+    public ErrorList<E> concat(final ErrorList<? extends E> other) {
+        Objects.requireNonNull(other);
+
+        @SuppressWarnings("unchecked")
+        final ErrorList<E> right = (ErrorList<E>) other;
+
+        return new Concat<E>(this, right);
+    }
+
+    /**
+     * The first error.
+     *
+     * @return The first error in the list
+     */
+    public E head() {
+        ErrorList<E> node = this;
+        while (node instanceof Concat) {
+            node = ((Concat<E>) node).left;
+        }
+        return ((Single<E>) node).error;
+    }
+
+    /**
+     * Copy the errors into an unmodifiable list.
+     *
+     * @return The errors, in order
+     */
+    public List<E> toList() {
+        final List<E> result = new ArrayList<E>(size());
+        for (E error : this) {
+            result.add(error);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final Deque<ErrorList<E>> pending = new ArrayDeque<ErrorList<E>>();
+
+            {
+                pending.push(ErrorList.this);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+
+                ErrorList<E> node = pending.pop();
+                while (node instanceof Concat) {
+                    final Concat<E> concat = (Concat<E>) node;
+                    pending.push(concat.right);
+                    node = concat.left;
+                }
+                return ((Single<E>) node).error;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", "ErrorList[", "]");
+        for (E error : this) {
+            joiner.add(error.toString());
+        }
+        return joiner.toString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ErrorList)) {
+            return false;
+        }
+
+        final ErrorList<?> other = (ErrorList<?>) obj;
+
+        if (size() != other.size()) {
+            return false;
+        }
+
+        final Iterator<?> these = iterator();
+        final Iterator<?> those = other.iterator();
+        while (these.hasNext()) {
+            if (!Objects.equals(these.next(), those.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (E error : this) {
+            hash = 31 * hash + error.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * A list of exactly one error.
+     */
+    static final class Single<E> extends ErrorList<E> {
+        private final E error;
+
+        private Single(final E error) {
+            this.error = error;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+    }
+
+    /**
+     * The concatenation of two lists.
+     */
+    static final class Concat<E> extends ErrorList<E> {
+        private final ErrorList<E> left;
+        private final ErrorList<E> right;
+        private final int size;
+
+        private Concat(final ErrorList<E> left, final ErrorList<E> right) {
+            this.left = left;
+            this.right = right;
+            this.size = Math.addExact(left.size(), right.size());
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+
+/**
+ * Lightweight error value standing in for a caught exception.
+ *
+ * <p>A Failure has no stack trace and no suppressed exceptions. It keeps only the type and message
+ * of the exception it replaces, so the original, with its stack trace, can be garbage collected.
+ * When FailureCapture samples a failure, the original is kept as the cause.
+ */
+public final class Failure extends RuntimeException {
+    private static final long serialVersionUID = 0L;
+
+    private final Class<? extends Exception> type;
+
+    Failure(final Exception exception, final boolean keepCause) {
+        super(exception.getMessage(), keepCause ? exception : null, false, false);
+        this.type = exception.getClass();
+    }
+
+    /**
+     * The class of the exception that was caught.
+     *
+     * @return The exception class
+     */
+    public Class<? extends Exception> getType() {
+        return type;
+    }
+
+    /**
+     * Whether the original exception, with its full stack trace, was kept as the cause.
+     *
+     * @return true if this failure was sampled
+     */
+    public boolean isSampled() {
+        return getCause() != null;
+    }
+
+    @Override
+    public String toString() {
+        final String message = getMessage();
+        return message == null
+            ? String.format("Failure[%s]", type.getName())
+            : String.format("Failure[%s: %s]", type.getName(), message);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Failure)) {
+            return false;
+        }
+
+        final Failure other = (Failure) obj;
+
+        return type.equals(other.type) && Objects.equals(getMessage(), other.getMessage());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + Objects.hashCode(getMessage());
+    }
+}
@@ -0,0 +1,71 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Policy for turning a caught exception into the left-hand value of an Either.
+ *
+ * <p>full() keeps the exception itself. stackless() replaces it with a Failure, which has no
+ * stack trace, so the original and its stack can be collected straight away. sampled(n) does the
+ * same, but keeps the original as the cause of one failure in n, chosen at random, so some full
+ * stack traces are still available.
+ *
+ * <p>The stack of the original exception is still filled in when it is constructed; these
+ * policies avoid retaining and materialising it.
+ */
+public final class FailureCapture implements Function<Exception, Exception> {
+    private static final FailureCapture FULL = new FailureCapture(0);
+    private static final FailureCapture STACKLESS = new FailureCapture(-1);
+
+    /**
+     * 0 keeps every exception, -1 keeps none, n keeps one in n.
+     */
+    private final int sampleRate;
+
+    private FailureCapture(final int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public static FailureCapture full() {
+        return FULL;
+    }
+
+    public static FailureCapture stackless() {
+        return STACKLESS;
+    }
+
+    /**
+     * Keep the full exception as the cause of one failure in n.
+     *
+     * @param n The sampling interval; 1 keeps every cause
+     * @return The policy
+     */
+    public static FailureCapture sampled(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException(String.format("Sample rate of %d should be >= 1", n));
+        }
+        return new FailureCapture(n);
+    }
+
+    @Override
+    public Exception apply(final Exception exception) {
+        Objects.requireNonNull(exception);
+
+        if (sampleRate == 0) {
+            return exception;
+        }
+
+        final boolean keepCause = sampleRate > 0 && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+        return new Failure(exception, keepCause);
+    }
+
+    @Override
+    public String toString() {
+        if (sampleRate == 0) {
+            return "FailureCapture.full";
+        }
+        return sampleRate < 0 ? "FailureCapture.stackless" : String.format("FailureCapture.sampled[%d]", sampleRate);
+    }
+}
@@ -0,0 +1,15 @@
+package cloud.wraith.functional;
+
+/**
+ * A function that accepts three arguments and produces a result.
+ * The three-arity counterpart of {@link java.util.function.BiFunction}.
+ *
+ * @param <A> The type of argument 1
+ * @param <B> The type of argument 2
+ * @param <C> The type of argument 3
+ * @param <R> The type of the result
+ */
+@FunctionalInterface
+public interface Function3<A, B, C, R> {
+    R apply(A a, B b, C c);
+}
@@ -0,0 +1,16 @@
+package cloud.wraith.functional;
+
+/**
+ * A function that accepts four arguments and produces a result.
+ * The four-arity counterpart of {@link java.util.function.BiFunction}.
+ *
+ * @param <A> The type of argument 1
+ * @param <B> The type of argument 2
+ * @param <C> The type of argument 3
+ * @param <D> The type of argument 4
+ * @param <R> The type of the result
+ */
+@FunctionalInterface
+public interface Function4<A, B, C, D, R> {
+    R apply(A a, B b, C c, D d);
+}
@@ -0,0 +1,17 @@
+package cloud.wraith.functional;
+
+/**
+ * A function that accepts five arguments and produces a result.
+ * The five-arity counterpart of {@link java.util.function.BiFunction}.
+ *
+ * @param <A> The type of argument 1
+ * @param <B> The type of argument 2
+ * @param <C> The type of argument 3
+ * @param <D> The type of argument 4
+ * @param <E> The type of argument 5
+ * @param <R> The type of the result
+ */
+@FunctionalInterface
+public interface Function5<A, B, C, D, E, R> {
+    R apply(A a, B b, C c, D d, E e);
+}
@@ -0,0 +1,19 @@
+package cloud.wraith.functional;
+
+/**
+ * A function that accepts seven arguments and produces a result.
+ * The seven-arity counterpart of {@link java.util.function.BiFunction}.
+ *
+ * @param <A> The type of argument 1
+ * @param <B> The type of argument 2
+ * @param <C> The type of argument 3
+ * @param <D> The type of argument 4
+ * @param <E> The type of argument 5
+ * @param <F> The type of argument 6
+ * @param <G> The type of argument 7
+ * @param <R> The type of the result
+ */
+@FunctionalInterface
+public interface Function7<A, B, C, D, E, F, G, R> {
+    R apply(A a, B b, C c, D d, E e, F f, G g);
+}
@@ -0,0 +1,20 @@
+package cloud.wraith.functional;
+
+/**
+ * A function that accepts eight arguments and produces a result.
+ * The eight-arity counterpart of {@link java.util.function.BiFunction}.
+ *
+ * @param <A> The type of argument 1
+ * @param <B> The type of argument 2
+ * @param <C> The type of argument 3
+ * @param <D> The type of argument 4
+ * @param <E> The type of argument 5
+ * @param <F> The type of argument 6
+ * @param <G> The type of argument 7
+ * @param <H> The type of argument 8
+ * @param <R> The type of the result
+ */
+@FunctionalInterface
+public interface Function8<A, B, C, D, E, F, G, H, R> {
+    R apply(A a, B b, C c, D d, E e, F f, G g, H h);
+}
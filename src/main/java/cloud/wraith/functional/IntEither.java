@@ -0,0 +1,335 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Either specialised for a primitive int right-hand value.
+ *
+ * <p>Behaves like Either&lt;L,&nbsp;Integer&gt; but keeps the right-hand value unboxed,
+ * and maps and binds with primitive functions so arithmetic pipelines do not box.
+ */
+public abstract class IntEither<L> {
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private IntEither() {
+    }
+
+    public static <L> IntEither<L> left(final L value) {
+        Objects.requireNonNull(value);
+        return Left.of(value);
+    }
+
+    public static <L> IntEither<L> right(final int value) {
+        return Right.of(value);
+    }
+
+    /**
+     * Convert a boxed Either into the primitive specialisation.
+     *
+     * @param <L>    The left-hand type
+     * @param either The source Either&lt;L,&nbsp;Integer&gt;
+     * @return The equivalent IntEither&lt;L&gt;
+     */
+    public static <L> IntEither<L> fromEither(final Either<L, Integer> either) {
+        Objects.requireNonNull(either);
+
+        return either.isLeft() ? left(either.leftOrNull()) : right(either.rightOrNull());
+    }
+
+    public abstract boolean isLeft();
+
+    public abstract boolean isRight();
+
+    public abstract OptionalInt get();
+
+    public abstract int getOrElse(final int defaultValue);
+
+    public abstract int getOrElse(IntSupplier supplier);
+
+    public abstract Optional<L> getLeft();
+
+    public abstract L getLeftOrElse(final L defaultValue);
+
+    public abstract L getLeftOrElse(Supplier<? extends L> supplier);
+
+    /**
+     * The left-hand value, or null for a Right.
+     */
+    abstract L leftOrNull();
+
+    /**
+     * The right-hand value, or zero for a Left.
+     */
+    abstract int rightValue();
+
+    /**
+     * Map function over the unboxed right-hand value.
+     *
+     * @param fxn The mapping function
+     * @return The result IntEither&lt;L&gt;
+     */
+    public abstract IntEither<L> map(IntUnaryOperator fxn);
+
+    /**
+     * Map function from the unboxed right-hand value into a reference type.
+     *
+     * @param <B> The right-hand type of the result Either
+     * @param fxn The mapping function
+     * @return The result Either&lt;L,&nbsp;B&gt;
+     */
+    public abstract <B> Either<L, B> mapToObj(IntFunction<? extends B> fxn);
+
+    /**
+     * Bind function over the unboxed right-hand value.
+     *
+     * @param fxn The mapping function; maps the right-hand value to an IntEither&lt;L&gt;
+     * @return The result IntEither&lt;L&gt;
+     */
+    public abstract IntEither<L> bind(IntFunction<IntEither<L>> fxn);
+
+    /**
+     * Convert into the boxed Either.
+     *
+     * @return The equivalent Either&lt;L,&nbsp;Integer&gt;
+     */
+    public abstract Either<L, Integer> toEither();
+
+    /**
+     * Left implementation of IntEither.
+     */
+    static final class Left<L> extends IntEither<L> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final L value;
+
+        private Left(final L value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        private static <L> Left<L> of(final L value) {
+            return new Left<L>(value);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public OptionalInt get() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public int getOrElse(final int defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public int getOrElse(IntSupplier supplier) {
+            return Objects.requireNonNull(supplier).getAsInt();
+        }
+
+        @Override
+        public Optional<L> getLeft() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public L getLeftOrElse(final L defaultValue) {
+            return value;
+        }
+
+        @Override
+        public L getLeftOrElse(Supplier<? extends L> supplier) {
+            return value;
+        }
+
+        @Override
+        L leftOrNull() {
+            return value;
+        }
+
+        @Override
+        int rightValue() {
+            return 0;
+        }
+
+        @Override
+        public IntEither<L> map(IntUnaryOperator fxn) {
+            return this;
+        }
+
+        @Override
+        public <B> Either<L, B> mapToObj(IntFunction<? extends B> fxn) {
+            return Either.left(value);
+        }
+
+        @Override
+        public IntEither<L> bind(IntFunction<IntEither<L>> fxn) {
+            return this;
+        }
+
+        @Override
+        public Either<L, Integer> toEither() {
+            return Either.left(value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("IntEither.left[%s]", value.toString());
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Left)) {
+                return false;
+            }
+
+            return Objects.equals(value, ((Left<?>) obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+    }
+
+    /**
+     * Right implementation of IntEither.
+     */
+    static final class Right<L> extends IntEither<L> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final int value;
+
+        private Right(final int value) {
+            this.value = value;
+        }
+
+        private static <L> Right<L> of(final int value) {
+            return new Right<L>(value);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public OptionalInt get() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public int getOrElse(final int defaultValue) {
+            return value;
+        }
+
+        @Override
+        public int getOrElse(IntSupplier supplier) {
+            return value;
+        }
+
+        @Override
+        public Optional<L> getLeft() {
+            return Optional.empty();
+        }
+
+        @Override
+        public L getLeftOrElse(final L defaultValue) {
+            return Objects.requireNonNull(defaultValue);
+        }
+
+        @Override
+        public L getLeftOrElse(Supplier<? extends L> supplier) {
+            return Objects.requireNonNull(supplier).get();
+        }
+
+        @Override
+        L leftOrNull() {
+            return null;
+        }
+
+        @Override
+        int rightValue() {
+            return value;
+        }
+
+        @Override
+        public IntEither<L> map(IntUnaryOperator fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Right.of(fxn.applyAsInt(value));
+        }
+
+        @Override
+        public <B> Either<L, B> mapToObj(IntFunction<? extends B> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Either.right(fxn.apply(value));
+        }
+
+        @Override
+        public IntEither<L> bind(IntFunction<IntEither<L>> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return fxn.apply(value);
+        }
+
+        @Override
+        public Either<L, Integer> toEither() {
+            return Either.right(value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("IntEither.right[%s]", Integer.toString(value));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Right)) {
+                return false;
+            }
+
+            return value == ((Right<?>) obj).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,240 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * EitherBatch specialised for primitive int right-hand values, which are kept unboxed in an int[].
+ *
+ * @param <L> The left-hand type
+ */
+public final class IntEitherBatch<L> extends AbstractEitherBatch<L> {
+    private final int[] rights;
+
+    private IntEitherBatch(final Lefts<L> lefts, final int[] rights, final int size) {
+        super(lefts.fit(size), size);
+        this.rights = rights;
+    }
+
+    IntEitherBatch(final AbstractEitherBatch<L> shape, final int[] rights) {
+        super(shape);
+        this.rights = rights;
+    }
+
+    public static <L> IntEitherBatch<L> of(final List<IntEither<L>> eithers) {
+        Objects.requireNonNull(eithers);
+
+        final Builder<L> builder = new Builder<L>(eithers.size());
+        for (final IntEither<L> either : eithers) {
+            builder.add(either);
+        }
+        return builder.build();
+    }
+
+    public static <L> Builder<L> builder() {
+        return new Builder<L>(16);
+    }
+
+    /**
+     * The right-hand value at the position.
+     *
+     * @throws NoSuchElementException If the position holds a Left
+     */
+    public int getRight(final int index) {
+        if (isLeft(index)) {
+            throw new NoSuchElementException(String.format("No Right at position %d", index));
+        }
+        return rights[index];
+    }
+
+    /**
+     * Materialise the IntEither at the position.
+     */
+    public IntEither<L> get(final int index) {
+        return isLeft(index) ? IntEither.<L>left(leftOrNull(index)) : IntEither.<L>right(rights[index]);
+    }
+
+    /**
+     * Map every right-hand value. The result shares this batch's Left side.
+     *
+     * @param fxn The mapping function
+     * @return The result IntEitherBatch&lt;L&gt;
+     */
+    public IntEitherBatch<L> map(final IntUnaryOperator fxn) {
+        Objects.requireNonNull(fxn);
+
+        final int[] mapped = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = fxn.applyAsInt(rights[i]);
+            }
+        }
+        return new IntEitherBatch<L>(this, mapped);
+    }
+
+    /**
+     * Map every right-hand value to an object. The result shares this batch's Left side.
+     *
+     * @param <B> The right-hand type of the result
+     * @param fxn The mapping function
+     * @return The result EitherBatch&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherBatch<L, B> mapToObj(final IntFunction<? extends B> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Object[] mapped = new Object[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = Objects.requireNonNull(fxn.apply(rights[i]));
+            }
+        }
+        return new EitherBatch<L, B>(this, mapped);
+    }
+
+    /**
+     * Keep every Left and the Rights whose value satisfies the predicate, in order.
+     *
+     * @param predicate The test for right-hand values
+     * @return The filtered IntEitherBatch&lt;L&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public IntEitherBatch<L> filter(final IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final int[] kept = new int[size];
+        int count = 0;
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(count++, (L) leftValues[leftOrdinal++]);
+            } else if (predicate.test(rights[i])) {
+                kept[count++] = rights[i];
+            }
+        }
+        return new IntEitherBatch<L>(lefts, count == size ? kept : Arrays.copyOf(kept, count), count);
+    }
+
+    /**
+     * Bind every right-hand value; Lefts pass through and new Lefts join them in position order.
+     *
+     * @param fxn The function from a right-hand value to the next IntEither
+     * @return The result IntEitherBatch&lt;L&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public IntEitherBatch<L> bind(final IntFunction<IntEither<L>> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final int[] bound = new int[size];
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(i, (L) leftValues[leftOrdinal++]);
+                continue;
+            }
+            final IntEither<L> either = fxn.apply(rights[i]);
+            if (either.isLeft()) {
+                lefts.add(i, either.leftOrNull());
+            } else {
+                bound[i] = either.rightValue();
+            }
+        }
+        return new IntEitherBatch<L>(lefts, bound, size);
+    }
+
+    /**
+     * A flyweight cursor positioned before the first result.
+     */
+    public Cursor<L> cursor() {
+        return new Cursor<L>(this);
+    }
+
+    /**
+     * Materialise every result.
+     *
+     * @return The unmodifiable list of IntEithers
+     */
+    public List<IntEither<L>> toList() {
+        final List<IntEither<L>> eithers = new ArrayList<IntEither<L>>(size);
+        final Cursor<L> cursor = cursor();
+        while (cursor.next()) {
+            eithers.add(cursor.isLeft() ? IntEither.<L>left(cursor.left()) : IntEither.<L>right(cursor.rightAsInt()));
+        }
+        return Collections.unmodifiableList(eithers);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IntEitherBatch[size=%d, lefts=%d]", size, leftCount);
+    }
+
+    /**
+     * Flyweight view of one position of an IntEitherBatch.
+     */
+    public static final class Cursor<L> extends BaseCursor<L> {
+        private final int[] rights;
+
+        private Cursor(final IntEitherBatch<L> batch) {
+            super(batch);
+            this.rights = batch.rights;
+        }
+
+        /**
+         * The right-hand value at the current position.
+         *
+         * @throws NoSuchElementException If the position holds a Left
+         */
+        public int rightAsInt() {
+            checkSide(false);
+            return rights[index];
+        }
+    }
+
+    /**
+     * Appends results in order.
+     */
+    public static final class Builder<L> {
+        private final Lefts<L> lefts;
+        private int[] rights;
+        private int size;
+
+        private Builder(final int capacity) {
+            this.lefts = new Lefts<L>(capacity);
+            this.rights = new int[capacity];
+        }
+
+        public Builder<L> addLeft(final L value) {
+            ensureCapacity();
+            lefts.add(size++, value);
+            return this;
+        }
+
+        public Builder<L> addRight(final int value) {
+            ensureCapacity();
+            rights[size++] = value;
+            return this;
+        }
+
+        public Builder<L> add(final IntEither<L> either) {
+            return either.isLeft() ? addLeft(either.leftOrNull()) : addRight(either.rightValue());
+        }
+
+        public IntEitherBatch<L> build() {
+            return new IntEitherBatch<L>(lefts.copy(), Arrays.copyOf(rights, size), size);
+        }
+
+        private void ensureCapacity() {
+            if (size == rights.length) {
+                rights = Arrays.copyOf(rights, grow(size));
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package cloud.wraith.functional;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Log-linear histogram of non-negative long values, after HdrHistogram.
+ *
+ * <p>Values below 32 have a bucket each; above that every power of two is split into 32 equal
+ * sub-buckets, so a recorded value is known to within about 3%. The whole long range fits in
+ * 1888 buckets, so recording is an index computation and one atomic increment.
+ *
+ * <p>Like a LongAdder, the counts are striped so that threads recording at once seldom share a
+ * bucket: each thread increments the stripe its id hashes to, allocated on first use, and
+ * reads sum every stripe. There are as many stripes as the next power of two at or above the
+ * number of processors.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<AtomicLongArray>(STRIPES);
+
+    /**
+     * Record a value; negative values are recorded as zero.
+     */
+    void record(final long value) {
+        stripe().incrementAndGet(indexOf(Math.max(0L, value)));
+    }
+
+    /**
+     * The bucket counts summed over the stripes. Each bucket is read atomically, the histogram as a whole is not.
+     */
+    long[] counts() {
+        final long[] sum = new long[BUCKETS];
+        for (int s = 0; s < STRIPES; s++) {
+            final AtomicLongArray stripe = stripes.get(s);
+            if (stripe != null) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    sum[i] += stripe.get(i);
+                }
+            }
+        }
+        return sum;
+    }
+
+    private AtomicLongArray stripe() {
+        final int index = (int) (Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L >>> 40) & (STRIPES - 1);
+        final AtomicLongArray stripe = stripes.get(index);
+        if (stripe != null) {
+            return stripe;
+        }
+        stripes.compareAndSet(index, null, new AtomicLongArray(BUCKETS));
+        return stripes.get(index);
+    }
+
+    static int stripes(final int processors) {
+        return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * The highest value that is recorded in the given bucket.
+     */
+    static long highestValueAt(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        final long lowest = (long) (index & (SUB_BUCKETS - 1) | SUB_BUCKETS) << shift;
+        return lowest + ((1L << shift) - 1L);
+    }
+
+    /**
+     * The value at a percentile of a copy of the counts, reported as the highest value of its bucket.
+     *
+     * @param counts     The bucket counts
+     * @param total      The sum of the counts
+     * @param percentile The percentile, from 0 to 100
+     * @return The value, or zero if nothing was recorded
+     */
+    static long valueAtPercentile(final long[] counts, final long total, final double percentile) {
+        if (total == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return highestValueAt(i);
+            }
+        }
+        return highestValueAt(counts.length - 1);
+    }
+}
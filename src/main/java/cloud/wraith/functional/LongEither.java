@@ -0,0 +1,335 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Either specialised for a primitive long right-hand value.
+ *
+ * <p>Behaves like Either&lt;L,&nbsp;Long&gt; but keeps the right-hand value unboxed,
+ * and maps and binds with primitive functions so arithmetic pipelines do not box.
+ */
+public abstract class LongEither<L> {
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private LongEither() {
+    }
+
+    public static <L> LongEither<L> left(final L value) {
+        Objects.requireNonNull(value);
+        return Left.of(value);
+    }
+
+    public static <L> LongEither<L> right(final long value) {
+        return Right.of(value);
+    }
+
+    /**
+     * Convert a boxed Either into the primitive specialisation.
+     *
+     * @param <L>    The left-hand type
+     * @param either The source Either&lt;L,&nbsp;Long&gt;
+     * @return The equivalent LongEither&lt;L&gt;
+     */
+    public static <L> LongEither<L> fromEither(final Either<L, Long> either) {
+        Objects.requireNonNull(either);
+
+        return either.isLeft() ? left(either.leftOrNull()) : right(either.rightOrNull());
+    }
+
+    public abstract boolean isLeft();
+
+    public abstract boolean isRight();
+
+    public abstract OptionalLong get();
+
+    public abstract long getOrElse(final long defaultValue);
+
+    public abstract long getOrElse(LongSupplier supplier);
+
+    public abstract Optional<L> getLeft();
+
+    public abstract L getLeftOrElse(final L defaultValue);
+
+    public abstract L getLeftOrElse(Supplier<? extends L> supplier);
+
+    /**
+     * The left-hand value, or null for a Right.
+     */
+    abstract L leftOrNull();
+
+    /**
+     * The right-hand value, or zero for a Left.
+     */
+    abstract long rightValue();
+
+    /**
+     * Map function over the unboxed right-hand value.
+     *
+     * @param fxn The mapping function
+     * @return The result LongEither&lt;L&gt;
+     */
+    public abstract LongEither<L> map(LongUnaryOperator fxn);
+
+    /**
+     * Map function from the unboxed right-hand value into a reference type.
+     *
+     * @param <B> The right-hand type of the result Either
+     * @param fxn The mapping function
+     * @return The result Either&lt;L,&nbsp;B&gt;
+     */
+    public abstract <B> Either<L, B> mapToObj(LongFunction<? extends B> fxn);
+
+    /**
+     * Bind function over the unboxed right-hand value.
+     *
+     * @param fxn The mapping function; maps the right-hand value to a LongEither&lt;L&gt;
+     * @return The result LongEither&lt;L&gt;
+     */
+    public abstract LongEither<L> bind(LongFunction<LongEither<L>> fxn);
+
+    /**
+     * Convert into the boxed Either.
+     *
+     * @return The equivalent Either&lt;L,&nbsp;Long&gt;
+     */
+    public abstract Either<L, Long> toEither();
+
+    /**
+     * Left implementation of LongEither.
+     */
+    static final class Left<L> extends LongEither<L> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final L value;
+
+        private Left(final L value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        private static <L> Left<L> of(final L value) {
+            return new Left<L>(value);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public OptionalLong get() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public long getOrElse(final long defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        public long getOrElse(LongSupplier supplier) {
+            return Objects.requireNonNull(supplier).getAsLong();
+        }
+
+        @Override
+        public Optional<L> getLeft() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public L getLeftOrElse(final L defaultValue) {
+            return value;
+        }
+
+        @Override
+        public L getLeftOrElse(Supplier<? extends L> supplier) {
+            return value;
+        }
+
+        @Override
+        L leftOrNull() {
+            return value;
+        }
+
+        @Override
+        long rightValue() {
+            return 0L;
+        }
+
+        @Override
+        public LongEither<L> map(LongUnaryOperator fxn) {
+            return this;
+        }
+
+        @Override
+        public <B> Either<L, B> mapToObj(LongFunction<? extends B> fxn) {
+            return Either.left(value);
+        }
+
+        @Override
+        public LongEither<L> bind(LongFunction<LongEither<L>> fxn) {
+            return this;
+        }
+
+        @Override
+        public Either<L, Long> toEither() {
+            return Either.left(value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("LongEither.left[%s]", value.toString());
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Left)) {
+                return false;
+            }
+
+            return Objects.equals(value, ((Left<?>) obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+    }
+
+    /**
+     * Right implementation of LongEither.
+     */
+    static final class Right<L> extends LongEither<L> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final long value;
+
+        private Right(final long value) {
+            this.value = value;
+        }
+
+        private static <L> Right<L> of(final long value) {
+            return new Right<L>(value);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public OptionalLong get() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public long getOrElse(final long defaultValue) {
+            return value;
+        }
+
+        @Override
+        public long getOrElse(LongSupplier supplier) {
+            return value;
+        }
+
+        @Override
+        public Optional<L> getLeft() {
+            return Optional.empty();
+        }
+
+        @Override
+        public L getLeftOrElse(final L defaultValue) {
+            return Objects.requireNonNull(defaultValue);
+        }
+
+        @Override
+        public L getLeftOrElse(Supplier<? extends L> supplier) {
+            return Objects.requireNonNull(supplier).get();
+        }
+
+        @Override
+        L leftOrNull() {
+            return null;
+        }
+
+        @Override
+        long rightValue() {
+            return value;
+        }
+
+        @Override
+        public LongEither<L> map(LongUnaryOperator fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Right.of(fxn.applyAsLong(value));
+        }
+
+        @Override
+        public <B> Either<L, B> mapToObj(LongFunction<? extends B> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Either.right(fxn.apply(value));
+        }
+
+        @Override
+        public LongEither<L> bind(LongFunction<LongEither<L>> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return fxn.apply(value);
+        }
+
+        @Override
+        public Either<L, Long> toEither() {
+            return Either.right(value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("LongEither.right[%s]", Long.toString(value));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Right)) {
+                return false;
+            }
+
+            return value == ((Right<?>) obj).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,240 @@
+package cloud.wraith.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * EitherBatch specialised for primitive long right-hand values, which are kept unboxed in a long[].
+ *
+ * @param <L> The left-hand type
+ */
+public final class LongEitherBatch<L> extends AbstractEitherBatch<L> {
+    private final long[] rights;
+
+    private LongEitherBatch(final Lefts<L> lefts, final long[] rights, final int size) {
+        super(lefts.fit(size), size);
+        this.rights = rights;
+    }
+
+    LongEitherBatch(final AbstractEitherBatch<L> shape, final long[] rights) {
+        super(shape);
+        this.rights = rights;
+    }
+
+    public static <L> LongEitherBatch<L> of(final List<LongEither<L>> eithers) {
+        Objects.requireNonNull(eithers);
+
+        final Builder<L> builder = new Builder<L>(eithers.size());
+        for (final LongEither<L> either : eithers) {
+            builder.add(either);
+        }
+        return builder.build();
+    }
+
+    public static <L> Builder<L> builder() {
+        return new Builder<L>(16);
+    }
+
+    /**
+     * The right-hand value at the position.
+     *
+     * @throws NoSuchElementException If the position holds a Left
+     */
+    public long getRight(final int index) {
+        if (isLeft(index)) {
+            throw new NoSuchElementException(String.format("No Right at position %d", index));
+        }
+        return rights[index];
+    }
+
+    /**
+     * Materialise the LongEither at the position.
+     */
+    public LongEither<L> get(final int index) {
+        return isLeft(index) ? LongEither.<L>left(leftOrNull(index)) : LongEither.<L>right(rights[index]);
+    }
+
+    /**
+     * Map every right-hand value. The result shares this batch's Left side.
+     *
+     * @param fxn The mapping function
+     * @return The result LongEitherBatch&lt;L&gt;
+     */
+    public LongEitherBatch<L> map(final LongUnaryOperator fxn) {
+        Objects.requireNonNull(fxn);
+
+        final long[] mapped = new long[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = fxn.applyAsLong(rights[i]);
+            }
+        }
+        return new LongEitherBatch<L>(this, mapped);
+    }
+
+    /**
+     * Map every right-hand value to an object. The result shares this batch's Left side.
+     *
+     * @param <B> The right-hand type of the result
+     * @param fxn The mapping function
+     * @return The result EitherBatch&lt;L,&nbsp;B&gt;
+     */
+    public <B> EitherBatch<L, B> mapToObj(final LongFunction<? extends B> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Object[] mapped = new Object[size];
+        for (int i = 0; i < size; i++) {
+            if (!isTagged(tags, i)) {
+                mapped[i] = Objects.requireNonNull(fxn.apply(rights[i]));
+            }
+        }
+        return new EitherBatch<L, B>(this, mapped);
+    }
+
+    /**
+     * Keep every Left and the Rights whose value satisfies the predicate, in order.
+     *
+     * @param predicate The test for right-hand values
+     * @return The filtered LongEitherBatch&lt;L&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public LongEitherBatch<L> filter(final LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final long[] kept = new long[size];
+        int count = 0;
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(count++, (L) leftValues[leftOrdinal++]);
+            } else if (predicate.test(rights[i])) {
+                kept[count++] = rights[i];
+            }
+        }
+        return new LongEitherBatch<L>(lefts, count == size ? kept : Arrays.copyOf(kept, count), count);
+    }
+
+    /**
+     * Bind every right-hand value; Lefts pass through and new Lefts join them in position order.
+     *
+     * @param fxn The function from a right-hand value to the next LongEither
+     * @return The result LongEitherBatch&lt;L&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public LongEitherBatch<L> bind(final LongFunction<LongEither<L>> fxn) {
+        Objects.requireNonNull(fxn);
+
+        final Lefts<L> lefts = new Lefts<L>(size);
+        final long[] bound = new long[size];
+        int leftOrdinal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isTagged(tags, i)) {
+                lefts.add(i, (L) leftValues[leftOrdinal++]);
+                continue;
+            }
+            final LongEither<L> either = fxn.apply(rights[i]);
+            if (either.isLeft()) {
+                lefts.add(i, either.leftOrNull());
+            } else {
+                bound[i] = either.rightValue();
+            }
+        }
+        return new LongEitherBatch<L>(lefts, bound, size);
+    }
+
+    /**
+     * A flyweight cursor positioned before the first result.
+     */
+    public Cursor<L> cursor() {
+        return new Cursor<L>(this);
+    }
+
+    /**
+     * Materialise every result.
+     *
+     * @return The unmodifiable list of LongEithers
+     */
+    public List<LongEither<L>> toList() {
+        final List<LongEither<L>> eithers = new ArrayList<LongEither<L>>(size);
+        final Cursor<L> cursor = cursor();
+        while (cursor.next()) {
+            eithers.add(cursor.isLeft() ? LongEither.<L>left(cursor.left()) : LongEither.<L>right(cursor.rightAsLong()));
+        }
+        return Collections.unmodifiableList(eithers);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LongEitherBatch[size=%d, lefts=%d]", size, leftCount);
+    }
+
+    /**
+     * Flyweight view of one position of a LongEitherBatch.
+     */
+    public static final class Cursor<L> extends BaseCursor<L> {
+        private final long[] rights;
+
+        private Cursor(final LongEitherBatch<L> batch) {
+            super(batch);
+            this.rights = batch.rights;
+        }
+
+        /**
+         * The right-hand value at the current position.
+         *
+         * @throws NoSuchElementException If the position holds a Left
+         */
+        public long rightAsLong() {
+            checkSide(false);
+            return rights[index];
+        }
+    }
+
+    /**
+     * Appends results in order.
+     */
+    public static final class Builder<L> {
+        private final Lefts<L> lefts;
+        private long[] rights;
+        private int size;
+
+        private Builder(final int capacity) {
+            this.lefts = new Lefts<L>(capacity);
+            this.rights = new long[capacity];
+        }
+
+        public Builder<L> addLeft(final L value) {
+            ensureCapacity();
+            lefts.add(size++, value);
+            return this;
+        }
+
+        public Builder<L> addRight(final long value) {
+            ensureCapacity();
+            rights[size++] = value;
+            return this;
+        }
+
+        public Builder<L> add(final LongEither<L> either) {
+            return either.isLeft() ? addLeft(either.leftOrNull()) : addRight(either.rightValue());
+        }
+
+        public LongEitherBatch<L> build() {
+            return new LongEitherBatch<L>(lefts.copy(), Arrays.copyOf(rights, size), size);
+        }
+
+        private void ensureCapacity() {
+            if (size == rights.length) {
+                rights = Arrays.copyOf(rights, grow(size));
+            }
+        }
+    }
+}
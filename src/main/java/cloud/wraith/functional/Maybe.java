@@ -0,0 +1,440 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Maybe monad.
+ *
+ * <p>{@code} data Maybe a = Nothing | Just a {code}
+ *
+ * <p>There is a single Nothing instance. Every operation on it returns that same instance,
+ * so the empty path never allocates.
+ */
+public abstract class Maybe<A> {
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private Maybe() {
+    }
+
+    public static <A> Maybe<A> just(final A value) {
+        Objects.requireNonNull(value);
+        return Just.of(value);
+    }
+
+    public static <A> Maybe<A> nothing() {
+        return Nothing.instance();
+    }
+
+    public static <A> Maybe<A> ofNullable(final A value) {
+        return value == null ? Nothing.<A>instance() : Just.of(value);
+    }
+
+    /**
+     * Convert an Optional; an empty Optional becomes the Nothing singleton.
+     *
+     * @param <A>      The value type
+     * @param optional The source Optional
+     * @return The equivalent Maybe
+     */
+    public static <A> Maybe<A> fromOptional(final Optional<? extends A> optional) {
+        Objects.requireNonNull(optional);
+        return ofNullable(optional.orElse(null));
+    }
+
+    /**
+     * Convert an Either; a Left becomes the Nothing singleton and its value is dropped.
+     *
+     * @param <A>    The value type
+     * @param either The source Either
+     * @return The equivalent Maybe
+     */
+    public static <A> Maybe<A> fromEither(final Either<?, ? extends A> either) {
+        Objects.requireNonNull(either);
+        return ofNullable(either.rightOrNull());
+    }
+
+    public abstract boolean isJust();
+
+    public abstract boolean isNothing();
+
+    public abstract Optional<A> get();
+
+    public abstract A getOrElse(final A defaultValue);
+
+    public abstract A getOrElse(Supplier<? extends A> supplier);
+
+    /**
+     * The value without wrapping it in an Optional.
+     *
+     * @return The value, or null for Nothing
+     */
+    public abstract A getOrNull();
+
+    /**
+     * Catamorphism; collapses the Maybe.
+     *
+     * <p>{@code} maybe :: r -> (a -> r) -> Maybe a -> r {code}
+     *
+     * @param <R>       The result type
+     * @param onNothing Supplies the result for Nothing
+     * @param onJust    The function applied to the value of a Just
+     * @return The result
+     */
+    public abstract <R> R fold(Supplier<? extends R> onNothing, Function<? super A, ? extends R> onJust);
+
+    public abstract Maybe<A> peek(Consumer<? super A> consumer);
+
+    /**
+     * Convert into an Optional; Nothing becomes the shared empty Optional.
+     *
+     * @return The equivalent Optional
+     */
+    public abstract Optional<A> toOptional();
+
+    /**
+     * Convert into an Either.
+     *
+     * @param <L>  The left-hand type
+     * @param left The left-hand value to use for Nothing
+     * @return A Right of the value, or a Left of the given value
+     */
+    public abstract <L> Either<L, A> toEither(final L left);
+
+    /**
+     * Functor fmap function.
+     *
+     * <p>{@code fmap :: (a -> b) -> Maybe a -> Maybe b }
+     *
+     * @param <A> The type of the argument Maybe
+     * @param <B> The type of the result Maybe
+     * @param fxn The mapping function
+     * @param fa  The source Maybe&lt;A&gt; functor
+     * @return The result Maybe&lt;B&gt; functor
+     */
+    public static <B, A> Maybe<B> fmap(Function<? super A, ? extends B> fxn, final Maybe<A> fa) {
+        Objects.requireNonNull(fxn);
+        Objects.requireNonNull(fa);
+
+        return fa.map(fxn);
+    }
+
+    /**
+     * Map function.
+     * Equivalent of Functor fmap.
+     *
+     * @param <B> The type of the result Maybe
+     * @param fxn The mapping function
+     * @return The result Maybe&lt;B&gt;
+     */
+    public abstract <B> Maybe<B> map(Function<? super A, ? extends B> fxn);
+
+    /**
+     * Applicative pure function.
+     *
+     * <p>{@code} pure :: a -> Just a {code}
+     *
+     * @param <A>   The type of the value
+     * @param value The value
+     * @return A Just of the value
+     */
+    public static <A> Maybe<A> pure(final A value) {
+        return just(value);
+    }
+
+    /**
+     * Applicative application function.
+     *
+     * @param <A>  The type of the argument Maybe
+     * @param <B>  The type of the result Maybe
+     * @param ffxn The Maybe of the mapping function
+     * @param fa   The source Maybe&lt;A&gt; functor
+     * @return The result Maybe&lt;B&gt; functor
+     */
+    public static <A, B> Maybe<B> fapply(final Maybe<Function<? super A, ? extends B>> ffxn, final Maybe<A> fa) {
+        Objects.requireNonNull(ffxn);
+        Objects.requireNonNull(fa);
+
+        return ffxn.isNothing() ? Maybe.<B>nothing() : fmap(ffxn.getOrNull(), fa);
+    }
+
+    /**
+     * Applicative application function.
+     *
+     * @param <B>  The type of the result Maybe
+     * @param <A1> The type of the argument Maybe
+     * @param fa   The functor to map using the mapping function wrapped by this Maybe
+     * @return The result Maybe&lt;B&gt;
+     */
+    public abstract <B, A1> Maybe<B> apply(final Maybe<A1> fa);
+
+    /**
+     * ap() equivalent of apply().
+     */
+    public <B, A1> Maybe<B> ap(final Maybe<A1> fa) {
+        return apply(fa);
+    }
+
+    /**
+     * Monad return; named mreturn as return is a reserved token in Java.
+     */
+    public static <A> Maybe<A> mreturn(final A value) {
+        return pure(value);
+    }
+
+    /**
+     * Monad (>>=) function.
+     *
+     * @param <A> The type of the argument Maybe
+     * @param <B> The type of the result Maybe
+     * @param ma  The source Maybe&lt;A&gt; monad
+     * @param fxn The function from a value to the next Maybe
+     * @return The result Maybe&lt;B&gt; monad
+     */
+    public static <A, B> Maybe<B> mbind(final Maybe<A> ma, final Function<? super A, Maybe<B>> fxn) {
+        return ma.bind(fxn);
+    }
+
+    /**
+     * Bind function.
+     *
+     * @param <B> The type of the result Maybe
+     * @param fxn The function from a value to the next Maybe
+     * @return The result Maybe&lt;B&gt; monad
+     */
+    public abstract <B> Maybe<B> bind(final Function<? super A, Maybe<B>> fxn);
+
+    /**
+     * Flatmap function.
+     */
+    public <B> Maybe<B> flatmap(final Function<? super A, Maybe<B>> fxn) {
+        return bind(fxn);
+    }
+
+    /**
+     * Nothing implementation of Maybe; a singleton.
+     */
+    static final class Nothing<A> extends Maybe<A> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private static final Nothing<?> INSTANCE = new Nothing<Object>();
+
+        private Nothing() {
+        }
+
+        /**
+         * The Nothing singleton. It holds no value, so its type parameter is a phantom and the cast cannot fail.
+         */
+        @SuppressWarnings("unchecked")
+        private static <A> Nothing<A> instance() {
+            return (Nothing<A>) INSTANCE;
+        }
+
+        @Override
+        public boolean isJust() {
+            return false;
+        }
+
+        @Override
+        public boolean isNothing() {
+            return true;
+        }
+
+        @Override
+        public Optional<A> get() {
+            return Optional.empty();
+        }
+
+        @Override
+        public A getOrElse(final A defaultValue) {
+            return Objects.requireNonNull(defaultValue);
+        }
+
+        @Override
+        public A getOrElse(Supplier<? extends A> supplier) {
+            return Objects.requireNonNull(supplier).get();
+        }
+
+        @Override
+        public A getOrNull() {
+            return null;
+        }
+
+        @Override
+        public <R> R fold(Supplier<? extends R> onNothing, Function<? super A, ? extends R> onJust) {
+            return Objects.requireNonNull(onNothing).get();
+        }
+
+        @Override
+        public Maybe<A> peek(Consumer<? super A> consumer) {
+            return this;
+        }
+
+        @Override
+        public Optional<A> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public <L> Either<L, A> toEither(final L left) {
+            return Either.left(left);
+        }
+
+        @Override
+        public <B> Maybe<B> map(Function<? super A, ? extends B> fxn) {
+            return instance();
+        }
+
+        @Override
+        public <B, A1> Maybe<B> apply(final Maybe<A1> fa) {
+            return instance();
+        }
+
+        @Override
+        public <B> Maybe<B> bind(final Function<? super A, Maybe<B>> fxn) {
+            return instance();
+        }
+
+        @Override
+        public String toString() {
+            return "Maybe.nothing";
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Nothing;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+    }
+
+    /**
+     * Just implementation of Maybe.
+     */
+    static final class Just<A> extends Maybe<A> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final A value;
+
+        private Just(final A value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        private static <A> Just<A> of(final A value) {
+            return new Just<A>(value);
+        }
+
+        @Override
+        public boolean isJust() {
+            return true;
+        }
+
+        @Override
+        public boolean isNothing() {
+            return false;
+        }
+
+        @Override
+        public Optional<A> get() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public A getOrElse(final A defaultValue) {
+            return value;
+        }
+
+        @Override
+        public A getOrElse(Supplier<? extends A> supplier) {
+            return value;
+        }
+
+        @Override
+        public A getOrNull() {
+            return value;
+        }
+
+        @Override
+        public <R> R fold(Supplier<? extends R> onNothing, Function<? super A, ? extends R> onJust) {
+            return Objects.requireNonNull(onJust).apply(value);
+        }
+
+        @Override
+        public Maybe<A> peek(Consumer<? super A> consumer) {
+            Objects.requireNonNull(consumer).accept(value);
+            return this;
+        }
+
+        @Override
+        public Optional<A> toOptional() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public <L> Either<L, A> toEither(final L left) {
+            return Either.right(value);
+        }
+
+        @Override
+        public <B> Maybe<B> map(Function<? super A, ? extends B> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Maybe.<B>just(fxn.apply(value));
+        }
+
+        @Override
+        public <B, A1> Maybe<B> apply(final Maybe<A1> fa) {
+            Objects.requireNonNull(fa);
+            Objects.requireNonNull(value instanceof Function<?, ?> ? value : null);
+
+            @SuppressWarnings("unchecked")
+            Function<? super A1, ? extends B> fxn = (Function<? super A1, ? extends B>) value;
+
+            return fa.map(fxn);
+        }
+
+        @Override
+        public <B> Maybe<B> bind(final Function<? super A, Maybe<B>> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return fxn.apply(value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Maybe.just[%s]", value.toString());
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Just)) {
+                return false;
+            }
+
+            return value.equals(((Just<?>) obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+    }
+
+}
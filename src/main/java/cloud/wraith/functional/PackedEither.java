@@ -0,0 +1,198 @@
+package cloud.wraith.functional;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Either of an int error code or a long value, packed into a single long.
+ *
+ * <p>Bit 0 is the tag, 1 for Left, and the other 63 bits are the payload, so a packed Either
+ * lives in a local, a field or a long[] with no object at all. A Right holds a signed 63-bit
+ * value, from MIN_RIGHT to MAX_RIGHT; a Left holds an int error code, or an enum ordinal.
+ *
+ * <p>{@code} long result = PackedEither.bind(PackedEither.right(x), v -> v < 0 ? PackedEither.left(NEGATIVE) : PackedEither.right(v * 2)); {code}
+ *
+ * <p>Every operation takes and returns the raw long. The conversions to Either allocate and are meant for cold paths.
+ */
+public final class PackedEither {
+    public static final long MIN_RIGHT = Long.MIN_VALUE >> 1;
+    public static final long MAX_RIGHT = Long.MAX_VALUE >> 1;
+
+    private static final long LEFT_TAG = 1L;
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private PackedEither() {
+    }
+
+    /**
+     * Pack a Right.
+     *
+     * @param value The right-hand value, from MIN_RIGHT to MAX_RIGHT
+     * @return The packed Either
+     * @throws ArithmeticException If the value needs all 64 bits
+     */
+    public static long right(final long value) {
+        if (value < MIN_RIGHT || value > MAX_RIGHT) {
+            throw new ArithmeticException(String.format("Right value %d does not fit in 63 bits", value));
+        }
+        return value << 1;
+    }
+
+    /**
+     * Pack a Left.
+     *
+     * @param errorCode The error code
+     * @return The packed Either
+     */
+    public static long left(final int errorCode) {
+        return (long) errorCode << 1 | LEFT_TAG;
+    }
+
+    /**
+     * Pack a Left of an enum constant's ordinal.
+     */
+    public static long left(final Enum<?> error) {
+        return left(error.ordinal());
+    }
+
+    public static boolean isLeft(final long packed) {
+        return (packed & LEFT_TAG) != 0L;
+    }
+
+    public static boolean isRight(final long packed) {
+        return (packed & LEFT_TAG) == 0L;
+    }
+
+    /**
+     * The right-hand value.
+     *
+     * @throws NoSuchElementException If the packed Either is a Left
+     */
+    public static long getRight(final long packed) {
+        if (isLeft(packed)) {
+            throw new NoSuchElementException(String.format("No Right in %s", toString(packed)));
+        }
+        return packed >> 1;
+    }
+
+    /**
+     * The left-hand error code.
+     *
+     * @throws NoSuchElementException If the packed Either is a Right
+     */
+    public static int getLeft(final long packed) {
+        if (isRight(packed)) {
+            throw new NoSuchElementException(String.format("No Left in %s", toString(packed)));
+        }
+        return (int) (packed >> 1);
+    }
+
+    public static long getOrElse(final long packed, final long defaultValue) {
+        return isRight(packed) ? packed >> 1 : defaultValue;
+    }
+
+    /**
+     * Map function; a Left is returned unchanged.
+     *
+     * @param packed The packed Either
+     * @param fxn    The mapping function; its result must fit in 63 bits
+     * @return The packed result
+     */
+    public static long map(final long packed, final LongUnaryOperator fxn) {
+        return isRight(packed) ? right(fxn.applyAsLong(packed >> 1)) : packed;
+    }
+
+    /**
+     * Bind function; a Left is returned unchanged.
+     *
+     * @param packed The packed Either
+     * @param fxn    The function from a right-hand value to the next packed Either
+     * @return The packed result
+     */
+    public static long bind(final long packed, final LongUnaryOperator fxn) {
+        return isRight(packed) ? fxn.applyAsLong(packed >> 1) : packed;
+    }
+
+    /**
+     * Catamorphism into a long, without boxing.
+     *
+     * @param packed  The packed Either
+     * @param onLeft  The function applied to an error code
+     * @param onRight The function applied to a right-hand value
+     * @return The result
+     */
+    public static long foldToLong(final long packed, final IntToLongFunction onLeft, final LongUnaryOperator onRight) {
+        return isLeft(packed) ? onLeft.applyAsLong((int) (packed >> 1)) : onRight.applyAsLong(packed >> 1);
+    }
+
+    /**
+     * Catamorphism; collapses the packed Either.
+     *
+     * @param <R>     The result type
+     * @param packed  The packed Either
+     * @param onLeft  The function applied to an error code
+     * @param onRight The function applied to a right-hand value
+     * @return The result
+     */
+    public static <R> R fold(final long packed, final IntFunction<? extends R> onLeft, final LongFunction<? extends R> onRight) {
+        return isLeft(packed) ? onLeft.apply((int) (packed >> 1)) : onRight.apply(packed >> 1);
+    }
+
+    /**
+     * Unpack into an Either of the error code or the value.
+     */
+    public static Either<Integer, Long> toEither(final long packed) {
+        return isLeft(packed) ? Either.<Integer, Long>left((int) (packed >> 1)) : Either.<Integer, Long>right(packed >> 1);
+    }
+
+    /**
+     * Unpack into an Either of the enum constant with the error code as its ordinal.
+     *
+     * @param <E>       The enum type
+     * @param packed    The packed Either
+     * @param errorType The enum class
+     * @return The Either
+     * @throws IllegalArgumentException If the error code is not an ordinal of the enum
+     */
+    public static <E extends Enum<E>> Either<E, Long> toEither(final long packed, final Class<E> errorType) {
+        Objects.requireNonNull(errorType);
+        if (isRight(packed)) {
+            return Either.right(packed >> 1);
+        }
+
+        final int ordinal = (int) (packed >> 1);
+        final E[] constants = errorType.getEnumConstants();
+        if (ordinal < 0 || ordinal >= constants.length) {
+            throw new IllegalArgumentException(String.format("Error code %d is not an ordinal of %s", ordinal, errorType.getName()));
+        }
+        return Either.left(constants[ordinal]);
+    }
+
+    /**
+     * Pack an Either of an error code or a value.
+     */
+    public static long fromEither(final Either<Integer, Long> either) {
+        Objects.requireNonNull(either);
+        return either.isLeft() ? left(either.leftOrNull()) : right(either.rightOrNull());
+    }
+
+    /**
+     * Pack an Either of an enum constant, by its ordinal, or a value.
+     */
+    public static <E extends Enum<E>> long fromEnumEither(final Either<E, Long> either) {
+        Objects.requireNonNull(either);
+        return either.isLeft() ? left(either.leftOrNull()) : right(either.rightOrNull());
+    }
+
+    public static String toString(final long packed) {
+        return isLeft(packed)
+            ? String.format("PackedEither.left[%d]", (int) (packed >> 1))
+            : String.format("PackedEither.right[%d]", packed >> 1);
+    }
+}
@@ -0,0 +1,116 @@
+package cloud.wraith.functional;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fork-join implementation of Either.parallelTraverse.
+ *
+ * <p>The input is split recursively. Each worker writes into its own slots of a presized array,
+ * and the lowest index that produced a Left is shared. Workers skip elements beyond that index,
+ * which cancels them cooperatively. Elements before it are still evaluated, so the Left returned
+ * is always the leftmost one, whatever the scheduling.
+ */
+final class ParallelTraverse<L, A, B> {
+    private static final int NONE = Integer.MAX_VALUE;
+
+    /**
+     * Number of leaf tasks per worker thread; enough slack to balance uneven per-element costs.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final List<? extends A> source;
+    private final Function<? super A, ? extends Either<L, ? extends B>> fxn;
+    private final Object[] results;
+    private final AtomicInteger leftmost = new AtomicInteger(NONE);
+    private final int threshold;
+
+    private ParallelTraverse(final List<? extends A> source, final Function<? super A, ? extends Either<L, ? extends B>> fxn,
+            final int parallelism) {
+        this.source = source;
+        this.fxn = fxn;
+        this.results = new Object[source.size()];
+        this.threshold = Math.max(1, source.size() / (parallelism * TASKS_PER_THREAD));
+    }
+
+    static <L, A, B> Either<L, List<B>> traverse(final List<? extends A> source,
+            final Function<? super A, ? extends Either<L, ? extends B>> fxn, final ForkJoinPool pool) {
+        final ParallelTraverse<L, A, B> traversal = new ParallelTraverse<L, A, B>(source, fxn, pool.getParallelism());
+
+        final EitherEvents.TraverseSummary event = EitherEvents.ENABLED ? EitherEvents.traverseStarted() : null;
+        pool.invoke(traversal.new Task(0, source.size()));
+        final int index = traversal.leftmost.get();
+        if (event != null) {
+            EitherEvents.traverseEnded(event, "parallelTraverse", source.size(), index == NONE ? -1L : index);
+        }
+
+        return traversal.result();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Either<L, List<B>> result() {
+        final int index = leftmost.get();
+        if (index != NONE) {
+            return Either.coerceLeft((Either<L, ?>) results[index]);
+        }
+
+        return Either.right(Collections.unmodifiableList(Arrays.asList((B[]) results)));
+    }
+
+    private void failAt(final int index) {
+        int current = leftmost.get();
+        while (index < current && !leftmost.compareAndSet(current, index)) {
+            current = leftmost.get();
+        }
+    }
+
+    /**
+     * Traverses the elements in [lo, hi).
+     */
+    private final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 0L;
+
+        private final int lo;
+        private final int hi;
+
+        Task(final int lo, final int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (lo > leftmost.get()) {
+                return;
+            }
+            if (hi - lo <= threshold) {
+                traverseRange();
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+            invokeAll(new Task(lo, mid), new Task(mid, hi));
+        }
+
+        private void traverseRange() {
+            for (int i = lo; i < hi; i++) {
+                if (i > leftmost.get()) {
+                    return;
+                }
+
+                final Either<L, ? extends B> either = fxn.apply(source.get(i));
+                if (either.isLeft()) {
+                    results[i] = either;
+                    failAt(i);
+                    return;
+                }
+                results[i] = either.rightOrNull();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cloud.wraith.functional;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Where and when a Left was created: the named stage that was running, and System.nanoTime().
+ *
+ * <p>Provenance is off unless the JVM is started with
+ * {@code -Dcloud.wraith.functional.provenance.sampling=N}, in which case one Left in N, chosen at
+ * random, records its origin. The stage is the name given with EitherEvents.bind(), or null
+ * outside a named stage. A Left keeps its origin as it propagates through map and bind, which
+ * return the same Left, so the origin of a Left at the end of a pipeline is the stage that
+ * created it. No stack trace is captured.
+ *
+ * <p>A sampled Left is a separate instance, even for an enum value that would otherwise return
+ * a canonical Left. Provenance is not serialized.
+ */
+public final class Provenance {
+
+    /**
+     * The system property holding the sampling rate: record one Left in this many, or none if zero.
+     */
+    public static final String SAMPLING_PROPERTY = "cloud.wraith.functional.provenance.sampling";
+
+    static final int SAMPLING = Math.max(0, Integer.getInteger(SAMPLING_PROPERTY, 0));
+
+    /**
+     * Whether Lefts record their origin; a constant, so the check folds away when it is false.
+     */
+    static final boolean ENABLED = SAMPLING > 0;
+
+    private final String stage;
+    private final long nanoTime;
+
+    Provenance(final String stage, final long nanoTime) {
+        this.stage = stage;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Whether provenance was enabled when the JVM started.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * The origin of a new Left on this thread, or null if it is not sampled.
+     *
+     * @param sampling Record one Left in this many
+     */
+    static Provenance sample(final int sampling) {
+        if (sampling != 1 && ThreadLocalRandom.current().nextInt(sampling) != 0) {
+            return null;
+        }
+        return new Provenance(EitherEvents.currentStage(), System.nanoTime());
+    }
+
+    /**
+     * The name of the stage the Left was created in, or null if it was created outside a named stage.
+     */
+    public String stage() {
+        return stage;
+    }
+
+    /**
+     * The System.nanoTime() at which the Left was created; comparable only with other nanoTime values of this JVM.
+     */
+    public long nanoTime() {
+        return nanoTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s@%dns", stage == null ? "<unnamed>" : stage, nanoTime);
+    }
+}
@@ -0,0 +1,292 @@
+package cloud.wraith.functional;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Retries of an Either-returning operation while it returns a retryable Left.
+ *
+ * <p>The delay before retry n is the initial backoff times the multiplier to the power n - 1,
+ * capped at the maximum backoff. Jitter takes a random fraction, up to the jitter factor, off
+ * each delay, so that clients that failed together do not retry together. Retries stop at the
+ * maximum number of attempts, and before any delay that would end after the maximum elapsed
+ * time; the last Left is then returned.
+ *
+ * <p>Policies are immutable; the with-style methods return a new policy.
+ *
+ * <p>{@code RetryPolicy.<String>retryIf(l -> l.startsWith("timeout")).maxAttempts(5).maxElapsed(Duration.ofSeconds(10))}
+ *
+ * @param <L> The left-hand type
+ */
+public final class RetryPolicy<L> {
+    private static final DoubleSupplier RANDOM = () -> ThreadLocalRandom.current().nextDouble();
+
+    private final Predicate<? super L> retryable;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final double multiplier;
+    private final long maxBackoffNanos;
+    private final double jitter;
+    private final long maxElapsedNanos;
+    private final LongSupplier ticker;
+    private final DoubleSupplier random;
+
+    private RetryPolicy(final Predicate<? super L> retryable, final int maxAttempts, final long initialBackoffNanos,
+            final double multiplier, final long maxBackoffNanos, final double jitter, final long maxElapsedNanos,
+            final LongSupplier ticker, final DoubleSupplier random) {
+        this.retryable = retryable;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.multiplier = multiplier;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.jitter = jitter;
+        this.maxElapsedNanos = maxElapsedNanos;
+        this.ticker = ticker;
+        this.random = random;
+    }
+
+    /**
+     * Retry the Lefts that match the predicate: three attempts in all, backing off from 100 ms,
+     * doubling up to 10 s, with half jitter and no limit on elapsed time.
+     *
+     * @param <L>       The left-hand type
+     * @param retryable Whether a left-hand value is worth retrying
+     * @return The policy
+     */
+    public static <L> RetryPolicy<L> retryIf(final Predicate<? super L> retryable) {
+        Objects.requireNonNull(retryable);
+        return new RetryPolicy<L>(retryable, 3, TimeUnit.MILLISECONDS.toNanos(100), 2.0, TimeUnit.SECONDS.toNanos(10),
+            0.5, Long.MAX_VALUE, System::nanoTime, RANDOM);
+    }
+
+    /**
+     * Limit the number of attempts, including the first.
+     *
+     * @param attempts The maximum number of attempts; must be positive
+     * @return A new policy with the limit
+     */
+    public RetryPolicy<L> maxAttempts(final int attempts) {
+        if (attempts < 1) {
+            throw new IllegalArgumentException(String.format("Max attempts of %d should be >= 1", attempts));
+        }
+        return new RetryPolicy<L>(retryable, attempts, initialBackoffNanos, multiplier, maxBackoffNanos, jitter,
+            maxElapsedNanos, ticker, random);
+    }
+
+    /**
+     * Back off exponentially.
+     *
+     * @param initial    The delay before the first retry; must not be negative
+     * @param multiplier The factor by which each delay grows; must be >= 1
+     * @param max        The longest delay; must not be less than initial
+     * @return A new policy with the backoff
+     */
+    public RetryPolicy<L> backoff(final Duration initial, final double multiplier, final Duration max) {
+        Objects.requireNonNull(initial);
+        Objects.requireNonNull(max);
+        if (initial.isNegative()) {
+            throw new IllegalArgumentException(String.format("Initial backoff of %s should not be negative", initial));
+        }
+        if (!(multiplier >= 1.0)) {
+            throw new IllegalArgumentException(String.format("Multiplier of %s should be >= 1", multiplier));
+        }
+        if (max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException(String.format("Max backoff of %s should be >= %s", max, initial));
+        }
+        return new RetryPolicy<L>(retryable, maxAttempts, initial.toNanos(), multiplier, max.toNanos(), jitter,
+            maxElapsedNanos, ticker, random);
+    }
+
+    /**
+     * Randomise the delays.
+     *
+     * @param factor The largest fraction taken off a delay, from 0 for none to 1 for full jitter
+     * @return A new policy with the jitter
+     */
+    public RetryPolicy<L> jitter(final double factor) {
+        if (!(factor >= 0.0 && factor <= 1.0)) {
+            throw new IllegalArgumentException(String.format("Jitter of %s should be between 0 and 1", factor));
+        }
+        return new RetryPolicy<L>(retryable, maxAttempts, initialBackoffNanos, multiplier, maxBackoffNanos, factor,
+            maxElapsedNanos, ticker, random);
+    }
+
+    /**
+     * Limit the time from the first attempt; no retry is made if its delay would end after the limit.
+     *
+     * @param duration The maximum elapsed time; must be positive
+     * @return A new policy with the limit
+     */
+    public RetryPolicy<L> maxElapsed(final Duration duration) {
+        Objects.requireNonNull(duration);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(String.format("Duration of %s should be positive", duration));
+        }
+        return new RetryPolicy<L>(retryable, maxAttempts, initialBackoffNanos, multiplier, maxBackoffNanos, jitter,
+            duration.toNanos(), ticker, random);
+    }
+
+    /**
+     * Replace the clock and the source of jitter; for tests. Delays are measured on the clock.
+     */
+    RetryPolicy<L> withTicker(final LongSupplier nanoTicker, final DoubleSupplier randomSource) {
+        return new RetryPolicy<L>(retryable, maxAttempts, initialBackoffNanos, multiplier, maxBackoffNanos, jitter,
+            maxElapsedNanos, Objects.requireNonNull(nanoTicker), Objects.requireNonNull(randomSource));
+    }
+
+    /**
+     * Run the operation, parking this thread between attempts.
+     * If the thread is interrupted while it waits, the last Left is returned and the interrupt status is kept.
+     *
+     * @param <A>       The right-hand type
+     * @param operation The operation to retry
+     * @return The first Right, or the last Left
+     */
+    public <A> Either<L, A> retry(final Supplier<Either<L, A>> operation) {
+        Objects.requireNonNull(operation);
+
+        final long start = ticker.getAsLong();
+        for (int attempt = 1; ; attempt++) {
+            final Either<L, A> either = Objects.requireNonNull(operation.get());
+            final long delay = nextDelay(either, attempt, start);
+            if (delay < 0L || !pause(delay)) {
+                return either;
+            }
+        }
+    }
+
+    /**
+     * Run the operation, scheduling each retry on the scheduler. No thread is held between
+     * attempts, so any number of retries can be in flight on a single scheduler thread.
+     * Cancelling the returned future cancels the pending retry, if any, and stops further attempts.
+     *
+     * <p>An exception thrown by the operation, or an exceptional completion of its future, is
+     * not retried; the returned future completes with it.
+     *
+     * @param <A>       The right-hand type
+     * @param operation The asynchronous operation to retry; called first on this thread, then on the scheduler
+     * @param scheduler The scheduler that starts each retry
+     * @return A future of the first Right, or the last Left
+     */
+    public <A> EitherFuture<L, A> retryAsync(final Supplier<EitherFuture<L, A>> operation, final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(operation);
+        Objects.requireNonNull(scheduler);
+
+        final AsyncRetry<A> retry = new AsyncRetry<A>(operation, scheduler);
+        retry.attempt();
+        return EitherFuture.of(retry.result);
+    }
+
+    /**
+     * The delay before the next attempt, or -1 if the result should be returned.
+     */
+    private long nextDelay(final Either<L, ?> either, final int attempt, final long start) {
+        if (either.isRight() || attempt >= maxAttempts || !retryable.test(either.leftOrNull())) {
+            return -1L;
+        }
+        final long delay = delayNanos(attempt);
+        if (maxElapsedNanos != Long.MAX_VALUE && ticker.getAsLong() - start > maxElapsedNanos - delay) {
+            return -1L;
+        }
+        return delay;
+    }
+
+    /**
+     * The delay before the given retry, counting from 1.
+     */
+    long delayNanos(final int retry) {
+        final double backoff = Math.min((double) maxBackoffNanos, initialBackoffNanos * Math.pow(multiplier, retry - 1));
+        return (long) (backoff * (1.0 - jitter * random.getAsDouble()));
+    }
+
+    /**
+     * Park until the delay has passed on the ticker, or the thread is interrupted.
+     *
+     * @return Whether the delay passed without an interrupt
+     */
+    private boolean pause(final long nanos) {
+        final long deadline = ticker.getAsLong() + nanos;
+        for (long remaining = deadline - ticker.getAsLong(); remaining > 0L; remaining = deadline - ticker.getAsLong()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryPolicy[maxAttempts=%d, backoff=%s x%s up to %s, jitter=%s, maxElapsed=%s]",
+            maxAttempts, Duration.ofNanos(initialBackoffNanos), multiplier, Duration.ofNanos(maxBackoffNanos), jitter,
+            maxElapsedNanos == Long.MAX_VALUE ? "unlimited" : Duration.ofNanos(maxElapsedNanos));
+    }
+
+    /**
+     * The state of one asynchronous retry: the attempt number, the scheduled retry and the future of the result.
+     */
+    private final class AsyncRetry<A> {
+        private final Supplier<EitherFuture<L, A>> operation;
+        private final ScheduledExecutorService scheduler;
+        private final CompletableFuture<Either<L, A>> result = new CompletableFuture<Either<L, A>>();
+        private final long start = ticker.getAsLong();
+        private int attempt;
+        private volatile ScheduledFuture<?> pending;
+
+        AsyncRetry(final Supplier<EitherFuture<L, A>> operation, final ScheduledExecutorService scheduler) {
+            this.operation = operation;
+            this.scheduler = scheduler;
+            result.whenComplete((either, error) -> cancelPending());
+        }
+
+        void attempt() {
+            if (result.isDone()) {
+                return;
+            }
+            attempt++;
+            try {
+                operation.get().toCompletableFuture().whenComplete(this::completed);
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        private void completed(final Either<L, A> either, final Throwable error) {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                final long delay = nextDelay(either, attempt, start);
+                if (delay < 0L) {
+                    result.complete(either);
+                } else if (!result.isDone()) {
+                    pending = scheduler.schedule(this::attempt, delay, TimeUnit.NANOSECONDS);
+                    if (result.isDone()) {
+                        // Cancelled while the retry was being scheduled, after the hook read pending.
+                        cancelPending();
+                    }
+                }
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        private void cancelPending() {
+            final ScheduledFuture<?> retry = pending;
+            if (retry != null) {
+                retry.cancel(false);
+            }
+        }
+    }
+}
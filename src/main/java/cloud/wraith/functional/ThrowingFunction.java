@@ -0,0 +1,12 @@
+package cloud.wraith.functional;
+
+/**
+ * A function that may throw a checked exception.
+ *
+ * @param <A> The type of the argument
+ * @param <B> The type of the result
+ */
+@FunctionalInterface
+public interface ThrowingFunction<A, B> {
+    B apply(A a) throws Exception;
+}
@@ -0,0 +1,11 @@
+package cloud.wraith.functional;
+
+/**
+ * A supplier that may throw a checked exception.
+ *
+ * @param <A> The type of the result
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<A> {
+    A get() throws Exception;
+}
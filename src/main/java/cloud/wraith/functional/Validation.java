@@ -0,0 +1,598 @@
+package cloud.wraith.functional;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Validation applicative.
+ *
+ * <p>Like Either, but applying Invalid to Invalid accumulates both error lists instead of
+ * stopping at the first, so every failed check is reported in one pass.
+ * Errors are held in a persistent ErrorList, so accumulation is O(1) per step.
+ *
+ * <p>{@code} data Validation e a = Invalid [e] | Valid a {code}
+ */
+public abstract class Validation<E, A> {
+    @SuppressWarnings("unused")
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Hide the noargs constructor.
+     */
+    private Validation() {
+    }
+
+    public static <E, A> Validation<E, A> valid(final A value) {
+        Objects.requireNonNull(value);
+        return Valid.of(value);
+    }
+
+    public static <E, A> Validation<E, A> invalid(final E error) {
+        return Invalid.of(ErrorList.of(error));
+    }
+
+    public static <E, A> Validation<E, A> invalid(final ErrorList<E> errors) {
+        Objects.requireNonNull(errors);
+        return Invalid.of(errors);
+    }
+
+    /**
+     * Applicative pure function.
+     *
+     * @param <E>   The error type
+     * @param <A>   The value type
+     * @param value The value
+     * @return A Valid holding the value
+     */
+    public static <E, A> Validation<E, A> pure(final A value) {
+        return valid(value);
+    }
+
+    /**
+     * Convert an Either; a Left becomes an Invalid holding a single error.
+     * Neither value is copied.
+     *
+     * @param <E>    The error type
+     * @param <A>    The value type
+     * @param either The source Either&lt;E,&nbsp;A&gt;
+     * @return The equivalent Validation&lt;E,&nbsp;A&gt;
+     */
+    public static <E, A> Validation<E, A> fromEither(final Either<E, A> either) {
+        Objects.requireNonNull(either);
+
+        return either.isLeft() ? invalid(either.leftOrNull()) : valid(either.rightOrNull());
+    }
+
+    public abstract boolean isValid();
+
+    public abstract boolean isInvalid();
+
+    /**
+     * The value without wrapping it in an Optional.
+     *
+     * @return The value, or null for an Invalid
+     */
+    public abstract A valueOrNull();
+
+    /**
+     * The accumulated errors.
+     *
+     * @return The errors, or null for a Valid
+     */
+    public abstract ErrorList<E> errorsOrNull();
+
+    public abstract A getOrElse(final A defaultValue);
+
+    /**
+     * Catamorphism; collapses the Validation by applying the function for whichever side is present.
+     *
+     * @param <R>       The result type
+     * @param onInvalid The function applied to the errors
+     * @param onValid   The function applied to the value
+     * @return The result of whichever function was applied
+     */
+    public abstract <R> R fold(Function<? super ErrorList<E>, ? extends R> onInvalid, Function<? super A, ? extends R> onValid);
+
+    /**
+     * Convert into an Either holding the whole error list on the left.
+     * The error list is shared, not copied.
+     *
+     * @return The equivalent Either&lt;ErrorList&lt;E&gt;,&nbsp;A&gt;
+     */
+    public abstract Either<ErrorList<E>, A> toEither();
+
+    /**
+     * Map function.
+     *
+     * @param <B> The value type of the result Validation
+     * @param fxn The mapping function
+     * @return The result Validation&lt;E,&nbsp;B&gt;
+     */
+    public abstract <B> Validation<E, B> map(Function<? super A, ? extends B> fxn);
+
+    /**
+     * Applicative application function.
+     * If both this function and the argument are Invalid, their errors are concatenated.
+     *
+     * @param <B>  The value type of the result Validation
+     * @param <A1> The value type of the argument Validation
+     * @param fa   The Validation to map using the function wrapped by this Validation
+     * @return The result Validation&lt;E,&nbsp;B&gt;
+     */
+    public abstract <B, A1> Validation<E, B> apply(final Validation<E, A1> fa);
+
+    /**
+     * ap() equivalent of apply().
+     */
+    public <B, A1> Validation<E, B> ap(final Validation<E, A1> fa) {
+        return apply(fa);
+    }
+
+    /**
+     * Applicative combination of two Validations.
+     * Accumulates the errors of every Invalid argument, in argument order.
+     *
+     * @param <E> The error type
+     * @param <A1> The value type of argument Validation fa1
+     * @param <A2> The value type of argument Validation fa2
+     * @param <R> The value type of the result Validation
+     * @param fa1  The argument Validation&lt;E,&nbsp;A1&gt;
+     * @param fa2  The argument Validation&lt;E,&nbsp;A2&gt;
+     * @param fxn The function to apply when every argument is Valid
+     * @return The result Validation&lt;E,&nbsp;R&gt;
+     */
+    public static <E, A1, A2, R> Validation<E, R> map2(final Validation<E, ? extends A1> fa1, final Validation<E, ? extends A2> fa2,
+            final BiFunction<? super A1, ? super A2, ? extends R> fxn) {
+        Objects.requireNonNull(fa1);
+        Objects.requireNonNull(fa2);
+        Objects.requireNonNull(fxn);
+
+        ErrorList<E> errors = null;
+        errors = accumulate(errors, fa1);
+        errors = accumulate(errors, fa2);
+
+        return errors == null ? valid(fxn.apply(fa1.valueOrNull(), fa2.valueOrNull())) : Invalid.of(errors);
+    }
+
+    /**
+     * Applicative combination of three Validations.
+     * Equivalent to {@link #map2} for three arguments.
+     *
+     * @param <E> The error type
+     * @param <A1> The value type of argument Validation fa1
+     * @param <A2> The value type of argument Validation fa2
+     * @param <A3> The value type of argument Validation fa3
+     * @param <R> The value type of the result Validation
+     * @param fa1  The argument Validation&lt;E,&nbsp;A1&gt;
+     * @param fa2  The argument Validation&lt;E,&nbsp;A2&gt;
+     * @param fa3  The argument Validation&lt;E,&nbsp;A3&gt;
+     * @param fxn The function to apply when every argument is Valid
+     * @return The result Validation&lt;E,&nbsp;R&gt;
+     */
+    public static <E, A1, A2, A3, R> Validation<E, R> map3(final Validation<E, ? extends A1> fa1, final Validation<E, ? extends A2> fa2, final Validation<E, ? extends A3> fa3,
+            final Function3<? super A1, ? super A2, ? super A3, ? extends R> fxn) {
+        Objects.requireNonNull(fa1);
+        Objects.requireNonNull(fa2);
+        Objects.requireNonNull(fa3);
+        Objects.requireNonNull(fxn);
+
+        ErrorList<E> errors = null;
+        errors = accumulate(errors, fa1);
+        errors = accumulate(errors, fa2);
+        errors = accumulate(errors, fa3);
+
+        return errors == null ? valid(fxn.apply(fa1.valueOrNull(), fa2.valueOrNull(), fa3.valueOrNull())) : Invalid.of(errors);
+    }
+
+    /**
+     * Applicative combination of four Validations.
+     * Equivalent to {@link #map2} for four arguments.
+     *
+     * @param <E> The error type
+     * @param <A1> The value type of argument Validation fa1
+     * @param <A2> The value type of argument Validation fa2
+     * @param <A3> The value type of argument Validation fa3
+     * @param <A4> The value type of argument Validation fa4
+     * @param <R> The value type of the result Validation
+     * @param fa1  The argument Validation&lt;E,&nbsp;A1&gt;
+     * @param fa2  The argument Validation&lt;E,&nbsp;A2&gt;
+     * @param fa3  The argument Validation&lt;E,&nbsp;A3&gt;
+     * @param fa4  The argument Validation&lt;E,&nbsp;A4&gt;
+     * @param fxn The function to apply when every argument is Valid
+     * @return The result Validation&lt;E,&nbsp;R&gt;
+     */
+    public static <E, A1, A2, A3, A4, R> Validation<E, R> map4(final Validation<E, ? extends A1> fa1, final Validation<E, ? extends A2> fa2, final Validation<E, ? extends A3> fa3, final Validation<E, ? extends A4> fa4,
+            final Function4<? super A1, ? super A2, ? super A3, ? super A4, ? extends R> fxn) {
+        Objects.requireNonNull(fa1);
+        Objects.requireNonNull(fa2);
+        Objects.requireNonNull(fa3);
+        Objects.requireNonNull(fa4);
+        Objects.requireNonNull(fxn);
+
+        ErrorList<E> errors = null;
+        errors = accumulate(errors, fa1);
+        errors = accumulate(errors, fa2);
+        errors = accumulate(errors, fa3);
+        errors = accumulate(errors, fa4);
+
+        return errors == null ? valid(fxn.apply(fa1.valueOrNull(), fa2.valueOrNull(), fa3.valueOrNull(), fa4.valueOrNull())) : Invalid.of(errors);
+    }
+
+    /**
+     * Applicative combination of five Validations.
+     * Equivalent to {@link #map2} for five arguments.
+     *
+     * @param <E> The error type
+     * @param <A1> The value type of argument Validation fa1
+     * @param <A2> The value type of argument Validation fa2
+     * @param <A3> The value type of argument Validation fa3
+     * @param <A4> The value type of argument Validation fa4
+     * @param <A5> The value type of argument Validation fa5
+     * @param <R> The value type of the result Validation
+     * @param fa1  The argument Validation&lt;E,&nbsp;A1&gt;
+     * @param fa2  The argument Validation&lt;E,&nbsp;A2&gt;
+     * @param fa3  The argument Validation&lt;E,&nbsp;A3&gt;
+     * @param fa4  The argument Validation&lt;E,&nbsp;A4&gt;
+     * @param fa5  The argument Validation&lt;E,&nbsp;A5&gt;
+     * @param fxn The function to apply when every argument is Valid
+     * @return The result Validation&lt;E,&nbsp;R&gt;
+     */
+    public static <E, A1, A2, A3, A4, A5, R> Validation<E, R> map5(final Validation<E, ? extends A1> fa1, final Validation<E, ? extends A2> fa2, final Validation<E, ? extends A3> fa3, final Validation<E, ? extends A4> fa4, final Validation<E, ? extends A5> fa5,
+            final Function5<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? extends R> fxn) {
+        Objects.requireNonNull(fa1);
+        Objects.requireNonNull(fa2);
+        Objects.requireNonNull(fa3);
+        Objects.requireNonNull(fa4);
+        Objects.requireNonNull(fa5);
+        Objects.requireNonNull(fxn);
+
+        ErrorList<E> errors = null;
+        errors = accumulate(errors, fa1);
+        errors = accumulate(errors, fa2);
+        errors = accumulate(errors, fa3);
+        errors = accumulate(errors, fa4);
+        errors = accumulate(errors, fa5);
+
+        return errors == null ? valid(fxn.apply(fa1.valueOrNull(), fa2.valueOrNull(), fa3.valueOrNull(), fa4.valueOrNull(), fa5.valueOrNull())) : Invalid.of(errors);
+    }
+
+    /**
+     * Applicative combination of six Validations.
+     * Equivalent to {@link #map2} for six arguments.
+     *
+     * @param <E> The error type
+     * @param <A1> The value type of argument Validation fa1
+     * @param <A2> The value type of argument Validation fa2
+     * @param <A3> The value type of argument Validation fa3
+     * @param <A4> The value type of argument Validation fa4
+     * @param <A5> The value type of argument Validation fa5
+     * @param <A6> The value type of argument Validation fa6
+     * @param <R> The value type of the result Validation
+     * @param fa1  The argument Validation&lt;E,&nbsp;A1&gt;
+     * @param fa2  The argument Validation&lt;E,&nbsp;A2&gt;
+     * @param fa3  The argument Validation&lt;E,&nbsp;A3&gt;
+     * @param fa4  The argument Validation&lt;E,&nbsp;A4&gt;
+     * @param fa5  The argument Validation&lt;E,&nbsp;A5&gt;
+     * @param fa6  The argument Validation&lt;E,&nbsp;A6&gt;
+     * @param fxn The function to apply when every argument is Valid
+     * @return The result Validation&lt;E,&nbsp;R&gt;
+     */
+    public static <E, A1, A2, A3, A4, A5, A6, R> Validation<E, R> map6(final Validation<E, ? extends A1> fa1, final Validation<E, ? extends A2> fa2, final Validation<E, ? extends A3> fa3, final Validation<E, ? extends A4> fa4, final Validation<E, ? extends A5> fa5, final Validation<E, ? extends A6> fa6,
+            final Function6<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? extends R> fxn) {
+        Objects.requireNonNull(fa1);
+        Objects.requireNonNull(fa2);
+        Objects.requireNonNull(fa3);
+        Objects.requireNonNull(fa4);
+        Objects.requireNonNull(fa5);
+        Objects.requireNonNull(fa6);
+        Objects.requireNonNull(fxn);
+
+        ErrorList<E> errors = null;
+        errors = accumulate(errors, fa1);
+        errors = accumulate(errors, fa2);
+        errors = accumulate(errors, fa3);
+        errors = accumulate(errors, fa4);
+        errors = accumulate(errors, fa5);
+        errors = accumulate(errors, fa6);
+
+        return errors == null ? valid(fxn.apply(fa1.valueOrNull(), fa2.valueOrNull(), fa3.valueOrNull(), fa4.valueOrNull(), fa5.valueOrNull(), fa6.valueOrNull())) : Invalid.of(errors);
+    }
+
+    /**
+     * Applicative combination of seven Validations.
+     * Equivalent to {@link #map2} for seven arguments.
+     *
+     * @param <E> The error type
+     * @param <A1> The value type of argument Validation fa1
+     * @param <A2> The value type of argument Validation fa2
+     * @param <A3> The value type of argument Validation fa3
+     * @param <A4> The value type of argument Validation fa4
+     * @param <A5> The value type of argument Validation fa5
+     * @param <A6> The value type of argument Validation fa6
+     * @param <A7> The value type of argument Validation fa7
+     * @param <R> The value type of the result Validation
+     * @param fa1  The argument Validation&lt;E,&nbsp;A1&gt;
+     * @param fa2  The argument Validation&lt;E,&nbsp;A2&gt;
+     * @param fa3  The argument Validation&lt;E,&nbsp;A3&gt;
+     * @param fa4  The argument Validation&lt;E,&nbsp;A4&gt;
+     * @param fa5  The argument Validation&lt;E,&nbsp;A5&gt;
+     * @param fa6  The argument Validation&lt;E,&nbsp;A6&gt;
+     * @param fa7  The argument Validation&lt;E,&nbsp;A7&gt;
+     * @param fxn The function to apply when every argument is Valid
+     * @return The result Validation&lt;E,&nbsp;R&gt;
+     */
+    public static <E, A1, A2, A3, A4, A5, A6, A7, R> Validation<E, R> map7(final Validation<E, ? extends A1> fa1, final Validation<E, ? extends A2> fa2, final Validation<E, ? extends A3> fa3, final Validation<E, ? extends A4> fa4, final Validation<E, ? extends A5> fa5, final Validation<E, ? extends A6> fa6, final Validation<E, ? extends A7> fa7,
+            final Function7<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? extends R> fxn) {
+        Objects.requireNonNull(fa1);
+        Objects.requireNonNull(fa2);
+        Objects.requireNonNull(fa3);
+        Objects.requireNonNull(fa4);
+        Objects.requireNonNull(fa5);
+        Objects.requireNonNull(fa6);
+        Objects.requireNonNull(fa7);
+        Objects.requireNonNull(fxn);
+
+        ErrorList<E> errors = null;
+        errors = accumulate(errors, fa1);
+        errors = accumulate(errors, fa2);
+        errors = accumulate(errors, fa3);
+        errors = accumulate(errors, fa4);
+        errors = accumulate(errors, fa5);
+        errors = accumulate(errors, fa6);
+        errors = accumulate(errors, fa7);
+
+        return errors == null ? valid(fxn.apply(fa1.valueOrNull(), fa2.valueOrNull(), fa3.valueOrNull(), fa4.valueOrNull(), fa5.valueOrNull(), fa6.valueOrNull(), fa7.valueOrNull())) : Invalid.of(errors);
+    }
+
+    /**
+     * Applicative combination of eight Validations.
+     * Equivalent to {@link #map2} for eight arguments.
+     *
+     * @param <E> The error type
+     * @param <A1> The value type of argument Validation fa1
+     * @param <A2> The value type of argument Validation fa2
+     * @param <A3> The value type of argument Validation fa3
+     * @param <A4> The value type of argument Validation fa4
+     * @param <A5> The value type of argument Validation fa5
+     * @param <A6> The value type of argument Validation fa6
+     * @param <A7> The value type of argument Validation fa7
+     * @param <A8> The value type of argument Validation fa8
+     * @param <R> The value type of the result Validation
+     * @param fa1  The argument Validation&lt;E,&nbsp;A1&gt;
+     * @param fa2  The argument Validation&lt;E,&nbsp;A2&gt;
+     * @param fa3  The argument Validation&lt;E,&nbsp;A3&gt;
+     * @param fa4  The argument Validation&lt;E,&nbsp;A4&gt;
+     * @param fa5  The argument Validation&lt;E,&nbsp;A5&gt;
+     * @param fa6  The argument Validation&lt;E,&nbsp;A6&gt;
+     * @param fa7  The argument Validation&lt;E,&nbsp;A7&gt;
+     * @param fa8  The argument Validation&lt;E,&nbsp;A8&gt;
+     * @param fxn The function to apply when every argument is Valid
+     * @return The result Validation&lt;E,&nbsp;R&gt;
+     */
+    public static <E, A1, A2, A3, A4, A5, A6, A7, A8, R> Validation<E, R> map8(final Validation<E, ? extends A1> fa1, final Validation<E, ? extends A2> fa2, final Validation<E, ? extends A3> fa3, final Validation<E, ? extends A4> fa4, final Validation<E, ? extends A5> fa5, final Validation<E, ? extends A6> fa6, final Validation<E, ? extends A7> fa7, final Validation<E, ? extends A8> fa8,
+            final Function8<? super A1, ? super A2, ? super A3, ? super A4, ? super A5, ? super A6, ? super A7, ? super A8, ? extends R> fxn) {
+        Objects.requireNonNull(fa1);
+        Objects.requireNonNull(fa2);
+        Objects.requireNonNull(fa3);
+        Objects.requireNonNull(fa4);
+        Objects.requireNonNull(fa5);
+        Objects.requireNonNull(fa6);
+        Objects.requireNonNull(fa7);
+        Objects.requireNonNull(fa8);
+        Objects.requireNonNull(fxn);
+
+        ErrorList<E> errors = null;
+        errors = accumulate(errors, fa1);
+        errors = accumulate(errors, fa2);
+        errors = accumulate(errors, fa3);
+        errors = accumulate(errors, fa4);
+        errors = accumulate(errors, fa5);
+        errors = accumulate(errors, fa6);
+        errors = accumulate(errors, fa7);
+        errors = accumulate(errors, fa8);
+
+        return errors == null ? valid(fxn.apply(fa1.valueOrNull(), fa2.valueOrNull(), fa3.valueOrNull(), fa4.valueOrNull(), fa5.valueOrNull(), fa6.valueOrNull(), fa7.valueOrNull(), fa8.valueOrNull())) : Invalid.of(errors);
+    }
+
+    private static <E> ErrorList<E> accumulate(final ErrorList<E> errors, final Validation<E, ?> fa) {
+        final ErrorList<E> more = fa.errorsOrNull();
+        if (more == null) {
+            return errors;
+        }
+        return errors == null ? more : errors.concat(more);
+    }
+
+    /**
+     * Invalid implementation of Validation.
+     */
+    static final class Invalid<E, A> extends Validation<E, A> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final ErrorList<E> errors;
+
+        private Invalid(final ErrorList<E> errors) {
+            this.errors = Objects.requireNonNull(errors);
+        }
+
+        private static <E, A> Invalid<E, A> of(final ErrorList<E> errors) {
+            return new Invalid<E, A>(errors);
+        }
+
+        /**
+         * Re-types this Invalid without allocating; its value type is a phantom.
+         */
+        @SuppressWarnings("unchecked")
+        private <B> Invalid<E, B> coerce() {
+            return (Invalid<E, B>) this;
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return true;
+        }
+
+        @Override
+        public A valueOrNull() {
+            return null;
+        }
+
+        @Override
+        public ErrorList<E> errorsOrNull() {
+            return errors;
+        }
+
+        @Override
+        public A getOrElse(final A defaultValue) {
+            return Objects.requireNonNull(defaultValue);
+        }
+
+        @Override
+        public <R> R fold(Function<? super ErrorList<E>, ? extends R> onInvalid, Function<? super A, ? extends R> onValid) {
+            return Objects.requireNonNull(onInvalid).apply(errors);
+        }
+
+        @Override
+        public Either<ErrorList<E>, A> toEither() {
+            return Either.left(errors);
+        }
+
+        @Override
+        public <B> Validation<E, B> map(Function<? super A, ? extends B> fxn) {
+            return coerce();
+        }
+
+        @Override
+        public <B, A1> Validation<E, B> apply(final Validation<E, A1> fa) {
+            Objects.requireNonNull(fa);
+
+            final ErrorList<E> more = fa.errorsOrNull();
+
+            return more == null ? coerce() : Invalid.of(errors.concat(more));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Validation.invalid[%s]", errors.toString());
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Invalid)) {
+                return false;
+            }
+
+            return errors.equals(((Invalid<?, ?>) obj).errors);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * errors.hashCode() + 1;
+        }
+
+    }
+
+    /**
+     * Valid implementation of Validation.
+     */
+    static final class Valid<E, A> extends Validation<E, A> {
+        @SuppressWarnings("unused")
+        private static final long serialVersionUID = 0L;
+
+        private final A value;
+
+        private Valid(final A value) {
+            this.value = Objects.requireNonNull(value);
+        }
+
+        private static <E, A> Valid<E, A> of(final A value) {
+            return new Valid<E, A>(value);
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return false;
+        }
+
+        @Override
+        public A valueOrNull() {
+            return value;
+        }
+
+        @Override
+        public ErrorList<E> errorsOrNull() {
+            return null;
+        }
+
+        @Override
+        public A getOrElse(final A defaultValue) {
+            return value;
+        }
+
+        @Override
+        public <R> R fold(Function<? super ErrorList<E>, ? extends R> onInvalid, Function<? super A, ? extends R> onValid) {
+            return Objects.requireNonNull(onValid).apply(value);
+        }
+
+        @Override
+        public Either<ErrorList<E>, A> toEither() {
+            return Either.right(value);
+        }
+
+        @Override
+        public <B> Validation<E, B> map(Function<? super A, ? extends B> fxn) {
+            Objects.requireNonNull(fxn);
+
+            return Validation.<E, B>valid(fxn.apply(value));
+        }
+
+        @Override
+        public <B, A1> Validation<E, B> apply(final Validation<E, A1> fa) {
+            Objects.requireNonNull(fa);
+            Objects.requireNonNull(value instanceof Function<?, ?> ? value : null);
+
+            @SuppressWarnings("unchecked")
+            Function<? super A1, ? extends B> fxn = (Function<? super A1, ? extends B>) value;
+
+            return fa.map(fxn);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Validation.valid[%s]", value.toString());
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Valid)) {
+                return false;
+            }
+
+            return value.equals(((Valid<?, ?>) obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * value.hashCode();
+        }
+
+    }
+
+}
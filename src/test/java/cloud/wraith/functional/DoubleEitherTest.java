@@ -0,0 +1,91 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit test for DoubleEither class.
+ */
+public class DoubleEitherTest {
+    private static final String LEFT_VALUE = "I am left-handed";
+    private static final double X = 7.5;
+    private static final double Y = 6.0;
+
+    /**
+     * Test isLeft() and isRight().
+     */
+    @Test
+    public void shouldBeALeftOrARight() {
+        assertTrue("Should be a Left", DoubleEither.left(LEFT_VALUE).isLeft());
+        assertFalse("Should not be a Right", DoubleEither.left(LEFT_VALUE).isRight());
+        assertTrue("Should be a Right", DoubleEither.right(X).isRight());
+        assertFalse("Should not be a Left", DoubleEither.right(X).isLeft());
+    }
+
+    /**
+     * Test getOrElse() and getLeftOrElse().
+     */
+    @Test
+    public void shouldGetTheValueOrTheDefault() {
+        assertEquals("Should get the value", X, DoubleEither.right(X).getOrElse(Y), 0.0);
+        assertEquals("Should get the default", Y, DoubleEither.left(LEFT_VALUE).getOrElse(Y), 0.0);
+        assertEquals("Should get the supplied value", Y, DoubleEither.left(LEFT_VALUE).getOrElse(() -> Y), 0.0);
+        assertEquals("Should get the left value", LEFT_VALUE, DoubleEither.<String>left(LEFT_VALUE).getLeftOrElse(""));
+        assertTrue("Should be empty", DoubleEither.left(LEFT_VALUE).get().isEmpty());
+    }
+
+    /**
+     * Test map() and mapToObj().
+     */
+    @Test
+    public void shouldMapTheUnboxedValue() {
+        final DoubleEither<String> left = DoubleEither.left(LEFT_VALUE);
+
+        assertEquals("Should map a Right", DoubleEither.right(X + Y), DoubleEither.right(X).map(x -> x + Y));
+        assertSame("Should not map a Left", left, left.map(x -> x + Y));
+        assertEquals("Should map a Right to an object", Either.right(Double.toString(X)), DoubleEither.right(X).mapToObj(Double::toString));
+        assertEquals("Should not map a Left to an object", Either.left(LEFT_VALUE), left.mapToObj(Double::toString));
+    }
+
+    /**
+     * Test bind().
+     */
+    @Test
+    public void shouldBindTheUnboxedValue() {
+        final DoubleEither<String> left = DoubleEither.left(LEFT_VALUE);
+
+        assertEquals("Should bind a Right", DoubleEither.right(X * Y), DoubleEither.<String>right(X).bind(x -> DoubleEither.right(x * Y)));
+        assertEquals("Should bind a Right to a Left", left, DoubleEither.<String>right(X).bind(x -> left));
+        assertSame("Should not bind a Left", left, left.bind(x -> DoubleEither.right(x * Y)));
+    }
+
+    /**
+     * Test conversion to and from the boxed Either.
+     */
+    @Test
+    public void shouldConvertToAndFromEither() {
+        assertEquals("Should convert a Right", Either.right(X), DoubleEither.right(X).toEither());
+        assertEquals("Should convert a Left", Either.left(LEFT_VALUE), DoubleEither.left(LEFT_VALUE).toEither());
+        assertEquals("Should convert from a Right", DoubleEither.right(X), DoubleEither.fromEither(Either.right(X)));
+        assertEquals("Should convert from a Left", DoubleEither.left(LEFT_VALUE), DoubleEither.fromEither(Either.<String, Double>left(LEFT_VALUE)));
+    }
+
+    /**
+     * Test equals(), hashCode() and toString().
+     */
+    @Test
+    public void shouldCompareByValue() {
+        assertEquals(DoubleEither.right(X), DoubleEither.right(X));
+        assertEquals(DoubleEither.right(X).hashCode(), DoubleEither.right(X).hashCode());
+        assertNotEquals(DoubleEither.right(X), DoubleEither.right(Y));
+        assertEquals(DoubleEither.left(LEFT_VALUE), DoubleEither.left(LEFT_VALUE));
+        assertNotEquals(DoubleEither.left(LEFT_VALUE), DoubleEither.right(X));
+        assertEquals(String.format("DoubleEither.right[%s]", X), DoubleEither.right(X).toString());
+        assertEquals(String.format("DoubleEither.left[%s]", LEFT_VALUE), DoubleEither.left(LEFT_VALUE).toString());
+    }
+}
@@ -1,6 +1,7 @@
 package cloud.wraith.functional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import cloud.wraith.functional.Either.Right;
@@ -81,6 +82,29 @@ public class EitherApplicativeTest {
         assertTrue("Should apply a Left function to a Right value", expected.equals(actual));
     }
 
+    /**
+     * Test that apply() and fapply() propagate a Left function without allocating a new Left.
+     */
+    @Test
+    public void shouldReuseTheLeftFunction() {
+        final Either<String, Function<String, String>> left_g = Either.left(LEFT_FUNCTION_VALUE);
+        final Either<String, Function<? super String, ? extends String>> left_h = Either.left(LEFT_FUNCTION_VALUE);
+
+        assertSame("Should return the same Left from apply", left_g, left_g.apply(Either.right(WORLD)));
+        assertSame("Should return the same Left from fapply", left_h, Either.fapply(left_h, Either.right(WORLD)));
+    }
+
+    /**
+     * Test that apply() of a Right function propagates a Left value without allocating a new Left.
+     */
+    @Test
+    public void shouldReuseTheLeftValue() {
+        final Function<String, String> g = a -> String.format("%s, %s", HELLO, a);
+        final Either<String, String> mx = Either.<String, String>left(LEFT_VALUE);
+
+        assertSame("Should return the same Left", mx, Either.<String, Function<String, String>>pure(g).apply(mx));
+    }
+
     /**
      * Test apply() for a Right function and a Left value.
      * {@code}
@@ -0,0 +1,166 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherBatch and its primitive variants.
+ */
+public class EitherBatchTest {
+    private static final String BAD = "bad";
+    private static final String ODD = "odd";
+
+    private final List<Either<String, Integer>> eithers = Arrays.<Either<String, Integer>>asList(
+        Either.right(1), Either.left(BAD), Either.right(2), Either.right(3), Either.left(BAD), Either.right(4));
+
+    /**
+     * Test that a batch round trips its Eithers.
+     */
+    @Test
+    public void shouldRoundTripTheEithers() {
+        final EitherBatch<String, Integer> batch = EitherBatch.of(eithers);
+
+        assertEquals(6, batch.size());
+        assertEquals(2, batch.countLeft());
+        assertEquals(4, batch.countRight());
+        assertEquals(eithers, batch.toList());
+        assertEquals(Either.left(BAD), batch.get(4));
+        assertEquals(BAD, batch.leftOrNull(1));
+        assertNull(batch.leftOrNull(0));
+        assertNull(batch.rightOrNull(1));
+    }
+
+    /**
+     * Test map leaves the Lefts in place.
+     */
+    @Test
+    public void shouldMapTheRights() {
+        final EitherBatch<String, String> mapped = EitherBatch.of(eithers).map(n -> "#" + n);
+
+        assertEquals(Arrays.asList(Either.right("#1"), Either.left(BAD), Either.right("#2"),
+            Either.right("#3"), Either.left(BAD), Either.right("#4")), mapped.toList());
+    }
+
+    /**
+     * Test filter drops failing Rights and keeps the Lefts in order.
+     */
+    @Test
+    public void shouldFilterTheRights() {
+        final EitherBatch<String, Integer> filtered = EitherBatch.of(eithers).filter(n -> n % 2 == 0);
+
+        assertEquals(Arrays.asList(Either.left(BAD), Either.right(2), Either.left(BAD), Either.right(4)), filtered.toList());
+        assertEquals(2, filtered.countLeft());
+    }
+
+    /**
+     * Test bind merges new Lefts in position order.
+     */
+    @Test
+    public void shouldBindTheRights() {
+        final EitherBatch<String, Integer> bound = EitherBatch.of(eithers)
+            .bind(n -> n % 2 == 0 ? Either.<String, Integer>right(n * 10) : Either.<String, Integer>left(ODD));
+
+        assertEquals(Arrays.asList(Either.left(ODD), Either.left(BAD), Either.right(20),
+            Either.left(ODD), Either.left(BAD), Either.right(40)), bound.toList());
+        assertEquals(ODD, bound.leftOrNull(3));
+        assertEquals(4, bound.countLeft());
+    }
+
+    /**
+     * Test the cursor visits every position through one object.
+     */
+    @Test
+    public void shouldIterateWithAFlyweightCursor() {
+        final EitherBatch.Cursor<String, Integer> cursor = EitherBatch.of(eithers).cursor();
+        final List<String> seen = new ArrayList<String>();
+
+        while (cursor.next()) {
+            seen.add(cursor.isLeft() ? cursor.left() : String.valueOf(cursor.right()));
+        }
+
+        assertEquals(Arrays.asList("1", BAD, "2", "3", BAD, "4"), seen);
+        assertFalse(cursor.next());
+    }
+
+    /**
+     * Test the cursor rejects the wrong side.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void shouldRejectTheWrongSide() {
+        final EitherBatch.Cursor<String, Integer> cursor = EitherBatch.of(eithers).cursor();
+        cursor.next();
+        cursor.left();
+    }
+
+    /**
+     * Test that a builder spans many tag words and can carry on after build().
+     */
+    @Test
+    public void shouldBuildLargeBatches() {
+        final EitherBatch.Builder<String, Integer> builder = EitherBatch.builder();
+        for (int i = 0; i < 1000; i++) {
+            if (i % 7 == 0) {
+                builder.addLeft("L" + i);
+            } else {
+                builder.addRight(i);
+            }
+        }
+        final EitherBatch<String, Integer> batch = builder.build();
+        builder.addLeft("extra");
+
+        assertEquals(1000, batch.size());
+        assertEquals(143, batch.countLeft());
+        assertTrue(batch.isLeft(994));
+        assertEquals("L994", batch.leftOrNull(994));
+        assertEquals(Integer.valueOf(999), batch.rightOrNull(999));
+        assertEquals(1001, builder.build().size());
+    }
+
+    /**
+     * Test the int variant keeps values unboxed through map, filter and bind.
+     */
+    @Test
+    public void shouldWorkOnUnboxedInts() {
+        final IntEitherBatch<String> batch = EitherBatch.of(eithers).mapToInt(Integer::intValue);
+
+        final IntEitherBatch<String> result = batch
+            .map(n -> n * 3)
+            .filter(n -> n > 3)
+            .bind(n -> n == 9 ? IntEither.<String>left(ODD) : IntEither.<String>right(n + 1));
+
+        assertEquals(Arrays.asList(IntEither.left(BAD), IntEither.right(7), IntEither.left(ODD),
+            IntEither.left(BAD), IntEither.right(13)), result.toList());
+        assertEquals(7, result.getRight(1));
+        assertEquals(Either.right("7"), result.mapToObj(String::valueOf).get(1));
+
+        final IntEitherBatch.Cursor<String> cursor = result.cursor();
+        int sum = 0;
+        while (cursor.next()) {
+            sum += cursor.isRight() ? cursor.rightAsInt() : 0;
+        }
+        assertEquals(20, sum);
+    }
+
+    /**
+     * Test the long and double variants.
+     */
+    @Test
+    public void shouldWorkOnUnboxedLongsAndDoubles() {
+        final LongEitherBatch<String> longs = LongEitherBatch.<String>builder().addRight(1L << 40).addLeft(BAD).build();
+        final DoubleEitherBatch<String> doubles = EitherBatch.of(eithers).mapToDouble(n -> n / 2.0);
+
+        assertEquals((1L << 40) * 2, longs.map(n -> n * 2).getRight(0));
+        assertEquals(BAD, longs.leftOrNull(1));
+        assertEquals(1.5, doubles.getRight(3), 0.0);
+        assertEquals(2, doubles.filter(d -> d >= 1.0).countLeft());
+    }
+}
@@ -0,0 +1,124 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the exception-capturing functions of Either.
+ */
+public class EitherCatchingTest {
+    private static final String HELLO = "hello";
+    private static final String MESSAGE = "I failed";
+
+    private static String fail() throws IOException {
+        throw new IOException(MESSAGE);
+    }
+
+    /**
+     * Test catching() for a supplier that returns.
+     */
+    @Test
+    public void shouldCatchNothing() {
+        assertEquals(Either.right(HELLO), Either.catching(() -> HELLO));
+    }
+
+    /**
+     * Test catching() keeps the exception itself by default.
+     */
+    @Test
+    public void shouldCatchTheException() {
+        final Either<Exception, String> actual = Either.catching(EitherCatchingTest::fail);
+
+        assertTrue("Should be an IOException", actual.leftOrNull() instanceof IOException);
+        assertTrue("Should have a stack trace", actual.leftOrNull().getStackTrace().length > 0);
+    }
+
+    /**
+     * Test catching() with the stackless policy.
+     */
+    @Test
+    public void shouldCatchAStacklessFailure() {
+        final Either<Exception, String> actual = Either.catching(EitherCatchingTest::fail, FailureCapture.stackless());
+        final Failure failure = (Failure) actual.leftOrNull();
+
+        assertEquals(IOException.class, failure.getType());
+        assertEquals(MESSAGE, failure.getMessage());
+        assertEquals(0, failure.getStackTrace().length);
+        assertFalse("Should not keep the cause", failure.isSampled());
+        assertEquals("Failure[java.io.IOException: I failed]", failure.toString());
+    }
+
+    /**
+     * Test catching() with sampling keeps the cause for every failure at a rate of 1.
+     */
+    @Test
+    public void shouldSampleTheFullException() {
+        final Failure failure = (Failure) Either.catching(EitherCatchingTest::fail, FailureCapture.sampled(1)).leftOrNull();
+
+        assertTrue("Should keep the cause", failure.isSampled());
+        assertTrue("Should keep the stack trace of the cause", failure.getCause().getStackTrace().length > 0);
+    }
+
+    /**
+     * Test sampling keeps roughly one cause in n.
+     */
+    @Test
+    public void shouldSampleOneInN() {
+        final int n = 10;
+        final int failures = 10_000;
+        int sampled = 0;
+        for (int i = 0; i < failures; i++) {
+            if (((Failure) Either.catching(EitherCatchingTest::fail, FailureCapture.sampled(n)).leftOrNull()).isSampled()) {
+                sampled++;
+            }
+        }
+
+        assertTrue(String.format("Should sample about %d, sampled %d", failures / n, sampled),
+            sampled > failures / n / 2 && sampled < failures / n * 2);
+    }
+
+    /**
+     * Test mapCatching() and bindCatching().
+     */
+    @Test
+    public void shouldMapAndBindCatching() {
+        final Either<String, String> right = Either.right(HELLO);
+        final Either<String, String> left = Either.left(MESSAGE);
+
+        assertEquals(Either.right(5), right.mapCatching(String::length, Exception::getMessage));
+        assertEquals(Either.left(MESSAGE), right.mapCatching(value -> fail(), Exception::getMessage));
+        assertSame(left, left.mapCatching(value -> fail(), Exception::getMessage));
+        assertEquals(Either.right(HELLO), right.bindCatching(Either::right, Exception::getMessage));
+        assertEquals(Either.left(MESSAGE), right.bindCatching(value -> Either.right(fail()), Exception::getMessage));
+    }
+
+    /**
+     * Test a FailureCapture used as the error mapping of mapCatching().
+     */
+    @Test
+    public void shouldMapCatchingToAFailure() {
+        final Either<Exception, String> actual = Either.<Exception, String>right(HELLO)
+            .mapCatching(value -> fail(), FailureCapture.stackless());
+
+        assertEquals(IOException.class, ((Failure) actual.leftOrNull()).getType());
+    }
+
+    /**
+     * Test the interrupt status survives capturing an InterruptedException.
+     */
+    @Test
+    public void shouldRestoreTheInterrupt() {
+        final Either<Exception, String> actual = Either.catching(() -> {
+            throw new InterruptedException();
+        });
+
+        assertTrue("Should be an InterruptedException", actual.leftOrNull() instanceof InterruptedException);
+        assertTrue("Should restore the interrupt status", Thread.interrupted());
+    }
+}
@@ -0,0 +1,122 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherCodec class and Either serialization.
+ */
+public class EitherCodecTest {
+    private static final String GREETING = "héllo wörld € 😀";
+
+    private final EitherCodec<String, Long> codec = EitherCodec.of(ElementCodec.utf8(), ElementCodec.longs());
+
+    /**
+     * Test a round trip through a direct buffer.
+     */
+    @Test
+    public void shouldRoundTripThroughADirectBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+        codec.encode(Either.<String, Long>right(42L), buffer);
+        codec.encode(Either.<String, Long>left(GREETING), buffer);
+        buffer.flip();
+
+        assertEquals(Either.right(42L), codec.decode(buffer));
+        assertEquals(Either.left(GREETING), codec.decode(buffer));
+        assertEquals("Should consume every byte", 0, buffer.remaining());
+    }
+
+    /**
+     * Test the encoded layout and size.
+     */
+    @Test
+    public void shouldWriteATagAndThePayload() {
+        final Either<String, Long> right = Either.right(7L);
+        final ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(right));
+
+        codec.encode(right, buffer);
+
+        assertEquals(9, buffer.position());
+        assertEquals(EitherCodec.RIGHT_TAG, buffer.get(0));
+        assertEquals(7L, buffer.getLong(1));
+        assertEquals(1 + 4 + GREETING.getBytes(StandardCharsets.UTF_8).length,
+            codec.encodedSize(Either.<String, Long>left(GREETING)));
+    }
+
+    /**
+     * Test the UTF-8 codec agrees with the JDK encoder.
+     */
+    @Test
+    public void shouldEncodeUtf8LikeTheJdk() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        ElementCodec.utf8().encode(GREETING, buffer);
+
+        final byte[] expected = GREETING.getBytes(StandardCharsets.UTF_8);
+        final byte[] actual = new byte[buffer.position() - 4];
+        buffer.flip();
+        assertEquals(expected.length, buffer.getInt());
+        buffer.get(actual);
+        assertEquals(Arrays.toString(expected), Arrays.toString(actual));
+    }
+
+    /**
+     * Test a round trip of a list.
+     */
+    @Test
+    public void shouldRoundTripAList() {
+        final List<Either<String, Long>> eithers = Arrays.<Either<String, Long>>asList(
+            Either.right(1L), Either.left("bad"), Either.right(Long.MIN_VALUE));
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(codec.encodedSize(eithers));
+
+        codec.encodeAll(eithers, buffer);
+        assertEquals(0, buffer.remaining());
+        buffer.flip();
+
+        assertEquals(eithers, codec.decodeAll(buffer));
+    }
+
+    /**
+     * Test that a corrupt tag is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAnUnknownTag() {
+        codec.decode(ByteBuffer.wrap(new byte[] {7, 0, 0, 0, 0, 0, 0, 0, 0}));
+    }
+
+    /**
+     * Test Java serialization round trips and keeps canonical instances canonical.
+     */
+    @Test
+    public void shouldSerializeThroughTheProxy() throws Exception {
+        final Either<String, Integer> left = Either.left(GREETING);
+        final Either<String, Integer> right = Either.right(5);
+
+        assertEquals(left, roundTrip(left));
+        assertSame("Should resolve to the canonical Right", right, roundTrip(right));
+        assertSame("Should resolve to the canonical enum Left",
+            Either.left(Thread.State.NEW), roundTrip(Either.left(Thread.State.NEW)));
+    }
+
+    private static Object roundTrip(final Object value) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
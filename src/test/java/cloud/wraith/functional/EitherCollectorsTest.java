@@ -0,0 +1,98 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherCollectors class.
+ */
+public class EitherCollectorsTest {
+    private static final int SIZE = 100_000;
+
+    /**
+     * Every multiple of 7 is a Left of its negation, everything else a Right.
+     */
+    private static Stream<Either<Integer, Integer>> eithers(final boolean parallel) {
+        final IntStream range = IntStream.range(0, SIZE);
+        return (parallel ? range.parallel() : range)
+            .mapToObj(i -> i % 7 == 0 ? Either.<Integer, Integer>left(-i) : Either.<Integer, Integer>right(i));
+    }
+
+    private static List<Integer> expected(final boolean lefts) {
+        final List<Integer> result = new ArrayList<Integer>();
+        for (int i = 0; i < SIZE; i++) {
+            if (lefts && i % 7 == 0) {
+                result.add(-i);
+            } else if (!lefts && i % 7 != 0) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test partition() keeps encounter order, sequentially and in parallel.
+     */
+    @Test
+    public void shouldPartition() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            final EitherCollectors.Partition<Integer, Integer> partition = eithers(parallel).collect(EitherCollectors.partition());
+
+            assertEquals(expected(true), partition.lefts());
+            assertEquals(expected(false), partition.rights());
+        }
+    }
+
+    /**
+     * Test sequence() returns the first Left in encounter order, or a Right of everything.
+     */
+    @Test
+    public void shouldSequence() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            assertEquals(Either.left(0), eithers(parallel).collect(EitherCollectors.sequence()));
+            assertEquals(Either.left(-7), eithers(parallel).skip(1).collect(EitherCollectors.sequence()));
+        }
+
+        final List<Integer> values = Arrays.asList(1, 2, 3);
+        assertEquals(Either.right(values), values.parallelStream().map(Either::<Integer, Integer>right).collect(EitherCollectors.sequence()));
+    }
+
+    /**
+     * Test toValidation() accumulates every left-hand value in encounter order.
+     */
+    @Test
+    public void shouldCollectToValidation() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            final Validation<Integer, List<Integer>> validation = eithers(parallel).collect(EitherCollectors.toValidation());
+
+            assertEquals(expected(true), validation.errorsOrNull().toList());
+        }
+
+        assertEquals(Validation.valid(Arrays.asList(1, 2)),
+            Stream.<Either<String, Integer>>of(Either.right(1), Either.right(2)).collect(EitherCollectors.toValidation()));
+    }
+
+    /**
+     * Test counting() and countingLefts().
+     */
+    @Test
+    public void shouldCount() {
+        final long lefts = expected(true).size();
+
+        for (boolean parallel : new boolean[] {false, true}) {
+            final EitherCollectors.Counts counts = eithers(parallel).collect(EitherCollectors.counting());
+
+            assertEquals(lefts, counts.lefts());
+            assertEquals(SIZE - lefts, counts.rights());
+            assertEquals(SIZE, counts.total());
+            assertEquals(Long.valueOf(lefts), eithers(parallel).collect(EitherCollectors.countingLefts()));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherEvents class.
+ */
+public class EitherEventsTest {
+    private static final Function<Integer, Either<String, Integer>> EVENS =
+        n -> n % 2 == 0 ? Either.<String, Integer>right(n) : Either.<String, Integer>left("odd " + n);
+
+    private static List<RecordedEvent> record(final Recording recording, final Runnable action) throws Exception {
+        final Path file = Files.createTempFile("either-events", ".jfr");
+        try {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("cloud.wraith.functional."))
+                .collect(Collectors.toList());
+        } finally {
+            recording.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test bind returns the function itself when neither events nor provenance are enabled.
+     */
+    @Test
+    public void shouldNotWrapWhenDisabled() {
+        final Function<Integer, Either<String, Integer>> named = EitherEvents.bind("evens", EVENS);
+        if (!EitherEvents.isEnabled() && !Provenance.isEnabled()) {
+            assertSame(EVENS, named);
+        }
+        assertEquals(Either.left("odd 1"), named.apply(1));
+    }
+
+    /**
+     * Test Left creation is recorded with its class and stage.
+     */
+    @Test
+    public void shouldRecordLeftsWithTheirStage() throws Exception {
+        final Recording recording = new Recording();
+        recording.enable("cloud.wraith.functional.LeftCreated");
+        final Function<Integer, Either<String, Integer>> parse = EitherEvents.bind("parse", EVENS);
+
+        final List<RecordedEvent> events = record(recording, () -> {
+            parse.apply(1);
+            parse.apply(2);
+            Either.left(42);
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(String.class.getName(), events.get(0).getClass("errorClass").getName());
+        assertEquals("parse", events.get(0).getString("stage"));
+        assertEquals(Integer.class.getName(), events.get(1).getClass("errorClass").getName());
+        assertEquals(null, events.get(1).getString("stage"));
+    }
+
+    /**
+     * Test only stages slower than the threshold are recorded.
+     */
+    @Test
+    public void shouldRecordSlowStages() throws Exception {
+        final Recording recording = new Recording();
+        recording.enable("cloud.wraith.functional.SlowStage").withThreshold(Duration.ofMillis(20));
+        final Function<Integer, Either<String, Integer>> fast = EitherEvents.bind("fast", EVENS);
+        final Function<Integer, Either<String, Integer>> slow = EitherEvents.bind("slow", n -> {
+            LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+            return EVENS.apply(n);
+        });
+
+        final List<RecordedEvent> events = record(recording, () -> {
+            fast.apply(1);
+            slow.apply(1);
+        });
+
+        assertEquals(1, events.size());
+        assertEquals("slow", events.get(0).getString("stage"));
+        assertTrue(events.get(0).getBoolean("left"));
+        assertTrue(events.get(0).getDuration().compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    /**
+     * Test a summary is recorded for each kind of traverse.
+     */
+    @Test
+    public void shouldRecordTraverseSummaries() throws Exception {
+        final Recording recording = new Recording();
+        recording.enable("cloud.wraith.functional.TraverseSummary");
+
+        final List<RecordedEvent> events = record(recording, () -> {
+            Either.traverse(Arrays.asList(2, 4, 5, 6), EVENS);
+            Either.parallelTraverse(Arrays.asList(2, 4), EVENS);
+            EitherStream.traverse(IntStream.range(0, 100).boxed().parallel(), n -> EVENS.apply(n == 37 ? n : 0));
+        });
+
+        assertEquals(3, events.size());
+        assertEquals("traverse", events.get(0).getString("kind"));
+        assertEquals(4L, events.get(0).getLong("size"));
+        assertEquals(2L, events.get(0).getLong("leftIndex"));
+        assertEquals("parallelTraverse", events.get(1).getString("kind"));
+        assertEquals(-1L, events.get(1).getLong("leftIndex"));
+        assertEquals("stream", events.get(2).getString("kind"));
+        assertEquals(37L, events.get(2).getLong("leftIndex"));
+    }
+}
@@ -1,6 +1,7 @@
 package cloud.wraith.functional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.function.Function;
 
@@ -25,6 +26,18 @@ public class EitherFunctorTest {
                 Either.<String, String>left(LEFT_VALUE).map(fxn.apply(HELLO)).getLeft().get());
     }
 
+    /**
+     * Test that map() propagates a Left without allocating a new one.
+     */
+    @Test
+    public void shouldReuseTheLeftWhenMapping() {
+        final Function<String, Integer> length = String::length;
+        final Either<String, String> left = Either.<String, String>left(LEFT_VALUE);
+
+        assertSame("Should return the same Left", left, left.map(length).map(x -> x + 1).map(String::valueOf));
+        assertSame("Should return the same Left from fmap", left, Either.fmap(length, left));
+    }
+
     /**
      * Test map() for a Right.
      */
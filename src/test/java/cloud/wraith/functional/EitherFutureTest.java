@@ -0,0 +1,114 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for EitherFuture class.
+ */
+public class EitherFutureTest {
+    private static final String LEFT_VALUE = "I am left-handed";
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test map() and bind() of a Right computed on another thread.
+     */
+    @Test
+    public void shouldMapAndBindARight() {
+        final EitherFuture<String, Integer> actual = EitherFuture.<String, Integer>supplyAsync(() -> Either.right(20), executor)
+            .map(x -> x + 1)
+            .bind(x -> EitherFuture.supplyAsync(() -> Either.right(x * 2), executor));
+
+        assertEquals(Either.right(42), actual.toCompletableFuture().join());
+    }
+
+    /**
+     * Test that a completed Left is returned without scheduling a stage.
+     */
+    @Test
+    public void shouldShortCircuitACompletedLeft() {
+        final EitherFuture<String, Integer> left = EitherFuture.left(LEFT_VALUE);
+
+        assertSame(left, left.map(x -> x + 1));
+        assertSame(left, left.mapAsync(x -> x + 1, executor));
+        assertSame(left, left.bind(x -> EitherFuture.right(x + 1)));
+        assertSame(left, EitherFuture.map2(left, EitherFuture.<String, Integer>right(1), (a, b) -> a + b));
+    }
+
+    /**
+     * Test that a Left arriving later does not run the function nor hop to the executor.
+     */
+    @Test
+    public void shouldPassALateLeftThrough() {
+        final CompletableFuture<Either<String, Integer>> source = new CompletableFuture<Either<String, Integer>>();
+        final AtomicInteger calls = new AtomicInteger();
+
+        final EitherFuture<String, Integer> actual = EitherFuture.of(source)
+            .mapAsync(x -> calls.incrementAndGet(), executor)
+            .bindAsync(x -> EitherFuture.right(calls.incrementAndGet()), executor);
+
+        source.complete(Either.left(LEFT_VALUE));
+
+        assertEquals(Either.left(LEFT_VALUE), actual.toCompletableFuture().join());
+        assertEquals("Should not call the functions", 0, calls.get());
+    }
+
+    /**
+     * Test apply() in the curried applicative style.
+     */
+    @Test
+    public void shouldApply() {
+        final Function<Integer, Function<Integer, Integer>> add = x -> y -> x + y;
+
+        final EitherFuture<String, Integer> actual = EitherFuture.<String, Function<Integer, Function<Integer, Integer>>>pure(add)
+            .<Function<Integer, Integer>, Integer>ap(EitherFuture.supplyAsync(() -> Either.right(8), executor))
+            .ap(EitherFuture.right(16));
+
+        assertEquals(Either.right(24), actual.toCompletableFuture().join());
+    }
+
+    /**
+     * Test mapN() returns the first Left in argument order.
+     */
+    @Test
+    public void shouldMapNToTheFirstLeft() {
+        final EitherFuture<String, Integer> one = EitherFuture.supplyAsync(() -> Either.right(1), executor);
+        final EitherFuture<String, Integer> first = EitherFuture.supplyAsync(() -> Either.left("first"), executor);
+        final EitherFuture<String, Integer> second = EitherFuture.left("second");
+
+        assertEquals(Either.right(3), EitherFuture.map3(one, one, one, (a, b, c) -> a + b + c).toCompletableFuture().join());
+        assertEquals(Either.left("first"), EitherFuture.map4(one, first, one, second, (a, b, c, d) -> a + b + c + d)
+            .toCompletableFuture().join());
+    }
+
+    /**
+     * Test fold().
+     */
+    @Test
+    public void shouldFold() {
+        assertEquals(LEFT_VALUE.length(), EitherFuture.<String, Integer>left(LEFT_VALUE).fold(String::length, x -> x).join().intValue());
+        assertTrue(EitherFuture.<String, Integer>right(1).fold(l -> false, r -> true).join());
+    }
+}
@@ -0,0 +1,82 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the uncurried applicative combinators of Either.
+ */
+public class EitherMapNTest {
+    private static final String LEFT_VALUE = "I am left-handed";
+    private static final String LEFT_VALUE_DEFAULT = "I am left-handed by default";
+
+    /**
+     * Test map2() for two Rights agrees with the curried applicative style.
+     */
+    @Test
+    public void shouldMap2TwoRights() {
+        final BiFunction<Integer, Integer, Integer> add = (x, y) -> x + y;
+        final Function<Integer, Function<Integer, Integer>> addCurried = x -> y -> x + y;
+
+        final Either<String, Integer> expected = Either.<String, Function<Integer, Function<Integer, Integer>>>pure(addCurried)
+            .<Function<Integer, Integer>, Integer>ap(Either.right(8))
+            .ap(Either.right(16));
+
+        assertEquals("Should be 8 + 16 = 24", Either.right(24), Either.map2(Either.<String, Integer>right(8), Either.right(16), add));
+        assertEquals("Should agree with pure(add).ap(x).ap(y)", expected, Either.map2(Either.<String, Integer>right(8), Either.right(16), add));
+    }
+
+    /**
+     * Test map2() returns the first Left and does not invoke the function.
+     */
+    @Test
+    public void shouldMap2ToTheFirstLeft() {
+        final Either<String, Integer> left1 = Either.left(LEFT_VALUE);
+        final Either<String, Integer> left2 = Either.left(LEFT_VALUE_DEFAULT);
+        final BiFunction<Integer, Integer, Integer> fail = (x, y) -> {
+            assertTrue("Function should not be invoked", false);
+            return 0;
+        };
+
+        assertSame("Should be the first Left", left1, Either.map2(left1, left2, fail));
+        assertSame("Should be the second argument's Left", left2, Either.map2(Either.right(1), left2, fail));
+    }
+
+    /**
+     * Test map3() to map8() for all Rights.
+     */
+    @Test
+    public void shouldMapNAllRights() {
+        final Either<String, Integer> one = Either.right(1);
+
+        assertEquals(Either.right(3), Either.map3(one, one, one, (a, b, c) -> a + b + c));
+        assertEquals(Either.right(4), Either.map4(one, one, one, one, (a, b, c, d) -> a + b + c + d));
+        assertEquals(Either.right(5), Either.map5(one, one, one, one, one, (a, b, c, d, e) -> a + b + c + d + e));
+        assertEquals(Either.right(6), Either.map6(one, one, one, one, one, one, (a, b, c, d, e, f) -> a + b + c + d + e + f));
+        assertEquals(Either.right(7), Either.map7(one, one, one, one, one, one, one,
+            (a, b, c, d, e, f, g) -> a + b + c + d + e + f + g));
+        assertEquals(Either.right(8), Either.map8(one, one, one, one, one, one, one, one,
+            (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h));
+    }
+
+    /**
+     * Test map8() with mixed argument types and a Left in the last position.
+     */
+    @Test
+    public void shouldMap8ToTheLastLeft() {
+        final Either<String, Integer> one = Either.right(1);
+        final Either<String, String> text = Either.right("text");
+        final Either<String, Boolean> left = Either.left(LEFT_VALUE);
+
+        final Either<String, String> actual = Either.map8(one, text, one, text, one, text, one, left,
+            (a, b, c, d, e, f, g, h) -> b + d + f + h);
+
+        assertSame("Should be the last argument's Left", left, actual);
+    }
+}
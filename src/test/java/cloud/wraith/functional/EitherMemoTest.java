@@ -0,0 +1,196 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherMemo class.
+ */
+public class EitherMemoTest {
+    private static final String NEGATIVE = "negative";
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Function<Integer, Either<String, Integer>> square = n -> {
+        calls.incrementAndGet();
+        return n < 0 ? Either.<String, Integer>left(NEGATIVE) : Either.<String, Integer>right(n * n);
+    };
+
+    /**
+     * Test that a repeated argument is served from the cache.
+     */
+    @Test
+    public void shouldCallTheFunctionOncePerArgument() {
+        final EitherMemo<Integer, String, Integer> memo = EitherMemo.memoize(square, CachePolicy.maximumSize(100));
+
+        assertEquals(Either.right(9), memo.apply(3));
+        assertEquals(Either.right(9), memo.apply(3));
+        assertEquals(Either.left(NEGATIVE), memo.apply(-3));
+        assertEquals(Either.left(NEGATIVE), memo.apply(-3));
+
+        assertEquals("Should call the function once per argument", 2, calls.get());
+        assertEquals(2L, memo.stats().hits());
+        assertEquals(2L, memo.stats().misses());
+        assertEquals(0.5, memo.stats().hitRate(), 0.0);
+    }
+
+    /**
+     * Test that Lefts and Rights are cached under their own policies.
+     */
+    @Test
+    public void shouldCacheLeftsAndRightsSeparately() {
+        final EitherMemo<Integer, String, Integer> memo =
+            EitherMemo.memoize(square, CachePolicy.maximumSize(100), CachePolicy.disabled());
+
+        memo.apply(2);
+        memo.apply(2);
+        memo.apply(-2);
+        memo.apply(-2);
+
+        assertEquals("Should not cache Lefts", 3, calls.get());
+        assertEquals(1L, memo.rightStats().hits());
+        assertEquals(0L, memo.leftStats().hits());
+        assertEquals(1L, memo.size());
+    }
+
+    /**
+     * Test that the least recently used entry is evicted.
+     */
+    @Test
+    public void shouldEvictTheLeastRecentlyUsed() {
+        final EitherMemo<Integer, String, Integer> memo = EitherMemo.memoize(square, CachePolicy.maximumSize(2));
+
+        memo.apply(1);
+        memo.apply(2);
+        memo.apply(1);
+        memo.apply(3);
+        assertEquals(1L, memo.stats().evictions());
+        assertEquals(2L, memo.size());
+
+        calls.set(0);
+        memo.apply(1);
+        assertEquals("Should keep the recently used entry", 0, calls.get());
+        memo.apply(2);
+        assertEquals("Should have evicted the eldest entry", 1, calls.get());
+    }
+
+    /**
+     * Test that the weigher bounds the total weight.
+     */
+    @Test
+    public void shouldBoundTheTotalWeight() {
+        final EitherMemo<Integer, String, Integer> memo = EitherMemo.memoize(square,
+            CachePolicy.maximumWeight(10, either -> either.isLeft() ? 10 : 3));
+
+        memo.apply(1);
+        memo.apply(2);
+        memo.apply(3);
+        assertEquals(3L, memo.size());
+
+        memo.apply(4);
+        assertEquals("Should evict to stay within the weight", 3L, memo.size());
+
+        memo.apply(-1);
+        assertEquals("Should bound Lefts separately from Rights", 4L, memo.size());
+
+        memo.apply(-2);
+        assertEquals("Should evict the Left to fit the next Left", 4L, memo.size());
+        assertEquals(2L, memo.stats().evictions());
+    }
+
+    /**
+     * Test that a weight below one is rejected, as it would let a segment grow without bound.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectWeightsBelowOne() {
+        EitherMemo.memoize(square, CachePolicy.maximumWeight(10, either -> 0L)).apply(1);
+    }
+
+    /**
+     * Test that entries expire after they were written.
+     */
+    @Test
+    public void shouldExpireAfterWrite() {
+        final AtomicLong now = new AtomicLong();
+        final CachePolicy policy = CachePolicy.maximumSize(100).expireAfterWrite(Duration.ofSeconds(10)).withTicker(now::get);
+        final EitherMemo<Integer, String, Integer> memo = EitherMemo.memoize(square, policy);
+
+        memo.apply(5);
+        now.set(Duration.ofSeconds(9).toNanos());
+        memo.apply(5);
+        assertEquals(1, calls.get());
+
+        now.set(Duration.ofSeconds(11).toNanos());
+        memo.apply(5);
+        assertEquals("Should call the function again once expired", 2, calls.get());
+        assertEquals(1L, memo.stats().expirations());
+    }
+
+    /**
+     * Test invalidation.
+     */
+    @Test
+    public void shouldInvalidate() {
+        final EitherMemo<Integer, String, Integer> memo = EitherMemo.memoize(square, CachePolicy.maximumSize(100));
+
+        memo.apply(1);
+        memo.apply(-1);
+        memo.invalidate(1);
+        assertEquals(1L, memo.size());
+        memo.invalidateAll();
+        assertEquals(0L, memo.size());
+    }
+
+    /**
+     * Test the cached result is the one the function returned.
+     */
+    @Test
+    public void shouldReturnTheCachedInstance() {
+        final EitherMemo<String, String, List<String>> memo =
+            EitherMemo.memoize(s -> Either.right(new ArrayList<String>()), CachePolicy.maximumSize(10));
+
+        assertSame(memo.apply("key"), memo.apply("key"));
+    }
+
+    /**
+     * Test concurrent use stays within the bound and keeps consistent counters.
+     */
+    @Test
+    public void shouldBeThreadSafe() throws Exception {
+        final EitherMemo<Integer, String, Integer> memo = EitherMemo.memoize(square, CachePolicy.maximumSize(256));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < 4; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        final int n = (i * 31 + seed) % 1000 - 100;
+                        assertEquals(square.apply(n), memo.apply(n));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final CacheStats stats = memo.stats();
+        assertEquals(40_000L, stats.hits() + stats.misses());
+        assertEquals(true, memo.size() <= 512L);
+    }
+}
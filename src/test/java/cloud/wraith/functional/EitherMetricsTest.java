@@ -0,0 +1,145 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherMetrics class.
+ */
+public class EitherMetricsTest {
+    private static final Function<Integer, Either<String, Integer>> EVENS =
+        n -> n % 2 == 0 ? Either.<String, Integer>right(n) : Either.<String, Integer>left("odd " + n);
+
+    /**
+     * Test stages are returned unwrapped when metrics are disabled.
+     */
+    @Test
+    public void shouldNotWrapWhenDisabled() {
+        if (!EitherMetrics.isEnabled()) {
+            assertSame(EVENS, EitherMetrics.bind("evens", EVENS));
+            assertTrue(EitherMetrics.global().snapshot().isEmpty());
+        }
+    }
+
+    /**
+     * Test Lefts and Rights are counted per stage.
+     */
+    @Test
+    public void shouldCountLeftsAndRights() {
+        final EitherMetrics metrics = new EitherMetrics();
+        final Function<Integer, Either<String, Integer>> evens = metrics.instrumentBind("evens", EVENS);
+        final Function<Integer, Integer> twice = metrics.instrumentMap("twice", n -> n * 2);
+
+        for (int i = 0; i < 10; i++) {
+            evens.apply(twice.apply(i));
+            evens.apply(i);
+        }
+
+        final List<EitherMetrics.StageSnapshot> snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.size());
+        final EitherMetrics.StageSnapshot evensSnapshot = snapshot.get(0);
+        assertEquals("evens", evensSnapshot.stage());
+        assertEquals(5L, evensSnapshot.lefts());
+        assertEquals(15L, evensSnapshot.rights());
+        assertEquals(0.25, evensSnapshot.leftRate(), 0.0);
+        assertEquals(10L, snapshot.get(1).rights());
+        assertTrue(evensSnapshot.percentile(50.0) <= evensSnapshot.percentile(100.0));
+    }
+
+    /**
+     * Test applicative application is counted per stage.
+     */
+    @Test
+    public void shouldCountApplications() {
+        final EitherMetrics metrics = new EitherMetrics();
+        final BiFunction<Either<String, Function<? super Integer, ? extends Integer>>, Either<String, Integer>, Either<String, Integer>> apply =
+            metrics.instrumentApply("increment");
+        final Either<String, Function<? super Integer, ? extends Integer>> increment = Either.right(n -> n + 1);
+
+        assertEquals(Either.right(2), apply.apply(increment, Either.right(1)));
+        assertEquals(Either.left("missing"), apply.apply(increment, Either.left("missing")));
+        assertEquals(Either.left("no function"), apply.apply(Either.left("no function"), Either.right(1)));
+
+        final EitherMetrics.StageSnapshot snapshot = metrics.snapshot().get(0);
+        assertEquals("increment", snapshot.stage());
+        assertEquals(2L, snapshot.lefts());
+        assertEquals(1L, snapshot.rights());
+        if (!EitherMetrics.isEnabled()) {
+            assertEquals(Either.right(2), EitherMetrics.<String, Integer, Integer>apply("increment").apply(increment, Either.right(1)));
+            assertTrue(EitherMetrics.global().snapshot().isEmpty());
+        }
+    }
+
+    /**
+     * Test the Prometheus export.
+     */
+    @Test
+    public void shouldWritePrometheusText() throws Exception {
+        final EitherMetrics metrics = new EitherMetrics();
+        metrics.instrumentBind("parse \"id\"", EVENS).apply(1);
+
+        final StringBuilder out = new StringBuilder();
+        metrics.writeTo(out);
+        final String text = out.toString();
+        assertTrue(text, text.contains("either_stage_results_total{stage=\"parse \\\"id\\\"\",result=\"left\"} 1\n"));
+        assertTrue(text, text.contains("either_stage_results_total{stage=\"parse \\\"id\\\"\",result=\"right\"} 0\n"));
+        assertTrue(text, text.contains("either_stage_latency_seconds{stage=\"parse \\\"id\\\"\",quantile=\"0.99\"} "));
+        assertTrue(text, text.contains("either_stage_latency_seconds_count{stage=\"parse \\\"id\\\"\"} 1\n"));
+    }
+
+    /**
+     * Test the histogram buckets bound their values to within a sub-bucket.
+     */
+    @Test
+    public void shouldBucketLatencies() {
+        for (final long value : new long[] {0L, 31L, 32L, 63L, 64L, 1000L, 123_456_789L, Long.MAX_VALUE}) {
+            final long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+            assertTrue(value + " <= " + highest, value <= highest);
+            assertTrue(value + " within 1/32 of " + highest, highest - value <= value / 32);
+        }
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        final long p50 = LatencyHistogram.valueAtPercentile(histogram.counts(), 100L, 50.0);
+        assertTrue("p50 of " + p50, p50 >= 50_000L && p50 <= 51_600L);
+        assertEquals(0L, LatencyHistogram.valueAtPercentile(new LatencyHistogram().counts(), 0L, 99.0));
+    }
+
+    /**
+     * Test recordings from many threads are summed across the histogram's stripes.
+     */
+    @Test
+    public void shouldSumStripesAcrossThreads() throws Exception {
+        assertEquals(1, LatencyHistogram.stripes(1));
+        assertEquals(4, LatencyHistogram.stripes(3));
+        assertEquals(8, LatencyHistogram.stripes(8));
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    histogram.record(100L);
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        final long[] counts = histogram.counts();
+        assertEquals(8000L, counts[LatencyHistogram.indexOf(100L)]);
+        assertEquals(8000L, Arrays.stream(counts).sum());
+    }
+}
@@ -0,0 +1,161 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherParallel class.
+ */
+public class EitherParallelTest {
+    private static final String MISSING = "missing";
+    private static final String INVALID = "invalid";
+
+    private static <A> Supplier<Either<String, A>> slowRight(final long millis, final A value) {
+        return () -> {
+            sleep(millis);
+            return Either.right(value);
+        };
+    }
+
+    private static <A> Supplier<Either<String, A>> slowLeft(final long millis, final String value) {
+        return () -> {
+            sleep(millis);
+            return Either.left(value);
+        };
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Test that the arguments run concurrently and are combined in order.
+     */
+    @Test
+    public void shouldRunTheArgumentsConcurrently() {
+        final long start = System.nanoTime();
+
+        final Either<String, String> result = EitherParallel.map4(
+            slowRight(200, "a"), slowRight(200, 1), slowRight(200, 'c'), slowRight(200, 2.0),
+            (a, b, c, d) -> a + b + c + d);
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(Either.right("a1c2.0"), result);
+        assertTrue("Should take about the slowest argument, took " + elapsedMillis + "ms", elapsedMillis < 700);
+    }
+
+    /**
+     * Test that the result matches Either.mapN: the first Left in argument order.
+     */
+    @Test
+    public void shouldReturnTheFirstLeftInArgumentOrder() {
+        final Either<String, Integer> result = EitherParallel.map3(
+            slowLeft(150, MISSING), slowRight(0, 1), slowLeft(0, INVALID),
+            (a, b, c) -> 0);
+
+        assertEquals(Either.left(MISSING), result);
+    }
+
+    /**
+     * Test that the arguments after a Left are interrupted.
+     */
+    @Test
+    public void shouldCancelTheArgumentsAfterALeft() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final AtomicBoolean finished = new AtomicBoolean();
+        final Supplier<Either<String, Integer>> slow = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                finished.set(true);
+            } catch (final InterruptedException e) {
+                cancelled.countDown();
+            }
+            return Either.right(0);
+        };
+        final Supplier<Either<String, Integer>> fail = () -> {
+            try {
+                started.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Either.left(INVALID);
+        };
+
+        final long start = System.nanoTime();
+        assertEquals(Either.left(INVALID), EitherParallel.map2(fail, slow, (a, b) -> a + b));
+
+        assertEquals("Should have interrupted and awaited the later argument", 0L, cancelled.getCount());
+        assertTrue("Should not wait out the later argument", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+        assertEquals(false, finished.get());
+    }
+
+    /**
+     * Test that no supplier is left running after the method returns, even one that ignores interruption.
+     */
+    @Test
+    public void shouldAwaitCancelledArgumentsBeforeReturning() {
+        final AtomicBoolean finished = new AtomicBoolean();
+        final Supplier<Either<String, Integer>> stubborn = () -> {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+            for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+                try {
+                    Thread.sleep(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                } catch (final InterruptedException e) {
+                    // Keep going regardless.
+                }
+            }
+            finished.set(true);
+            return Either.right(0);
+        };
+
+        assertEquals(Either.left(INVALID), EitherParallel.map2(EitherParallelTest.<Integer>slowLeft(0, INVALID), stubborn, (a, b) -> a + b));
+        assertTrue("Should have awaited the later argument", finished.get());
+    }
+
+    /**
+     * Test that an exception from a supplier reaches the caller.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void shouldRethrowASuppliersException() {
+        EitherParallel.map2(slowRight(0, 1), () -> {
+            throw new ArithmeticException("boom");
+        }, Integer::sum);
+    }
+
+    /**
+     * Test sequence over a list.
+     */
+    @Test
+    public void shouldSequenceAList() {
+        assertEquals(Either.right(Arrays.asList(1, 2, 3)),
+            EitherParallel.sequence(Arrays.asList(slowRight(50, 1), slowRight(10, 2), slowRight(30, 3))));
+        assertEquals(Either.left(MISSING),
+            EitherParallel.sequence(Arrays.asList(slowRight(10, 1), slowLeft(30, MISSING), slowRight(10_000, 3))));
+    }
+
+    /**
+     * Test the larger arities combine every argument.
+     */
+    @Test
+    public void shouldCombineEightArguments() {
+        final Supplier<Either<String, Integer>> one = () -> Either.right(1);
+
+        assertEquals(Either.right(8), EitherParallel.map8(one, one, one, one, one, one, one, one,
+            (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h));
+    }
+}
@@ -0,0 +1,117 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherPipeline class.
+ */
+public class EitherPipelineTest {
+    private static final String NEGATIVE = "negative";
+    private static final String TOO_BIG = "too big";
+
+    private final Function<Integer, Either<String, ? extends Integer>> checkPositive =
+        n -> n >= 0 ? Either.<String, Integer>right(n) : Either.<String, Integer>left(NEGATIVE);
+    private final Function<Integer, Either<String, ? extends Integer>> checkSmall =
+        n -> n < 100 ? Either.<String, Integer>right(n) : Either.<String, Integer>left(TOO_BIG);
+
+    /**
+     * Test that a pipeline agrees with the equivalent bind chain.
+     */
+    @Test
+    public void shouldMatchTheBindChain() {
+        final EitherPipeline<String, Integer, String> pipeline = EitherPipeline.<String, Integer, Integer>of(checkPositive)
+            .map(n -> n * 2)
+            .bind(checkSmall)
+            .map(n -> "#" + n);
+
+        for (final int n : new int[] {-1, 0, 7, 60}) {
+            final Either<String, ?> chained = checkPositive.apply(n).map(x -> x * 2).bind(checkSmall).map(x -> "#" + x);
+            assertEquals("Should agree for " + n, chained, pipeline.apply(n));
+        }
+    }
+
+    /**
+     * Test that the pipeline stops at the first Left.
+     */
+    @Test
+    public void shouldStopAtTheFirstLeft() {
+        final AtomicInteger later = new AtomicInteger();
+        final EitherPipeline<String, Integer, Integer> pipeline = EitherPipeline.<String, Integer, Integer>of(checkPositive)
+            .map(n -> later.incrementAndGet());
+
+        assertEquals(Either.left(NEGATIVE), pipeline.apply(-5));
+        assertEquals(0, later.get());
+    }
+
+    /**
+     * Test that adjacent maps are fused, including across andThen.
+     */
+    @Test
+    public void shouldFuseAdjacentMaps() {
+        final EitherPipeline<String, Integer, Integer> first = EitherPipeline.<String, Integer>identity()
+            .map(n -> n + 1)
+            .map(n -> n * 10);
+        final EitherPipeline<String, Integer, Integer> second = EitherPipeline.<String, Integer>identity()
+            .map(n -> n - 3)
+            .bind(checkSmall);
+
+        assertEquals(1, first.stageCount());
+        final EitherPipeline<String, Integer, Integer> composed = first.andThen(second);
+        assertEquals(2, composed.stageCount());
+        assertEquals("EitherPipeline[map >=> bind]", composed.toString());
+        assertEquals(Either.right(17), composed.apply(1));
+        assertEquals(Either.left(TOO_BIG), composed.apply(20));
+    }
+
+    /**
+     * Test that a null from any map stage is rejected before the next stage runs.
+     */
+    @Test
+    public void shouldRejectNullFromAMiddleMap() {
+        final AtomicInteger later = new AtomicInteger();
+        final EitherPipeline<String, Integer, Integer> pipeline = EitherPipeline.<String, Integer>identity()
+            .map(n -> n + 1)
+            .map(n -> (Integer) null)
+            .map(n -> later.incrementAndGet());
+        assertEquals("The three maps should be fused", 1, pipeline.stageCount());
+
+        try {
+            pipeline.apply(1);
+            fail("Should reject the null");
+        } catch (final NullPointerException e) {
+            assertEquals(0, later.get());
+        }
+    }
+
+    /**
+     * Test that a trailing bind's Either is returned as is and that extending leaves the original intact.
+     */
+    @Test
+    public void shouldReturnTheLastBindsEither() {
+        final Either<String, String> shared = Either.right("shared");
+        final EitherPipeline<String, Integer, String> pipeline = EitherPipeline.<String, Integer>identity()
+            .map(n -> n + 1)
+            .bind(n -> shared);
+
+        assertSame(shared, pipeline.apply(1));
+        assertEquals(Either.right(6), pipeline.map(String::length).apply(1));
+        assertSame(shared, pipeline.apply(2));
+    }
+
+    /**
+     * Test identity and applyTo.
+     */
+    @Test
+    public void shouldApplyToAnEither() {
+        assertEquals(Either.right(3), EitherPipeline.<String, Integer>identity().apply(3));
+        assertEquals(Either.left(NEGATIVE), EitherPipeline.<String, Integer, Integer>of(checkPositive).applyTo(Either.right(-1)));
+        assertEquals(Either.left(TOO_BIG), EitherPipeline.<String, Integer, Integer>of(checkPositive).applyTo(Either.left(TOO_BIG)));
+    }
+}
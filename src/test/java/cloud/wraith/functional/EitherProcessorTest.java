@@ -0,0 +1,240 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherProcessor class.
+ */
+public class EitherProcessorTest {
+    private static final Function<Integer, Either<String, Integer>> EVENS =
+        n -> n % 2 == 0 ? Either.<String, Integer>right(n) : Either.<String, Integer>left("odd " + n);
+
+    /**
+     * Subscriber that records what it receives and requests a fixed amount up front.
+     */
+    private static final class Recorder<T> implements Flow.Subscriber<T> {
+        private final List<T> items = Collections.synchronizedList(new ArrayList<T>());
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private final long initialRequest;
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        private Recorder(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription s) {
+            subscription = s;
+            if (initialRequest > 0) {
+                s.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(final T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Upstream subscription that records the total demand.
+     */
+    private static final class Upstream implements Flow.Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(final long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Test routing through a SubmissionPublisher end to end.
+     */
+    @Test
+    public void shouldRouteRightsDownstreamAndLeftsToDeadLetters() throws Exception {
+        final Recorder<String> deadLetters = new Recorder<String>(Long.MAX_VALUE);
+        final Recorder<Integer> downstream = new Recorder<Integer>(Long.MAX_VALUE);
+        final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.of(EVENS, deadLetters, 4, 16);
+        processor.subscribe(downstream);
+
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<Integer>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 100; i++) {
+                publisher.submit(i);
+            }
+        }
+
+        assertTrue(downstream.terminated.await(5, TimeUnit.SECONDS));
+        assertTrue(deadLetters.terminated.await(5, TimeUnit.SECONDS));
+        assertEquals(50, downstream.items.size());
+        assertEquals(Integer.valueOf(98), downstream.items.get(49));
+        assertEquals(50, deadLetters.items.size());
+        assertEquals("odd 1", deadLetters.items.get(0));
+        assertTrue(downstream.completed && deadLetters.completed);
+    }
+
+    /**
+     * Test that Rights wait for downstream demand and upstream is requested in batches.
+     */
+    @Test
+    public void shouldRespectDownstreamDemand() {
+        final Upstream upstream = new Upstream();
+        final Recorder<Integer> downstream = new Recorder<Integer>(2);
+        final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.of(EVENS, new Recorder<String>(Long.MAX_VALUE), 8, 8);
+        processor.subscribe(downstream);
+        processor.onSubscribe(upstream);
+        assertEquals("Should request a full batch up front", 8L, upstream.requested);
+
+        for (int i = 0; i < 8; i += 2) {
+            processor.onNext(i);
+        }
+        assertEquals(Arrays.asList(0, 2), downstream.items);
+        assertEquals("Should not replenish before half a batch is consumed", 8L, upstream.requested);
+
+        downstream.subscription.request(2);
+        assertEquals(Arrays.asList(0, 2, 4, 6), downstream.items);
+        assertEquals("Should replenish the consumed half batch", 12L, upstream.requested);
+    }
+
+    /**
+     * Test that Lefts neither use downstream demand nor wait behind Rights.
+     */
+    @Test
+    public void shouldNotLetLeftsStallTheMainStream() {
+        final Upstream upstream = new Upstream();
+        final Recorder<Integer> downstream = new Recorder<Integer>(1);
+        final Recorder<String> deadLetters = new Recorder<String>(Long.MAX_VALUE);
+        final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.of(EVENS, deadLetters, 8, 8);
+        processor.subscribe(downstream);
+        processor.onSubscribe(upstream);
+
+        processor.onNext(0);
+        processor.onNext(2);
+        for (int i = 1; i < 8; i += 2) {
+            processor.onNext(i);
+        }
+
+        assertEquals(Arrays.asList(0), downstream.items);
+        assertEquals(4, deadLetters.items.size());
+        assertEquals("Should count the Lefts as consumed and replenish a half batch", 12L, upstream.requested);
+    }
+
+    /**
+     * Test that Lefts beyond the dead-letter buffer are dropped rather than blocking.
+     */
+    @Test
+    public void shouldDropLeftsBeyondTheDeadLetterBuffer() {
+        final Upstream upstream = new Upstream();
+        final Recorder<String> deadLetters = new Recorder<String>(0);
+        final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.of(EVENS, deadLetters, 4, 2);
+        processor.subscribe(new Recorder<Integer>(Long.MAX_VALUE));
+        processor.onSubscribe(upstream);
+
+        for (int i = 1; i < 10; i += 2) {
+            processor.onNext(i);
+        }
+        assertEquals(3L, processor.droppedLefts());
+
+        deadLetters.subscription.request(10);
+        assertEquals(Arrays.asList("odd 1", "odd 3"), deadLetters.items);
+    }
+
+    /**
+     * Test cancelling downstream cancels upstream and completes the dead-letter subscriber.
+     */
+    @Test
+    public void shouldCompleteDeadLettersWhenDownstreamCancels() {
+        final Upstream upstream = new Upstream();
+        final Recorder<Integer> downstream = new Recorder<Integer>(1);
+        final Recorder<String> deadLetters = new Recorder<String>(0);
+        final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.of(EVENS, deadLetters, 4, 4);
+        processor.subscribe(downstream);
+        processor.onSubscribe(upstream);
+
+        processor.onNext(1);
+        processor.onNext(2);
+        downstream.subscription.cancel();
+        assertTrue(upstream.cancelled);
+        assertEquals("Should wait for dead-letter demand", false, deadLetters.completed);
+
+        deadLetters.subscription.request(1);
+        assertEquals(Arrays.asList("odd 1"), deadLetters.items);
+        assertTrue(deadLetters.completed);
+        assertEquals(Arrays.asList(2), downstream.items);
+        assertEquals(false, downstream.completed);
+    }
+
+    /**
+     * Test upstream errors reach both subscribers after the buffered items.
+     */
+    @Test
+    public void shouldPropagateErrors() {
+        final Recorder<Integer> downstream = new Recorder<Integer>(0);
+        final Recorder<String> deadLetters = new Recorder<String>(Long.MAX_VALUE);
+        final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.of(EVENS, deadLetters, 4, 4);
+        processor.subscribe(downstream);
+        processor.onSubscribe(new Upstream());
+
+        processor.onNext(2);
+        processor.onError(new IllegalStateException("boom"));
+        assertEquals(null, downstream.error);
+        assertTrue(deadLetters.error instanceof IllegalStateException);
+
+        downstream.subscription.request(1);
+        assertEquals(Arrays.asList(2), downstream.items);
+        assertTrue(downstream.error instanceof IllegalStateException);
+    }
+
+    /**
+     * Test a second subscriber and a non-positive request are rejected.
+     */
+    @Test
+    public void shouldRejectMisuse() {
+        final Upstream upstream = new Upstream();
+        final EitherProcessor<Integer, String, Integer> processor = EitherProcessor.of(EVENS, new Recorder<String>(1));
+        final Recorder<Integer> first = new Recorder<Integer>(0);
+        final Recorder<Integer> second = new Recorder<Integer>(0);
+        processor.onSubscribe(upstream);
+        processor.subscribe(first);
+        processor.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+
+        first.subscription.request(0);
+        assertTrue(first.error instanceof IllegalArgumentException);
+        assertTrue(upstream.cancelled);
+    }
+}
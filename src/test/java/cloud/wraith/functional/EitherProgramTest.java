@@ -0,0 +1,87 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherProgram class.
+ */
+public class EitherProgramTest {
+    private static final int STEPS = 1_000_000;
+    private static final String LEFT_VALUE = "I am left-handed";
+
+    /**
+     * Sum 1..n by recursion through bind.
+     */
+    private static EitherProgram<String, Long> sum(final long n, final long acc) {
+        if (n == 0) {
+            return EitherProgram.right(acc);
+        }
+        return EitherProgram.<String, Long>right(n).bind(x -> EitherProgram.defer(() -> sum(x - 1, acc + x)));
+    }
+
+    /**
+     * One deferred attempt that succeeds only once the attempt count reaches succeedOn.
+     */
+    private static EitherProgram<String, Integer> retry(final AtomicInteger attempts, final int succeedOn) {
+        return EitherProgram.<String, Integer>delay(() -> attempts.incrementAndGet() < succeedOn
+            ? Either.left("not yet") : Either.right(attempts.get()))
+            .bind(EitherProgram::right);
+    }
+
+    /**
+     * Test a million-step recursion runs without overflowing the stack.
+     */
+    @Test
+    public void shouldRunADeepRecursion() {
+        assertEquals(Either.right((long) STEPS * (STEPS + 1) / 2), sum(STEPS, 0L).run());
+    }
+
+    /**
+     * Test a million left-nested binds run without overflowing the stack.
+     */
+    @Test
+    public void shouldRunALeftNestedChain() {
+        EitherProgram<String, Integer> program = EitherProgram.right(0);
+        for (int i = 0; i < STEPS; i++) {
+            program = program.bindEither(x -> Either.right(x + 1));
+        }
+
+        assertEquals(Either.right(STEPS), program.run());
+    }
+
+    /**
+     * Test that a Left ends the run and skips the remaining binds.
+     */
+    @Test
+    public void shouldStopAtALeft() {
+        final AtomicInteger calls = new AtomicInteger();
+        EitherProgram<String, Integer> program = EitherProgram.right(0);
+        for (int i = 0; i < 100; i++) {
+            final int step = i;
+            program = program.bind(x -> {
+                calls.incrementAndGet();
+                return step == 10 ? EitherProgram.left(LEFT_VALUE) : EitherProgram.right(x + 1);
+            });
+        }
+
+        assertEquals(Either.left(LEFT_VALUE), program.run());
+        assertEquals("Should stop after the Left", 11, calls.get());
+    }
+
+    /**
+     * Test that nothing runs until run() is called, and map() of a deferred computation.
+     */
+    @Test
+    public void shouldBeLazy() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final EitherProgram<String, String> program = retry(attempts, 1).map(String::valueOf);
+
+        assertEquals("Should not run while building", 0, attempts.get());
+        assertEquals(Either.right("1"), program.run());
+        assertEquals(Either.left("not yet"), retry(new AtomicInteger(), 5).run());
+    }
+}
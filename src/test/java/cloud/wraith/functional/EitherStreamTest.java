@@ -0,0 +1,103 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for EitherStream class.
+ */
+public class EitherStreamTest {
+    private static final int SIZE = 100_000;
+
+    private static Function<Integer, Either<String, Integer>> failingAt(final int... failures) {
+        return n -> Arrays.stream(failures).anyMatch(f -> f == n)
+            ? Either.<String, Integer>left("fail " + n)
+            : Either.<String, Integer>right(n * 2);
+    }
+
+    /**
+     * Test traversing a parallel stream of Rights keeps encounter order.
+     */
+    @Test
+    public void shouldTraverseInOrder() {
+        final Either<String, List<Integer>> result = EitherStream.traverse(IntStream.range(0, SIZE).boxed().parallel(), failingAt());
+
+        assertTrue(result.isRight());
+        final List<Integer> values = result.rightOrNull();
+        assertEquals(SIZE, values.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(Integer.valueOf(i * 2), values.get(i));
+        }
+    }
+
+    /**
+     * Test the leftmost Left is reported however the work is scheduled.
+     */
+    @Test
+    public void shouldReportTheLeftmostLeft() {
+        for (int run = 0; run < 20; run++) {
+            final Either<String, List<Integer>> result =
+                EitherStream.traverse(IntStream.range(0, SIZE).boxed().parallel(), failingAt(SIZE - 1, SIZE / 2, 777));
+            assertEquals("fail 777", result.leftOrNull());
+        }
+    }
+
+    /**
+     * Test work beyond an early Left is skipped.
+     */
+    @Test
+    public void shouldSkipWorkAfterALeft() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Either<String, Integer>> fxn = failingAt(0);
+
+        final Either<String, List<Integer>> result = EitherStream.traverse(IntStream.range(0, SIZE).boxed().parallel(), n -> {
+            calls.incrementAndGet();
+            return fxn.apply(n);
+        });
+
+        assertEquals("fail 0", result.leftOrNull());
+        assertTrue("Should skip most elements, but applied " + calls.get(), calls.get() < SIZE / 2);
+    }
+
+    /**
+     * Test sequential and unsized streams stop at the first Left.
+     */
+    @Test
+    public void shouldShortCircuitSequentialStreams() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Integer, Either<String, Integer>> fxn = failingAt(5, 3);
+
+        final Either<String, List<Integer>> result = EitherStream.traverse(Stream.iterate(0, n -> n + 1).limit(SIZE), n -> {
+            calls.incrementAndGet();
+            return fxn.apply(n);
+        });
+        assertEquals("fail 3", result.leftOrNull());
+        assertEquals(4, calls.get());
+
+        final Either<String, List<Integer>> filtered =
+            EitherStream.traverse(IntStream.range(0, 20).boxed().parallel().filter(n -> n % 2 == 0), failingAt(7, 12));
+        assertEquals("fail 12", filtered.leftOrNull());
+    }
+
+    /**
+     * Test sequencing a stream of Eithers.
+     */
+    @Test
+    public void shouldSequence() {
+        final Either<String, List<Integer>> rights = EitherStream.sequence(Stream.of(
+            Either.<String, Integer>right(1), Either.<String, Integer>right(2)).parallel());
+        assertEquals(Arrays.asList(1, 2), rights.rightOrNull());
+
+        final Either<String, List<Integer>> empty = EitherStream.sequence(Stream.<Either<String, Integer>>empty().parallel());
+        assertEquals(Arrays.asList(), empty.rightOrNull());
+    }
+}
@@ -3,11 +3,16 @@ package cloud.wraith.functional;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import cloud.wraith.functional.Either.Left;
 import cloud.wraith.functional.Either.Right;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -192,6 +197,57 @@ public class EitherTest {
         assertEquals("Should have a supplied value of LEFT_VALUE_DEFAULT", LEFT_VALUE_DEFAULT, value);
     }
 
+    /**
+     * Test rightOrNull() and leftOrNull().
+     */
+    @Test
+    public void shouldGetTheValueOrNull() {
+        assertEquals("Should have the value of HELLO", HELLO, Either.<String, String>right(HELLO).rightOrNull());
+        assertNull("Should have no left value", Either.<String, String>right(HELLO).leftOrNull());
+        assertEquals("Should have the value of LEFT_VALUE", LEFT_VALUE, Either.<String, String>left(LEFT_VALUE).leftOrNull());
+        assertNull("Should have no right value", Either.<String, String>left(LEFT_VALUE).rightOrNull());
+    }
+
+    /**
+     * Test a fold() for a Left and a Right.
+     */
+    @Test
+    public void shouldFoldEitherSide() {
+        final Function<String, Integer> onLeft = value -> -value.length();
+        final Function<String, Integer> onRight = String::length;
+
+        assertEquals("Should fold a Left", -LEFT_VALUE.length(), Either.<String, String>left(LEFT_VALUE).fold(onLeft, onRight).intValue());
+        assertEquals("Should fold a Right", HELLO.length(), Either.<String, String>right(HELLO).fold(onLeft, onRight).intValue());
+    }
+
+    /**
+     * Test ifRight() and ifLeft() for a Left.
+     */
+    @Test
+    public void shouldOnlyConsumeTheLeft() {
+        final StringBuilder consumed = new StringBuilder();
+        final Either<String, String> left = Either.left(LEFT_VALUE);
+
+        left.ifRight(value -> assertTrue("Right consumer should not be invoked", false));
+        left.ifLeft(consumed::append);
+
+        assertEquals("Should consume a value of LEFT_VALUE", LEFT_VALUE, consumed.toString());
+    }
+
+    /**
+     * Test ifRight() and ifLeft() for a Right.
+     */
+    @Test
+    public void shouldOnlyConsumeTheRight() {
+        final StringBuilder consumed = new StringBuilder();
+        final Either<String, String> right = Either.right(HELLO);
+
+        right.ifLeft(value -> assertTrue("Left consumer should not be invoked", false));
+        right.ifRight(consumed::append);
+
+        assertEquals("Should consume a value of HELLO", HELLO, consumed.toString());
+    }
+
     /**
      * Test a peek() for a Left.
      */
@@ -290,6 +346,63 @@ public class EitherTest {
         assertEquals("Should return a value of HELLO", HELLO, either.get().get());
     }
 
+    /**
+     * Test a bind() for a Left.
+     */
+    @Test
+    public void shouldReuseTheLeftWhenBinding() {
+        final Either<String, String> left = Either.<String, String>left(LEFT_VALUE);
+        final Either<String, ? extends String> actual = left.bind(value -> {
+            assertTrue("Bind function should not be invoked", false);
+            return Either.right(value);
+        });
+
+        assertSame("Should return the same Left", left, actual);
+    }
+
+    /**
+     * Test a bind() for a Right.
+     */
+    @Test
+    public void shouldBindARight() {
+        final Either<String, ? extends String> actual = Either.<String, String>right(HELLO)
+            .bind(value -> Either.right(String.format("%s, %s", value, WORLD)));
+
+        assertEquals("Should bind to a Right", Either.right(String.format("%s, %s", HELLO, WORLD)), actual);
+    }
+
+    /**
+     * Test hashCode() agrees with equals() and lets an Either be a HashMap key.
+     */
+    @Test
+    public void shouldHashEqualEithersEqually() {
+        assertEquals(Either.left(LEFT_VALUE).hashCode(), Either.left(new String(LEFT_VALUE)).hashCode());
+        assertEquals(Either.right(HELLO).hashCode(), Either.right(new String(HELLO)).hashCode());
+        assertNotEquals(Either.left(HELLO).hashCode(), Either.right(HELLO).hashCode());
+
+        final Map<Either<String, String>, String> map = new HashMap<Either<String, String>, String>();
+        map.put(Either.left(HELLO), LEFT_VALUE);
+        map.put(Either.right(HELLO), WORLD);
+
+        assertEquals(LEFT_VALUE, map.get(Either.left(HELLO)));
+        assertEquals(WORLD, map.get(Either.right(HELLO)));
+    }
+
+    /**
+     * Test Booleans, small Integers and enum-valued Lefts share canonical instances.
+     */
+    @Test
+    public void shouldShareCanonicalInstances() {
+        assertSame(Either.right(true), Either.right(true));
+        assertSame(Either.right(false), Either.pure(false));
+        assertSame(Either.right(-128), Either.right(-128));
+        assertSame(Either.right(127), Either.<String, Integer>right(126).map(x -> x + 1));
+        assertNotSame(Either.right(128), Either.right(128));
+        assertSame(Either.left(Thread.State.BLOCKED), Either.left(Thread.State.BLOCKED));
+        assertNotEquals(Either.left(Thread.State.BLOCKED), Either.left(Thread.State.NEW));
+        assertEquals(Either.right(true), Either.right(Boolean.valueOf("true")));
+    }
+
     /**
      * Test a toString() for a Left.
      */
@@ -0,0 +1,129 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for the traverse and sequence functions of Either.
+ */
+public class EitherTraverseTest {
+    private static final int SIZE = 100_000;
+
+    private static final Function<Integer, Either<String, Integer>> VALIDATE
+        = x -> x >= 0 ? Either.right(x * 2) : Either.left(String.format("Value of %d should be >= 0", x));
+
+    private static List<Integer> range(final int size) {
+        final List<Integer> result = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    /**
+     * Test traverse() for all Rights.
+     */
+    @Test
+    public void shouldTraverseAllRights() {
+        assertEquals(Either.right(Arrays.asList(0, 2, 4)), Either.traverse(Arrays.asList(0, 1, 2), VALIDATE));
+    }
+
+    /**
+     * Test traverse() stops at the first Left.
+     */
+    @Test
+    public void shouldTraverseToTheFirstLeft() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Either<String, List<Integer>> actual = Either.traverse(Arrays.asList(1, -2, -3, 4), x -> {
+            calls.incrementAndGet();
+            return VALIDATE.apply(x);
+        });
+
+        assertEquals(Either.left("Value of -2 should be >= 0"), actual);
+        assertEquals("Should not apply the function after the first Left", 2, calls.get());
+    }
+
+    /**
+     * Test sequence() returns the first Left instance.
+     */
+    @Test
+    public void shouldSequenceToTheFirstLeft() {
+        final Either<String, Integer> left = Either.left("first");
+        final List<Either<String, Integer>> eithers = Arrays.asList(Either.right(1), left, Either.left("second"));
+
+        assertSame(left, Either.sequence(eithers));
+        assertEquals(Either.right(Arrays.asList(1, 2)), Either.sequence(Arrays.asList(Either.<String, Integer>right(1), Either.right(2))));
+    }
+
+    /**
+     * Test parallelTraverse() agrees with traverse() for a large input of Rights.
+     */
+    @Test
+    public void shouldParallelTraverseAllRights() {
+        final List<Integer> input = range(SIZE);
+
+        final Either<String, List<Integer>> actual = Either.parallelTraverse(input, VALIDATE);
+
+        assertTrue("Should be a Right", actual.isRight());
+        assertEquals(Either.traverse(input, VALIDATE), actual);
+    }
+
+    /**
+     * Test parallelTraverse() always returns the leftmost Left.
+     */
+    @Test
+    public void shouldParallelTraverseToTheLeftmostLeft() {
+        final List<Integer> input = range(SIZE);
+        for (int i = SIZE - 1; i >= SIZE / 3; i -= 997) {
+            input.set(i, -i);
+        }
+        final Either<String, List<Integer>> expected = Either.traverse(input, VALIDATE);
+
+        final ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            for (int run = 0; run < 20; run++) {
+                assertEquals("Should be the leftmost Left", expected, Either.parallelTraverse(input, VALIDATE, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test parallelTraverse() skips work once a Left is found.
+     */
+    @Test
+    public void shouldParallelTraverseLessThanEverything() {
+        final List<Integer> input = range(SIZE);
+        input.set(0, -1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Either<String, List<Integer>> actual = Either.parallelTraverse(input, x -> {
+            calls.incrementAndGet();
+            return VALIDATE.apply(x);
+        });
+
+        assertEquals(Either.left("Value of -1 should be >= 0"), actual);
+        assertTrue("Should cancel the remaining work", calls.get() < SIZE);
+    }
+
+    /**
+     * Test parallelSequence() and an empty input.
+     */
+    @Test
+    public void shouldParallelSequence() {
+        assertEquals(Either.right(Arrays.asList(1, 2)),
+            Either.parallelSequence(Arrays.asList(Either.<String, Integer>right(1), Either.right(2))));
+        assertEquals(Either.right(Arrays.asList()), Either.parallelTraverse(Arrays.<Integer>asList(), VALIDATE));
+    }
+}
@@ -0,0 +1,52 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for ErrorList class.
+ */
+public class ErrorListTest {
+
+    /**
+     * Test append() and concat() keep the errors in order and leave the operands unchanged.
+     */
+    @Test
+    public void shouldAppendAndConcatPersistently() {
+        final ErrorList<String> ab = ErrorList.of("a").append("b");
+        final ErrorList<String> cd = ErrorList.of(Arrays.asList("c", "d"));
+        final ErrorList<String> abcd = ab.concat(cd);
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), abcd.toList());
+        assertEquals(Arrays.asList("a", "b"), ab.toList());
+        assertEquals(Arrays.asList("c", "d"), cd.toList());
+        assertEquals(4, abcd.size());
+        assertEquals("a", abcd.head());
+    }
+
+    /**
+     * Test equals() and hashCode() depend only on the errors, not the shape of the tree.
+     */
+    @Test
+    public void shouldCompareByElements() {
+        final ErrorList<String> leftDeep = ErrorList.of("a").append("b").append("c");
+        final ErrorList<String> rightDeep = ErrorList.of("a").concat(ErrorList.of("b").append("c"));
+
+        assertEquals(leftDeep, rightDeep);
+        assertEquals(leftDeep.hashCode(), rightDeep.hashCode());
+        assertNotEquals(leftDeep, ErrorList.of("a").append("b"));
+        assertEquals("ErrorList[a, b, c]", rightDeep.toString());
+    }
+
+    /**
+     * Test that an empty list is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAnEmptyList() {
+        ErrorList.of(Arrays.<String>asList());
+    }
+}
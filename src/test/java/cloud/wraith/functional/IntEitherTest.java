@@ -0,0 +1,91 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit test for IntEither class.
+ */
+public class IntEitherTest {
+    private static final String LEFT_VALUE = "I am left-handed";
+    private static final int X = 7;
+    private static final int Y = 6;
+
+    /**
+     * Test isLeft() and isRight().
+     */
+    @Test
+    public void shouldBeALeftOrARight() {
+        assertTrue("Should be a Left", IntEither.left(LEFT_VALUE).isLeft());
+        assertFalse("Should not be a Right", IntEither.left(LEFT_VALUE).isRight());
+        assertTrue("Should be a Right", IntEither.right(X).isRight());
+        assertFalse("Should not be a Left", IntEither.right(X).isLeft());
+    }
+
+    /**
+     * Test getOrElse() and getLeftOrElse().
+     */
+    @Test
+    public void shouldGetTheValueOrTheDefault() {
+        assertEquals("Should get the value", X, IntEither.right(X).getOrElse(Y));
+        assertEquals("Should get the default", Y, IntEither.left(LEFT_VALUE).getOrElse(Y));
+        assertEquals("Should get the supplied value", Y, IntEither.left(LEFT_VALUE).getOrElse(() -> Y));
+        assertEquals("Should get the left value", LEFT_VALUE, IntEither.<String>left(LEFT_VALUE).getLeftOrElse(""));
+        assertTrue("Should be empty", IntEither.left(LEFT_VALUE).get().isEmpty());
+    }
+
+    /**
+     * Test map() and mapToObj().
+     */
+    @Test
+    public void shouldMapTheUnboxedValue() {
+        final IntEither<String> left = IntEither.left(LEFT_VALUE);
+
+        assertEquals("Should map a Right", IntEither.right(X + Y), IntEither.right(X).map(x -> x + Y));
+        assertSame("Should not map a Left", left, left.map(x -> x + Y));
+        assertEquals("Should map a Right to an object", Either.right(Integer.toString(X)), IntEither.right(X).mapToObj(Integer::toString));
+        assertEquals("Should not map a Left to an object", Either.left(LEFT_VALUE), left.mapToObj(Integer::toString));
+    }
+
+    /**
+     * Test bind().
+     */
+    @Test
+    public void shouldBindTheUnboxedValue() {
+        final IntEither<String> left = IntEither.left(LEFT_VALUE);
+
+        assertEquals("Should bind a Right", IntEither.right(X * Y), IntEither.<String>right(X).bind(x -> IntEither.right(x * Y)));
+        assertEquals("Should bind a Right to a Left", left, IntEither.<String>right(X).bind(x -> left));
+        assertSame("Should not bind a Left", left, left.bind(x -> IntEither.right(x * Y)));
+    }
+
+    /**
+     * Test conversion to and from the boxed Either.
+     */
+    @Test
+    public void shouldConvertToAndFromEither() {
+        assertEquals("Should convert a Right", Either.right(X), IntEither.right(X).toEither());
+        assertEquals("Should convert a Left", Either.left(LEFT_VALUE), IntEither.left(LEFT_VALUE).toEither());
+        assertEquals("Should convert from a Right", IntEither.right(X), IntEither.fromEither(Either.right(X)));
+        assertEquals("Should convert from a Left", IntEither.left(LEFT_VALUE), IntEither.fromEither(Either.<String, Integer>left(LEFT_VALUE)));
+    }
+
+    /**
+     * Test equals(), hashCode() and toString().
+     */
+    @Test
+    public void shouldCompareByValue() {
+        assertEquals(IntEither.right(X), IntEither.right(X));
+        assertEquals(IntEither.right(X).hashCode(), IntEither.right(X).hashCode());
+        assertNotEquals(IntEither.right(X), IntEither.right(Y));
+        assertEquals(IntEither.left(LEFT_VALUE), IntEither.left(LEFT_VALUE));
+        assertNotEquals(IntEither.left(LEFT_VALUE), IntEither.right(X));
+        assertEquals(String.format("IntEither.right[%s]", X), IntEither.right(X).toString());
+        assertEquals(String.format("IntEither.left[%s]", LEFT_VALUE), IntEither.left(LEFT_VALUE).toString());
+    }
+}
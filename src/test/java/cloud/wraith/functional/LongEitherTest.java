@@ -0,0 +1,91 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit test for LongEither class.
+ */
+public class LongEitherTest {
+    private static final String LEFT_VALUE = "I am left-handed";
+    private static final long X = 7L;
+    private static final long Y = 6L;
+
+    /**
+     * Test isLeft() and isRight().
+     */
+    @Test
+    public void shouldBeALeftOrARight() {
+        assertTrue("Should be a Left", LongEither.left(LEFT_VALUE).isLeft());
+        assertFalse("Should not be a Right", LongEither.left(LEFT_VALUE).isRight());
+        assertTrue("Should be a Right", LongEither.right(X).isRight());
+        assertFalse("Should not be a Left", LongEither.right(X).isLeft());
+    }
+
+    /**
+     * Test getOrElse() and getLeftOrElse().
+     */
+    @Test
+    public void shouldGetTheValueOrTheDefault() {
+        assertEquals("Should get the value", X, LongEither.right(X).getOrElse(Y));
+        assertEquals("Should get the default", Y, LongEither.left(LEFT_VALUE).getOrElse(Y));
+        assertEquals("Should get the supplied value", Y, LongEither.left(LEFT_VALUE).getOrElse(() -> Y));
+        assertEquals("Should get the left value", LEFT_VALUE, LongEither.<String>left(LEFT_VALUE).getLeftOrElse(""));
+        assertTrue("Should be empty", LongEither.left(LEFT_VALUE).get().isEmpty());
+    }
+
+    /**
+     * Test map() and mapToObj().
+     */
+    @Test
+    public void shouldMapTheUnboxedValue() {
+        final LongEither<String> left = LongEither.left(LEFT_VALUE);
+
+        assertEquals("Should map a Right", LongEither.right(X + Y), LongEither.right(X).map(x -> x + Y));
+        assertSame("Should not map a Left", left, left.map(x -> x + Y));
+        assertEquals("Should map a Right to an object", Either.right(Long.toString(X)), LongEither.right(X).mapToObj(Long::toString));
+        assertEquals("Should not map a Left to an object", Either.left(LEFT_VALUE), left.mapToObj(Long::toString));
+    }
+
+    /**
+     * Test bind().
+     */
+    @Test
+    public void shouldBindTheUnboxedValue() {
+        final LongEither<String> left = LongEither.left(LEFT_VALUE);
+
+        assertEquals("Should bind a Right", LongEither.right(X * Y), LongEither.<String>right(X).bind(x -> LongEither.right(x * Y)));
+        assertEquals("Should bind a Right to a Left", left, LongEither.<String>right(X).bind(x -> left));
+        assertSame("Should not bind a Left", left, left.bind(x -> LongEither.right(x * Y)));
+    }
+
+    /**
+     * Test conversion to and from the boxed Either.
+     */
+    @Test
+    public void shouldConvertToAndFromEither() {
+        assertEquals("Should convert a Right", Either.right(X), LongEither.right(X).toEither());
+        assertEquals("Should convert a Left", Either.left(LEFT_VALUE), LongEither.left(LEFT_VALUE).toEither());
+        assertEquals("Should convert from a Right", LongEither.right(X), LongEither.fromEither(Either.right(X)));
+        assertEquals("Should convert from a Left", LongEither.left(LEFT_VALUE), LongEither.fromEither(Either.<String, Long>left(LEFT_VALUE)));
+    }
+
+    /**
+     * Test equals(), hashCode() and toString().
+     */
+    @Test
+    public void shouldCompareByValue() {
+        assertEquals(LongEither.right(X), LongEither.right(X));
+        assertEquals(LongEither.right(X).hashCode(), LongEither.right(X).hashCode());
+        assertNotEquals(LongEither.right(X), LongEither.right(Y));
+        assertEquals(LongEither.left(LEFT_VALUE), LongEither.left(LEFT_VALUE));
+        assertNotEquals(LongEither.left(LEFT_VALUE), LongEither.right(X));
+        assertEquals(String.format("LongEither.right[%s]", X), LongEither.right(X).toString());
+        assertEquals(String.format("LongEither.left[%s]", LEFT_VALUE), LongEither.left(LEFT_VALUE).toString());
+    }
+}
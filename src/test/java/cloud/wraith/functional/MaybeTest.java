@@ -0,0 +1,115 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for Maybe class.
+ */
+public class MaybeTest {
+    private static final String HELLO = "hello";
+    private static final String WORLD = "world";
+    private static final String GOODBYE = "goodbye";
+
+    /**
+     * Test isJust() and isNothing().
+     */
+    @Test
+    public void shouldBeJustOrNothing() {
+        assertTrue("Should be a Just", Maybe.just(HELLO).isJust());
+        assertFalse("Should not be Nothing", Maybe.just(HELLO).isNothing());
+        assertTrue("Should be Nothing", Maybe.nothing().isNothing());
+        assertTrue("Should be Nothing", Maybe.ofNullable(null).isNothing());
+    }
+
+    /**
+     * Test that every empty operation returns the one Nothing instance.
+     */
+    @Test
+    public void shouldShareTheNothingSingleton() {
+        final Maybe<String> nothing = Maybe.nothing();
+
+        assertSame(nothing, Maybe.<Integer>nothing());
+        assertSame(nothing, nothing.map(String::length));
+        assertSame(nothing, nothing.bind(value -> Maybe.just(value.length())));
+        assertSame(nothing, Maybe.<Function<String, Integer>>nothing().apply(Maybe.just(HELLO)));
+        assertSame(nothing, Maybe.<Function<String, Integer>>just(String::length).apply(nothing));
+        assertSame(nothing, Maybe.fromOptional(Optional.empty()));
+        assertSame(nothing, Maybe.fromEither(Either.left(GOODBYE)));
+    }
+
+    /**
+     * Test the accessors.
+     */
+    @Test
+    public void shouldGetTheValueOrTheDefault() {
+        assertEquals(HELLO, Maybe.just(HELLO).getOrElse(GOODBYE));
+        assertEquals(GOODBYE, Maybe.<String>nothing().getOrElse(GOODBYE));
+        assertEquals(GOODBYE, Maybe.<String>nothing().getOrElse(() -> GOODBYE));
+        assertEquals(HELLO, Maybe.just(HELLO).getOrNull());
+        assertNull(Maybe.nothing().getOrNull());
+        assertEquals(5, Maybe.just(HELLO).fold(() -> 0, String::length).intValue());
+        assertEquals(0, Maybe.<String>nothing().fold(() -> 0, String::length).intValue());
+    }
+
+    /**
+     * Test map(), apply() and bind() for a Just.
+     */
+    @Test
+    public void shouldMapApplyAndBindAJust() {
+        final Function<String, Function<String, String>> greet = s1 -> s2 -> String.format("%s, %s", s1, s2);
+
+        assertEquals(Maybe.just(5), Maybe.just(HELLO).map(String::length));
+        assertEquals(Maybe.just("hello, world"),
+            Maybe.<Function<String, Function<String, String>>>pure(greet).<Function<String, String>, String>ap(Maybe.just(HELLO)).ap(Maybe.just(WORLD)));
+        assertEquals(Maybe.just(5), Maybe.mbind(Maybe.just(HELLO), value -> Maybe.mreturn(value.length())));
+        assertEquals(Maybe.just(5), Maybe.fmap(String::length, Maybe.just(HELLO)));
+    }
+
+    /**
+     * Test the Functor laws.
+     */
+    @Test
+    public void shouldSatisfyFunctorLaws() {
+        final Function<Integer, Integer> g = x -> x + 3;
+        final Function<Integer, Integer> h = x -> 256 * x;
+
+        for (Maybe<Integer> maybe : Arrays.asList(Maybe.just(7), Maybe.<Integer>nothing())) {
+            assertEquals(maybe, maybe.map(x -> x));
+            assertEquals(maybe.map(g.compose(h)), maybe.map(h).map(g));
+        }
+    }
+
+    /**
+     * Test conversion to and from Optional and Either.
+     */
+    @Test
+    public void shouldConvert() {
+        assertEquals(Optional.of(HELLO), Maybe.just(HELLO).toOptional());
+        assertSame(Optional.empty(), Maybe.nothing().toOptional());
+        assertEquals(Maybe.just(HELLO), Maybe.fromOptional(Optional.of(HELLO)));
+        assertEquals(Either.right(HELLO), Maybe.just(HELLO).toEither(GOODBYE));
+        assertEquals(Either.left(GOODBYE), Maybe.nothing().toEither(GOODBYE));
+        assertEquals(Maybe.just(HELLO), Maybe.fromEither(Either.right(HELLO)));
+    }
+
+    /**
+     * Test toString() and equals().
+     */
+    @Test
+    public void shouldShowAndCompare() {
+        assertEquals("Maybe.just[hello]", Maybe.just(HELLO).toString());
+        assertEquals("Maybe.nothing", Maybe.nothing().toString());
+        assertEquals(Maybe.just(HELLO), Maybe.just(HELLO));
+        assertFalse(Maybe.just(HELLO).equals(Maybe.nothing()));
+    }
+}
@@ -0,0 +1,80 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.RoundingMode;
+
+import org.junit.Test;
+
+/**
+ * Unit test for PackedEither class.
+ */
+public class PackedEitherTest {
+    private static final int NEGATIVE = 42;
+
+    /**
+     * Test packing and unpacking at the edges of the range.
+     */
+    @Test
+    public void shouldPackTagAndPayload() {
+        for (final long value : new long[] {0L, 1L, -1L, PackedEither.MIN_RIGHT, PackedEither.MAX_RIGHT}) {
+            final long packed = PackedEither.right(value);
+            assertTrue(PackedEither.isRight(packed));
+            assertEquals(value, PackedEither.getRight(packed));
+        }
+        for (final int code : new int[] {0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            final long packed = PackedEither.left(code);
+            assertTrue(PackedEither.isLeft(packed));
+            assertEquals(code, PackedEither.getLeft(packed));
+        }
+    }
+
+    /**
+     * Test values that need 64 bits are rejected.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void shouldRejectValuesOutOfRange() {
+        PackedEither.right(PackedEither.MAX_RIGHT + 1);
+    }
+
+    /**
+     * Test map, bind and fold on the raw long.
+     */
+    @Test
+    public void shouldMapBindAndFold() {
+        final long left = PackedEither.left(NEGATIVE);
+
+        assertEquals(PackedEither.right(10L), PackedEither.map(PackedEither.right(5L), v -> v * 2));
+        assertEquals(left, PackedEither.map(left, v -> v * 2));
+        assertEquals(left, PackedEither.bind(PackedEither.right(-5L), v -> v < 0 ? PackedEither.left(NEGATIVE) : PackedEither.right(v)));
+        assertEquals(left, PackedEither.bind(left, PackedEither::right));
+        assertEquals(-42L, PackedEither.foldToLong(left, code -> -code, v -> v));
+        assertEquals("5", PackedEither.fold(PackedEither.right(5L), String::valueOf, String::valueOf));
+        assertEquals(7L, PackedEither.getOrElse(left, 7L));
+    }
+
+    /**
+     * Test accessing the wrong side.
+     */
+    @Test(expected = java.util.NoSuchElementException.class)
+    public void shouldRejectTheWrongSide() {
+        PackedEither.getRight(PackedEither.left(NEGATIVE));
+    }
+
+    /**
+     * Test conversions to and from Either.
+     */
+    @Test
+    public void shouldConvertToAndFromEither() {
+        assertEquals(Either.left(NEGATIVE), PackedEither.toEither(PackedEither.left(NEGATIVE)));
+        assertEquals(Either.right(-3L), PackedEither.toEither(PackedEither.right(-3L)));
+        assertEquals(PackedEither.right(9L), PackedEither.fromEither(Either.<Integer, Long>right(9L)));
+
+        final long packed = PackedEither.fromEnumEither(Either.<RoundingMode, Long>left(RoundingMode.FLOOR));
+        assertEquals(Either.left(RoundingMode.FLOOR), PackedEither.toEither(packed, RoundingMode.class));
+        assertFalse(PackedEither.isRight(packed));
+        assertEquals("PackedEither.left[3]", PackedEither.toString(packed));
+    }
+}
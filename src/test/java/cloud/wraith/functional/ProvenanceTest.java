@@ -0,0 +1,95 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for Provenance class.
+ */
+public class ProvenanceTest {
+    private enum Code {
+        INVALID
+    }
+
+    /**
+     * Test Lefts carry no origin when provenance is disabled.
+     */
+    @Test
+    public void shouldHaveNoOriginByDefault() {
+        if (!Provenance.isEnabled()) {
+            assertFalse(Either.left("boom").origin().isPresent());
+        }
+        assertFalse(Either.right(1).origin().isPresent());
+    }
+
+    /**
+     * Test a sampled Left keeps its origin as it propagates.
+     */
+    @Test
+    public void shouldKeepTheOriginThroughMapAndBind() {
+        final Provenance origin = new Provenance("parse", 42L);
+        final Either<String, Integer> left = Either.Left.<String, Integer>sampled("boom", origin);
+
+        final Either<String, ? extends Integer> propagated = left.map(n -> n + 1).bind(n -> Either.right(n * 2));
+
+        assertSame(origin, propagated.origin().get());
+        assertEquals("parse", propagated.origin().get().stage());
+        assertEquals(42L, propagated.origin().get().nanoTime());
+        assertEquals("Either.left[boom] from parse@42ns", propagated.toString());
+    }
+
+    /**
+     * Test a sampled Left is equal to, and serializes as, an untraced one.
+     */
+    @Test
+    public void shouldCompareAndSerializeAsAnUntracedLeft() throws Exception {
+        final Either<Code, Integer> traced = Either.Left.<Code, Integer>sampled(Code.INVALID, new Provenance(null, 0L));
+        final Either<Code, Integer> canonical = Either.left(Code.INVALID);
+        assertNotSame(canonical, traced);
+        assertEquals(canonical, traced);
+        assertEquals(canonical.hashCode(), traced.hashCode());
+        assertEquals("Either.left[INVALID] from <unnamed>@0ns", traced.toString());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(traced);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(canonical, in.readObject());
+        }
+    }
+
+    /**
+     * Test sampling records the time, and returns no origin for unsampled Lefts.
+     */
+    @Test
+    public void shouldSample() {
+        final long before = System.nanoTime();
+        final Provenance origin = Provenance.sample(1);
+        assertNotNull(origin);
+        assertNull(origin.stage());
+        assertTrue(origin.nanoTime() - before >= 0L && origin.nanoTime() - before < TimeUnit.SECONDS.toNanos(10));
+        assertFalse(Either.Left.sampled("boom", null).origin().isPresent());
+
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (Provenance.sample(100) != null) {
+                sampled++;
+            }
+        }
+        assertTrue("Sampled " + sampled, sampled > 20 && sampled < 300);
+    }
+}
@@ -0,0 +1,194 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Unit test for RetryPolicy class.
+ */
+public class RetryPolicyTest {
+    private static final RetryPolicy<String> TRANSIENT = RetryPolicy.<String>retryIf(l -> l.startsWith("transient"))
+        .maxAttempts(5)
+        .backoff(Duration.ofMillis(1), 2.0, Duration.ofMillis(4));
+
+    /**
+     * An operation that fails with the given Left a number of times before succeeding.
+     */
+    private static Supplier<Either<String, Integer>> failing(final AtomicInteger calls, final int failures, final String left) {
+        return () -> calls.incrementAndGet() <= failures ? Either.<String, Integer>left(left) : Either.<String, Integer>right(calls.get());
+    }
+
+    /**
+     * Test retrying until a Right.
+     */
+    @Test
+    public void shouldRetryUntilRight() {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(Either.right(3), TRANSIENT.retry(failing(calls, 2, "transient")));
+        assertEquals(3, calls.get());
+    }
+
+    /**
+     * Test a Left that is not retryable is returned at once.
+     */
+    @Test
+    public void shouldNotRetryPermanentLefts() {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(Either.left("permanent"), TRANSIENT.retry(failing(calls, 2, "permanent")));
+        assertEquals(1, calls.get());
+    }
+
+    /**
+     * Test the attempt and elapsed time limits.
+     */
+    @Test
+    public void shouldStopAtTheLimits() {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(Either.left("transient"), TRANSIENT.retry(failing(calls, 10, "transient")));
+        assertEquals(5, calls.get());
+
+        final AtomicLong clock = new AtomicLong();
+        final RetryPolicy<String> limited = TRANSIENT.maxAttempts(10).maxElapsed(Duration.ofSeconds(1))
+            .withTicker(() -> clock.getAndAdd(TimeUnit.MILLISECONDS.toNanos(200)), () -> 0.0);
+        calls.set(0);
+        assertEquals(Either.left("transient"), limited.retry(failing(calls, 10, "transient")));
+        assertEquals("Should not retry after 1s", 3, calls.get());
+    }
+
+    /**
+     * Test the pause between attempts is measured on the ticker.
+     */
+    @Test
+    public void shouldPauseOnTheTicker() {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicLong clock = new AtomicLong();
+        final RetryPolicy<String> slow = TRANSIENT.backoff(Duration.ofSeconds(10), 1.0, Duration.ofSeconds(10))
+            .withTicker(() -> clock.getAndAdd(TimeUnit.SECONDS.toNanos(10)), () -> 0.0);
+
+        final long start = System.nanoTime();
+        assertEquals(Either.right(3), slow.retry(failing(calls, 2, "transient")));
+        assertTrue("Should not sleep in real time", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    /**
+     * Test the backoff grows exponentially up to its cap, less the jitter.
+     */
+    @Test
+    public void shouldBackOffWithJitter() {
+        final RetryPolicy<String> policy = RetryPolicy.<String>retryIf(l -> true).backoff(Duration.ofMillis(100), 2.0, Duration.ofSeconds(1));
+        final List<Long> delays = new ArrayList<Long>();
+        final RetryPolicy<String> noJitter = policy.withTicker(System::nanoTime, () -> 1.0).jitter(0.0);
+        for (int retry = 1; retry <= 5; retry++) {
+            delays.add(TimeUnit.NANOSECONDS.toMillis(noJitter.delayNanos(retry)));
+        }
+        assertEquals(Arrays.asList(100L, 200L, 400L, 800L, 1000L), delays);
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), policy.withTicker(System::nanoTime, () -> 1.0).delayNanos(1));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.withTicker(System::nanoTime, () -> 0.0).delayNanos(1));
+    }
+
+    /**
+     * Test an interrupt stops the retries and is kept.
+     */
+    @Test
+    public void shouldStopWhenInterrupted() {
+        final AtomicInteger calls = new AtomicInteger();
+        Thread.currentThread().interrupt();
+        try {
+            assertEquals(Either.left("transient"), TRANSIENT.retry(failing(calls, 10, "transient")));
+            assertEquals(1, calls.get());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Test many asynchronous retries share a single scheduler thread.
+     */
+    @Test
+    public void shouldRetryAsynchronously() throws Exception {
+        final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+        try {
+            final List<EitherFuture<String, Integer>> futures = new ArrayList<EitherFuture<String, Integer>>();
+            final List<AtomicInteger> calls = new ArrayList<AtomicInteger>();
+            for (int i = 0; i < 100; i++) {
+                final AtomicInteger count = new AtomicInteger();
+                final Supplier<Either<String, Integer>> operation = failing(count, 3, "transient");
+                calls.add(count);
+                futures.add(TRANSIENT.retryAsync(() -> EitherFuture.completed(operation.get()), scheduler));
+            }
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(Either.right(4), futures.get(i).toCompletableFuture().get(5, TimeUnit.SECONDS));
+                assertEquals(4, calls.get(i).get());
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Test cancelling the result cancels the scheduled retry.
+     */
+    @Test
+    public void shouldCancelThePendingRetry() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final Supplier<Either<String, Integer>> operation = failing(calls, 10, "transient");
+            final EitherFuture<String, Integer> future = TRANSIENT.backoff(Duration.ofHours(1), 1.0, Duration.ofHours(1))
+                .retryAsync(() -> EitherFuture.completed(operation.get()), scheduler);
+            assertEquals(1, scheduler.getQueue().size());
+
+            assertTrue(future.toCompletableFuture().cancel(false));
+            assertTrue("Should cancel the retry", scheduler.getQueue().isEmpty());
+            assertEquals(1, calls.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Test an exception from the operation is not retried.
+     */
+    @Test
+    public void shouldNotRetryExceptions() throws Exception {
+        final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final EitherFuture<String, Integer> future = TRANSIENT.retryAsync(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    return EitherFuture.left("transient");
+                }
+                throw new IllegalStateException("boom");
+            }, scheduler);
+
+            try {
+                future.toCompletableFuture().get(5, TimeUnit.SECONDS);
+                fail("Should complete exceptionally");
+            } catch (final ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+            assertEquals(2, calls.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package cloud.wraith.functional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for Validation class.
+ */
+public class ValidationTest {
+    private static final String HELLO = "hello";
+    private static final String ERROR_1 = "first error";
+    private static final String ERROR_2 = "second error";
+    private static final String ERROR_3 = "third error";
+
+    /**
+     * Test isValid() and isInvalid().
+     */
+    @Test
+    public void shouldBeValidOrInvalid() {
+        assertTrue("Should be Valid", Validation.valid(HELLO).isValid());
+        assertFalse("Should not be Invalid", Validation.valid(HELLO).isInvalid());
+        assertTrue("Should be Invalid", Validation.invalid(ERROR_1).isInvalid());
+        assertFalse("Should not be Valid", Validation.invalid(ERROR_1).isValid());
+    }
+
+    /**
+     * Test map() for a Valid and an Invalid.
+     */
+    @Test
+    public void shouldMapOnlyAValid() {
+        final Validation<String, String> invalid = Validation.invalid(ERROR_1);
+
+        assertEquals("Should map a Valid", Validation.valid(5), Validation.<String, String>valid(HELLO).map(String::length));
+        assertSame("Should not map an Invalid", invalid, invalid.map(String::length));
+    }
+
+    /**
+     * Test that apply() accumulates the errors of an Invalid function and an Invalid value.
+     */
+    @Test
+    public void shouldAccumulateErrorsWhenApplying() {
+        final Function<String, Function<String, String>> concat = s1 -> s2 -> s1 + s2;
+
+        final Validation<String, String> actual = Validation.<String, Function<String, Function<String, String>>>pure(concat)
+            .<Function<String, String>, String>ap(Validation.invalid(ERROR_1))
+            .ap(Validation.invalid(ERROR_2));
+
+        assertEquals("Should hold both errors", Arrays.asList(ERROR_1, ERROR_2), actual.errorsOrNull().toList());
+    }
+
+    /**
+     * Test that map3() accumulates the errors of every Invalid argument in order.
+     */
+    @Test
+    public void shouldAccumulateErrorsWithMap3() {
+        final Validation<String, String> actual = Validation.map3(Validation.<String, String>invalid(ERROR_1),
+            Validation.valid(HELLO), Validation.<String, String>invalid(ERROR_2).ap(Validation.invalid(ERROR_3)),
+            (a, b, c) -> a + b + c);
+
+        assertEquals("Should hold every error", Arrays.asList(ERROR_1, ERROR_2, ERROR_3), actual.errorsOrNull().toList());
+    }
+
+    /**
+     * Test map2() of two Valids.
+     */
+    @Test
+    public void shouldMap2TwoValids() {
+        assertEquals(Validation.valid(HELLO + HELLO),
+            Validation.map2(Validation.<String, String>valid(HELLO), Validation.valid(HELLO), String::concat));
+    }
+
+    /**
+     * Test that accumulating many errors neither copies nor overflows the stack.
+     */
+    @Test
+    public void shouldAccumulateManyErrors() {
+        final int count = 100_000;
+        Validation<Integer, Integer> result = Validation.valid(0);
+        for (int i = 0; i < count; i++) {
+            result = Validation.map2(result, Validation.<Integer, Integer>invalid(i), (a, b) -> a + b);
+        }
+
+        final ErrorList<Integer> errors = result.errorsOrNull();
+        assertEquals("Should hold every error", count, errors.size());
+        assertEquals("Should start with the first error", 0, errors.head().intValue());
+
+        int expected = 0;
+        for (Integer error : errors) {
+            assertEquals("Should keep the errors in order", expected++, error.intValue());
+        }
+    }
+
+    /**
+     * Test conversion to and from Either.
+     */
+    @Test
+    public void shouldConvertToAndFromEither() {
+        assertEquals(Validation.valid(HELLO), Validation.fromEither(Either.right(HELLO)));
+        assertEquals(Validation.invalid(ERROR_1), Validation.fromEither(Either.left(ERROR_1)));
+        assertEquals(Either.right(HELLO), Validation.valid(HELLO).toEither());
+        assertEquals(Either.left(ErrorList.of(ERROR_1)), Validation.invalid(ERROR_1).toEither());
+    }
+
+    /**
+     * Test fold() and toString().
+     */
+    @Test
+    public void shouldFoldAndShow() {
+        assertEquals(5, Validation.<String, String>valid(HELLO).fold(ErrorList::size, String::length).intValue());
+        assertEquals(1, Validation.<String, String>invalid(ERROR_1).fold(ErrorList::size, String::length).intValue());
+        assertEquals(String.format("Validation.valid[%s]", HELLO), Validation.valid(HELLO).toString());
+        assertEquals(String.format("Validation.invalid[ErrorList[%s]]", ERROR_1), Validation.invalid(ERROR_1).toString());
+    }
+}